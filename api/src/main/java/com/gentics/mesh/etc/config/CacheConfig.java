@@ -11,14 +11,64 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV = "MESH_CACHE_GRAPHQL_DOCUMENT_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE_ENV = "MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE";
+
+	public static final String MESH_CACHE_NODE_RESPONSE_SIZE_ENV = "MESH_CACHE_NODE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_NODE_PATH_SIZE_ENV = "MESH_CACHE_NODE_PATH_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE = 1000;
+
+	private static final long DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE = 1000;
+
+	private static final long DEFAULT_NODE_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_NODE_PATH_CACHE_SIZE = 20_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL schemas which will be cached. A schema is cached per project, branch and set of schema versions. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of parsed and validated GraphQL query documents which will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV, description = "Override the GraphQL document cache size.")
+	private long graphQLDocumentCacheSize = DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of automatic persisted GraphQL queries which will be stored. A value of 0 will disable persisted queries. Default: "
+		+ DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE_ENV, description = "Override the GraphQL persisted query cache size.")
+	private long graphQLPersistedQueryCacheSize = DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of rendered node responses which will be cached. A response is cached per node, content version, branch, query parameters and role set of the requesting user. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NODE_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NODE_RESPONSE_SIZE_ENV, description = "Override the node response cache size.")
+	private long nodeResponseCacheSize = DEFAULT_NODE_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of node paths which will be cached for link resolving. A path is cached per node, branch, version and language fallback. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NODE_PATH_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NODE_PATH_SIZE_ENV, description = "Override the node path cache size.")
+	private long nodePathCacheSize = DEFAULT_NODE_PATH_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +82,51 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLDocumentCacheSize() {
+		return graphQLDocumentCacheSize;
+	}
+
+	public CacheConfig setGraphQLDocumentCacheSize(long graphQLDocumentCacheSize) {
+		this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+		return this;
+	}
+
+	public long getGraphQLPersistedQueryCacheSize() {
+		return graphQLPersistedQueryCacheSize;
+	}
+
+	public CacheConfig setGraphQLPersistedQueryCacheSize(long graphQLPersistedQueryCacheSize) {
+		this.graphQLPersistedQueryCacheSize = graphQLPersistedQueryCacheSize;
+		return this;
+	}
+
+	public long getNodeResponseCacheSize() {
+		return nodeResponseCacheSize;
+	}
+
+	public CacheConfig setNodeResponseCacheSize(long nodeResponseCacheSize) {
+		this.nodeResponseCacheSize = nodeResponseCacheSize;
+		return this;
+	}
+
+	public long getNodePathCacheSize() {
+		return nodePathCacheSize;
+	}
+
+	public CacheConfig setNodePathCacheSize(long nodePathCacheSize) {
+		this.nodePathCacheSize = nodePathCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -11,14 +11,34 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_MIGRATION_WORKERS_ENV = "MESH_CONTENT_MIGRATION_WORKERS";
+
+	public static final String MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV = "MESH_CONTENT_MIGRATION_BATCH_SIZE";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	public static final int DEFAULT_MIGRATION_WORKERS = 1;
+
+	public static final int DEFAULT_MIGRATION_BATCH_SIZE = 50;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which migrate the contents during schema and microschema migrations. Default: "
+		+ DEFAULT_MIGRATION_WORKERS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_WORKERS_ENV, description = "Override the amount of migration worker threads.")
+	private int migrationWorkers = DEFAULT_MIGRATION_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of contents which are migrated within a single transaction. The progress of the migration is stored after every batch. Default: "
+		+ DEFAULT_MIGRATION_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV, description = "Override the amount of contents which are migrated within a single transaction.")
+	private int migrationBatchSize = DEFAULT_MIGRATION_BATCH_SIZE;
+
 	public ContentConfig() {
 
 	}
@@ -32,7 +52,31 @@ public class ContentConfig implements Option {
 		return this;
 	}
 
+	public int getMigrationWorkers() {
+		return migrationWorkers;
+	}
+
+	public ContentConfig setMigrationWorkers(int migrationWorkers) {
+		this.migrationWorkers = migrationWorkers;
+		return this;
+	}
+
+	public int getMigrationBatchSize() {
+		return migrationBatchSize;
+	}
+
+	public ContentConfig setMigrationBatchSize(int migrationBatchSize) {
+		this.migrationBatchSize = migrationBatchSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (migrationWorkers < 1) {
+			throw new IllegalArgumentException("content.migrationWorkers must be positive.");
+		}
+		if (migrationBatchSize < 1) {
+			throw new IllegalArgumentException("content.migrationBatchSize must be positive.");
+		}
 	}
 }
@@ -0,0 +1,62 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * GraphQL options.
+ */
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_WORKER_POOL_SIZE_ENV = "MESH_GRAPHQL_WORKER_POOL_SIZE";
+	public static final String MESH_GRAPHQL_WORKER_QUEUE_SIZE_ENV = "MESH_GRAPHQL_WORKER_QUEUE_SIZE";
+
+	public static final int DEFAULT_WORKER_POOL_SIZE = 20;
+	public static final int DEFAULT_WORKER_QUEUE_SIZE = 200;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the amount of threads which execute GraphQL queries concurrently. Default: " + DEFAULT_WORKER_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_WORKER_POOL_SIZE_ENV, description = "Override the GraphQL worker pool size.")
+	private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL queries which may wait for a free worker. Additional queries will be rejected with a 503 status code. Default: "
+		+ DEFAULT_WORKER_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_WORKER_QUEUE_SIZE_ENV, description = "Override the GraphQL worker queue size.")
+	private int workerQueueSize = DEFAULT_WORKER_QUEUE_SIZE;
+
+	public GraphQLOptions() {
+	}
+
+	public int getWorkerPoolSize() {
+		return workerPoolSize;
+	}
+
+	public GraphQLOptions setWorkerPoolSize(int workerPoolSize) {
+		this.workerPoolSize = workerPoolSize;
+		return this;
+	}
+
+	public int getWorkerQueueSize() {
+		return workerQueueSize;
+	}
+
+	public GraphQLOptions setWorkerQueueSize(int workerQueueSize) {
+		this.workerQueueSize = workerQueueSize;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (getWorkerPoolSize() <= 0) {
+			throw new IllegalArgumentException("graphQL.workerPoolSize must be positive.");
+		}
+		if (getWorkerQueueSize() < 0) {
+			throw new IllegalArgumentException("graphQL.workerQueueSize must not be negative.");
+		}
+	}
+}
@@ -18,11 +18,13 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 10L * 1024 * 1024 * 1024;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +51,12 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache directory in bytes. The least recently used images are removed once the limit has been exceeded. A value of 0 or less disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache directory.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	public String getImageCacheDirectory() {
 		return imageCacheDirectory;
 	}
@@ -58,6 +66,15 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	public Integer getMaxHeight() {
 		return maxHeight;
 	}
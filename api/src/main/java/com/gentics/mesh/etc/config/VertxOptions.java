@@ -20,6 +20,10 @@ public class VertxOptions implements Option {
 
 	public static final String MESH_VERTX_EVENT_POOL_SIZE_ENV = "MESH_VERTX_EVENT_POOL_SIZE";
 
+	public static final int DEFAULT_EVENT_ENVELOPE_SIZE = 0;
+
+	public static final String MESH_VERTX_EVENT_ENVELOPE_SIZE_ENV = "MESH_VERTX_EVENT_ENVELOPE_SIZE";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure worker pool size. Default is: " + DEFAULT_WORKER_POOL_SIZE)
 	@EnvironmentVariable(name = MESH_VERTX_WORKER_POOL_SIZE_ENV, description = "Override the configured Vert.x worker pool size.")
@@ -30,6 +34,12 @@ public class VertxOptions implements Option {
 	@EnvironmentVariable(name = MESH_VERTX_EVENT_POOL_SIZE_ENV, description = "Override the configured Vert.x event pool size.")
 	private int eventPoolSize = DEFAULT_EVENT_POOL_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of events which are published within a single eventbus message. Events of bulk operations are sent in envelopes of this size instead of one message per event. Envelopes are only processed by the Mesh internal event handlers. Setting this to 0 disables envelopes. Default is: "
+		+ DEFAULT_EVENT_ENVELOPE_SIZE)
+	@EnvironmentVariable(name = MESH_VERTX_EVENT_ENVELOPE_SIZE_ENV, description = "Override the configured event envelope size.")
+	private int eventEnvelopeSize = DEFAULT_EVENT_ENVELOPE_SIZE;
+
 	public int getEventPoolSize() {
 		return eventPoolSize;
 	}
@@ -39,6 +49,15 @@ public class VertxOptions implements Option {
 		return this;
 	}
 
+	public int getEventEnvelopeSize() {
+		return eventEnvelopeSize;
+	}
+
+	public VertxOptions setEventEnvelopeSize(int eventEnvelopeSize) {
+		this.eventEnvelopeSize = eventEnvelopeSize;
+		return this;
+	}
+
 	public int getWorkerPoolSize() {
 		return workerPoolSize;
 	}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.etc.config.search;
 
+import java.io.File;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -24,8 +26,11 @@ public class ElasticSearchOptions implements Option {
 
 	public static final int DEFAULT_BULK_LIMIT = 100;
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
+	public static final int DEFAULT_BULK_CONCURRENCY = 1;
+	public static final long DEFAULT_BULK_LATENCY_LIMIT = 10_000L;
 
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
+	public static final String DEFAULT_EVENT_JOURNAL_DIRECTORY = "data" + File.separator + "searchjournal";
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
 	public static final int DEFAULT_IDLE_DEBOUNCE_TIME = 100;
 	public static final int DEFAULT_RETRY_INTERVAL = 5000;
@@ -53,7 +58,10 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_BULK_LATENCY_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LATENCY_LIMIT";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
+	public static final String MESH_ELASTICSEARCH_EVENT_JOURNAL_DIRECTORY_ENV = "MESH_ELASTICSEARCH_EVENT_JOURNAL_DIRECTORY";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_RETRY_INTERVAL_ENV = "MESH_ELASTICSEARCH_RETRY_INTERVAL";
@@ -130,12 +138,30 @@ public class ElasticSearchOptions implements Option {
 		+ DEFAULT_BULK_LENGTH_LIMIT)
 	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of bulk requests which are sent concurrently to Elasticsearch. The requests for the same document are always sent in order. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the bulk concurrency. Default: " + DEFAULT_BULK_CONCURRENCY)
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Response time in milliseconds of bulk requests above which the bulk limits are temporarily reduced. The limits are also reduced when Elasticsearch rejects requests. Set this to 0 to only adapt to rejections. Default: "
+		+ DEFAULT_BULK_LATENCY_LIMIT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_LATENCY_LIMIT_ENV, description = "Override the bulk latency limit. Default: " + DEFAULT_BULK_LATENCY_LIMIT)
+	private long bulkLatencyLimit = DEFAULT_BULK_LATENCY_LIMIT;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Upper limit for mesh events that are to be mapped to elastic search requests. Default: "
 		+ DEFAULT_EVENT_BUFFER_SIZE)
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV, description = "Override the configured event buffer size.")
 	private int eventBufferSize = DEFAULT_EVENT_BUFFER_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Directory of the journal to which the events are written once the event buffer is full. The events of the journal are processed once the buffer has been drained and are kept across restarts. Set this to null in order to drop all buffered events and to sync the indices instead. Default: "
+		+ DEFAULT_EVENT_JOURNAL_DIRECTORY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_JOURNAL_DIRECTORY_ENV, description = "Override the configured event journal directory.")
+	private String eventJournalDirectory = DEFAULT_EVENT_JOURNAL_DIRECTORY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The maximum amount of time in milliseconds between two bulkable requests before they are sent. Default: "
 		+ DEFAULT_BULK_DEBOUNCE_TIME)
@@ -327,6 +353,24 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
+	public long getBulkLatencyLimit() {
+		return bulkLatencyLimit;
+	}
+
+	public ElasticSearchOptions setBulkLatencyLimit(long bulkLatencyLimit) {
+		this.bulkLatencyLimit = bulkLatencyLimit;
+		return this;
+	}
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -345,6 +389,15 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public String getEventJournalDirectory() {
+		return eventJournalDirectory;
+	}
+
+	public ElasticSearchOptions setEventJournalDirectory(String eventJournalDirectory) {
+		this.eventJournalDirectory = eventJournalDirectory;
+		return this;
+	}
+
 	public int getBulkDebounceTime() {
 		return bulkDebounceTime;
 	}
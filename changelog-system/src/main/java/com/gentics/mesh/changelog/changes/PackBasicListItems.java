@@ -0,0 +1,78 @@
+package com.gentics.mesh.changelog.changes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * Moves the items of basic list vertices from the individual <code>item-N-[type]</code> properties into a single packed list property.
+ */
+public class PackBasicListItems extends AbstractChange {
+
+	private static final List<String> LIST_CLASSES = Arrays.asList("StringGraphFieldListImpl", "NumberGraphFieldListImpl", "DateGraphFieldListImpl",
+		"BooleanGraphFieldListImpl", "HtmlGraphFieldListImpl");
+
+	private static final String ITEM_PREFIX = "item-";
+
+	private static final String ITEMS_PROPERTY_KEY = "items";
+
+	@Override
+	public String getUuid() {
+		return "5D0C61A4B8E94C1D8C61A4B8E91C1D42";
+	}
+
+	@Override
+	public String getName() {
+		return "PackBasicListItems";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the items of string, number, date, boolean and html lists within a single list property.";
+	}
+
+	@Override
+	public void applyInTx() {
+		for (String listClass : LIST_CLASSES) {
+			log.info("Packing the items of {" + listClass + "} vertices");
+			iterateWithCommit(getGraph().getVertices("@class", listClass), this::packItems);
+		}
+	}
+
+	/**
+	 * Replace the item properties of the given list vertex with the packed list property. The items are ordered by the index which is encoded in the
+	 * property key.
+	 *
+	 * @param list
+	 */
+	private void packItems(Vertex list) {
+		Map<Integer, Object> items = new TreeMap<>();
+		for (String key : list.getPropertyKeys()) {
+			if (!key.startsWith(ITEM_PREFIX)) {
+				continue;
+			}
+			int end = key.lastIndexOf("-");
+			try {
+				int index = Integer.parseInt(key.substring(ITEM_PREFIX.length(), end));
+				items.put(index, list.getProperty(key));
+			} catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+				log.warn("Found unexpected list property {" + key + "} in list {" + list.getId() + "}");
+			}
+		}
+		if (items.isEmpty()) {
+			return;
+		}
+		for (String key : new ArrayList<>(list.getPropertyKeys())) {
+			if (key.startsWith(ITEM_PREFIX)) {
+				list.removeProperty(key);
+			}
+		}
+		list.setProperty(ITEMS_PROPERTY_KEY, new ArrayList<>(items.values()));
+	}
+
+}
@@ -14,6 +14,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.auth.AuthenticationResult;
+import com.gentics.mesh.cache.AuthUserCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -61,9 +62,13 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private final MeshOptions meshOptions;
 
+	private final AuthUserCache authUserCache;
+
 	@Inject
-	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
+	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot,
+		AuthUserCache authUserCache) {
 		this.meshOptions = meshOptions;
+		this.authUserCache = authUserCache;
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
 		this.boot = boot;
@@ -260,37 +265,54 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	 * @throws Exception
 	 */
 	private User loadUserByJWT(JsonObject jwt) throws Exception {
+		String userUuid = jwt.getString(USERID_FIELD_NAME);
+		// Cached users are returned without accessing the graph. The entries are invalidated by user, group and role events.
+		MeshAuthUser user = userUuid == null ? null : authUserCache.get(userUuid, this::loadUserByUuid);
+		if (user == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Could not load user with UUID {" + userUuid + "}.");
+			}
+			// TODO use NoStackTraceThrowable?
+			throw new Exception("Invalid credentials!");
+		}
+
+		// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
+		//	if (!user.isEnabled()) {
+		//		throw new Exception("User is disabled");
+		//	}
+
+		// Check whether the token might be an API key token
+		if (!jwt.containsKey("exp")) {
+			String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+			// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
+			if (apiKeyToken != null) {
+				String storedApiKey = user.getAPIKeyTokenCode();
+				// Verify that the API token is invalid.
+				if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
+					throw new Exception("API key token is invalid.");
+				}
+			}
+		}
+
+		return user;
+	}
+
+	/**
+	 * Load the user from the graph. The uuid, admin flag and API key token code are retained within the returned user so that it can be cached.
+	 *
+	 * @param userUuid
+	 * @return Loaded user or null if the user could not be found
+	 */
+	private MeshAuthUser loadUserByUuid(String userUuid) {
 		try (Tx tx = db.tx()) {
-			String userUuid = jwt.getString(USERID_FIELD_NAME);
 			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
 			if (user == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("Could not load user with UUID {" + userUuid + "}.");
-				}
-				// TODO use NoStackTraceThrowable?
-				throw new Exception("Invalid credentials!");
+				return null;
 			}
 			// Set the uuid to cache it in the element. We know it is valid.
 			user.setCachedUuid(userUuid);
-
-			// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
-			//	if (!user.isEnabled()) {
-			//		throw new Exception("User is disabled");
-			//	}
-
-			// Check whether the token might be an API key token
-			if (!jwt.containsKey("exp")) {
-				String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
-				// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
-				if (apiKeyToken != null) {
-					String storedApiKey = user.getAPIKeyTokenCode();
-					// Verify that the API token is invalid.
-					if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
-						throw new Exception("API key token is invalid.");
-					}
-				}
-			}
-
+			user.hasAdminRole();
+			user.getAPIKeyTokenCode();
 			return user;
 		}
 	}
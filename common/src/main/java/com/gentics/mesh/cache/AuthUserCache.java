@@ -0,0 +1,20 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+
+/**
+ * Cache for the users which are authenticated via JWT keyed by the uuid of the user.
+ * <p>
+ * The cached {@link MeshAuthUser} retains its uuid, admin flag and API key token code so that a token of a cached user can be validated without accessing the
+ * graph. Entries are invalidated by user, group and role events.
+ */
+public interface AuthUserCache extends MeshCache<String, MeshAuthUser> {
+
+	/**
+	 * Invalidate the cached user.
+	 *
+	 * @param userUuid
+	 */
+	void invalidate(String userUuid);
+
+}
@@ -0,0 +1,37 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.util.ETag;
+
+/**
+ * Immutable entry of the {@link NodeResponseCache} which contains the serialized node response and the ETag which was computed from it.
+ */
+public final class CachedNodeResponse {
+
+	private final String json;
+
+	private final String etag;
+
+	public CachedNodeResponse(String json) {
+		this.json = json;
+		this.etag = ETag.hash(json);
+	}
+
+	/**
+	 * Return the serialized node response.
+	 * 
+	 * @return
+	 */
+	public String getJson() {
+		return json;
+	}
+
+	/**
+	 * Return the ETag of the response.
+	 * 
+	 * @return
+	 */
+	public String getETag() {
+		return etag;
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.gentics.mesh.cache;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Compact and immutable representation of the permissions which have been granted on an element.
+ * <p>
+ * The roles are referenced by the dense index which was assigned to the role by the {@link PermissionCache}. For every role which has been granted any
+ * permission on the element a bitmask of the granted {@link GraphPermission} ordinals is stored. This way all permissions of a user can be determined with a
+ * single lookup by combining the masks of the roles which are contained in the role set of the user.
+ */
+public final class ElementPermissions {
+
+	/**
+	 * Permissions of an element on which no permissions have been granted.
+	 */
+	public static final ElementPermissions EMPTY = new ElementPermissions(new int[0], new int[0]);
+
+	/**
+	 * Sorted role indices.
+	 */
+	private final int[] roles;
+
+	/**
+	 * Permission masks of the roles.
+	 */
+	private final int[] masks;
+
+	private ElementPermissions(int[] roles, int[] masks) {
+		this.roles = roles;
+		this.masks = masks;
+	}
+
+	/**
+	 * Create the permissions from the given role permission masks.
+	 *
+	 * @param roleMasks
+	 *            Map of role indices to permission masks
+	 * @return
+	 */
+	public static ElementPermissions of(Map<Integer, Integer> roleMasks) {
+		if (roleMasks.isEmpty()) {
+			return EMPTY;
+		}
+		TreeMap<Integer, Integer> sorted = new TreeMap<>(roleMasks);
+		int[] roles = new int[sorted.size()];
+		int[] masks = new int[sorted.size()];
+		int i = 0;
+		for (Map.Entry<Integer, Integer> entry : sorted.entrySet()) {
+			roles[i] = entry.getKey();
+			masks[i] = entry.getValue();
+			i++;
+		}
+		return new ElementPermissions(roles, masks);
+	}
+
+	/**
+	 * Return the mask of the permissions which are granted to any of the given roles.
+	 *
+	 * @param userRoles
+	 *            Indices of the roles of the user
+	 * @return Bitmask of the granted {@link GraphPermission} ordinals
+	 */
+	public int getPermissionMask(BitSet userRoles) {
+		return getPermissionMask(userRoles, null);
+	}
+
+	/**
+	 * Return the mask of the permissions which are granted to any of the given roles which are not contained in the excluded roles.
+	 *
+	 * @param userRoles
+	 *            Indices of the roles of the user
+	 * @param excludedRoles
+	 *            Indices of the roles which must be ignored or null
+	 * @return Bitmask of the granted {@link GraphPermission} ordinals
+	 */
+	public int getPermissionMask(BitSet userRoles, BitSet excludedRoles) {
+		int mask = 0;
+		for (int i = 0; i < roles.length; i++) {
+			int role = roles[i];
+			if (userRoles.get(role) && (excludedRoles == null || !excludedRoles.get(role))) {
+				mask |= masks[i];
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Return the bit of the permission within a permission mask.
+	 *
+	 * @param permission
+	 * @return
+	 */
+	public static int bit(GraphPermission permission) {
+		return 1 << permission.ordinal();
+	}
+
+	/**
+	 * Check whether the permission is contained in the mask.
+	 *
+	 * @param mask
+	 * @param permission
+	 * @return
+	 */
+	public static boolean isSet(int mask, GraphPermission permission) {
+		return (mask & bit(permission)) != 0;
+	}
+
+	@Override
+	public String toString() {
+		return "roles: " + Arrays.toString(roles) + ", masks: " + Arrays.toString(masks);
+	}
+
+}
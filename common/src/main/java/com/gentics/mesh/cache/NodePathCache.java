@@ -0,0 +1,39 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Cache for the rendered paths of nodes which are used to resolve links. Paths are cached per node, branch, container type and language fallback and
+ * are shared between requests.
+ */
+public interface NodePathCache extends MeshCache<String, String> {
+
+	/**
+	 * Return the cached path of the node or resolve and cache it.
+	 * 
+	 * @param node
+	 *            Node for which the path should be returned
+	 * @param branchUuid
+	 *            Uuid of the branch
+	 * @param type
+	 *            Container type
+	 * @param languageTags
+	 *            Language fallback which was used to resolve the path
+	 * @param resolver
+	 *            Resolver for the path which is used if the path has not yet been cached
+	 * @return Path of the node or null if the path could not be resolved
+	 */
+	String getPath(Node node, String branchUuid, ContainerType type, String[] languageTags, Supplier<String> resolver);
+
+	/**
+	 * Evict all cached paths which contain the node. This needs to be called when a segment of the node is changed within a transaction, since the
+	 * corresponding event will only be handled after the commit.
+	 * 
+	 * @param nodeUuid
+	 */
+	void invalidateNode(String nodeUuid);
+
+}
@@ -0,0 +1,27 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.Node;
+
+/**
+ * Cache for serialized node responses. Responses are cached per node, selected content version, branch, query parameters and role set of the requesting
+ * user and can thus be shared between requests of different users.
+ */
+public interface NodeResponseCache extends MeshCache<String, CachedNodeResponse> {
+
+	/**
+	 * Return the cached response for the node or render and cache it. The caller must already have checked the read permission of the user on the node.
+	 * 
+	 * @param ac
+	 *            Action context of the request
+	 * @param node
+	 *            Requested node
+	 * @param renderer
+	 *            Renderer for the JSON response which is used if the response has not yet been cached
+	 * @return Cached response which also provides the ETag of the response
+	 */
+	CachedNodeResponse getResponse(InternalActionContext ac, Node node, Supplier<String> renderer);
+
+}
@@ -2,34 +2,74 @@ package com.gentics.mesh.cache;
 
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+/**
+ * Cache for the permissions of elements and the roles of users.
+ * <p>
+ * The cache stores the permissions which have been granted on an element keyed by the vertex id of the element and the roles of a user keyed by the vertex id
+ * of the user. The roles are represented by bitsets of dense role indices. The permissions of a user on an element are thus determined with two lookups and no
+ * further allocations.
+ */
+public interface PermissionCache extends MeshCache<Object, ElementPermissions> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
-	 * Check whether the element with the given id has the permission.
-	 * 
+	 * Invalidate the cached permissions of the element. This must be invoked whenever the permissions on the element change.
+	 *
+	 * @param elementId
+	 *            Vertex id of the element
+	 * @param notify
+	 *            Whether other instances should be informed to also invalidate their caches
+	 */
+	void invalidate(Object elementId, boolean notify);
+
+	/**
+	 * Invalidate the cached roles of the user. This must be invoked whenever the roles of the user change.
+	 *
 	 * @param userId
-	 *            User id
-	 * @param permission
+	 *            Vertex id of the user
+	 */
+	void invalidateUser(Object userId);
+
+	/**
+	 * Invalidate the role. Permissions which have been granted to the role are no longer taken into account. This must be invoked when the role gets deleted.
+	 *
+	 * @param roleUuid
+	 *            Uuid of the role
+	 */
+	void invalidateRole(String roleUuid);
+
+	/**
+	 * Return the permissions which the user has been granted on the element. The permissions and roles are loaded from the graph of the current transaction if
+	 * they are not cached.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
 	 * @param elementId
-	 * @return
+	 *            Vertex id of the element
+	 * @return Bitmask of the granted {@link GraphPermission} ordinals. The {@link GraphPermission#READ_PUBLISHED_PERM} is included whenever the
+	 *         {@link GraphPermission#READ_PERM} is granted.
+	 * @see ElementPermissions#isSet(int, GraphPermission)
 	 */
-	boolean hasPermission(Object userId, GraphPermission permission, Object elementId);
+	int getPermissionMask(Object userId, Object elementId);
 
 	/**
-	 * Store the granting permission in the perm store.
-	 * 
+	 * Check whether the user has the permission on the element.
+	 *
 	 * @param userId
-	 *            User id
+	 *            Vertex id of the user
 	 * @param permission
 	 * @param elementId
+	 *            Vertex id of the element
+	 * @return
 	 */
-	void store(Object userId, GraphPermission permission, Object elementId);
+	default boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
+		return ElementPermissions.isSet(getPermissionMask(userId, elementId), permission);
+	}
 
 }
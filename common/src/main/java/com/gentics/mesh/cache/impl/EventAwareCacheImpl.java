@@ -3,14 +3,18 @@ package com.gentics.mesh.cache.impl;
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
@@ -49,7 +53,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	private final Counter hitCounter;
 
 	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService, Predicate<Message<JsonObject>> filter,
-							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
+							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, BiConsumer<K, V> removalListener,
 							   MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
@@ -57,7 +61,14 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (removalListener != null) {
+			// Invoke the listener synchronously so that it has been notified once the removing operation returns
+			this.cache = cacheBuilder.executor(Runnable::run)
+				.<K, V>removalListener((key, value, cause) -> removalListener.accept(key, value))
+				.build();
+		} else {
+			this.cache = cacheBuilder.build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -182,6 +193,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
+		private BiConsumer<K, V> removalListener = null;
 		private MeshEvent[] events = null;
 		private Vertx vertx;
 		private Duration expireAfter;
@@ -193,7 +205,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, removalListener, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -232,6 +244,18 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Listener which will be invoked for every entry which was removed from the cache. This includes entries which were invalidated, replaced or
+		 * evicted.
+		 * 
+		 * @param removalListener
+		 * @return Fluent API
+		 */
+		public Builder<K, V> removalListener(BiConsumer<K, V> removalListener) {
+			this.removalListener = removalListener;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -307,11 +331,26 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		}
 	}
 
+	/**
+	 * Return an observable which emits the messages of the given events. Events which were published within an {@link EventEnvelope} are unpacked and
+	 * emitted as separate messages.
+	 *
+	 * @param eventBus
+	 * @param addresses
+	 * @return
+	 */
 	public static Observable<Message<JsonObject>> rxEventBus(EventBus eventBus, MeshEvent... addresses) {
-		return Observable.fromArray(addresses)
+		Observable<Message<JsonObject>> messages = Observable.fromArray(addresses)
 			.flatMap(meshEvent -> Observable.using(
 				() -> eventBus.<JsonObject>consumer(meshEvent.address),
 				consumer -> Observable.create(sub -> consumer.handler(sub::onNext)),
 				MessageConsumer::unregister));
+		Set<String> addressSet = Stream.of(addresses).map(MeshEvent::getAddress).collect(Collectors.toSet());
+		Observable<Message<JsonObject>> envelopes = Observable.using(
+			() -> eventBus.<EventEnvelope>consumer(EventEnvelope.ADDRESS),
+			consumer -> Observable.<Message<EventEnvelope>>create(sub -> consumer.handler(sub::onNext)),
+			MessageConsumer::unregister)
+			.concatMapIterable(message -> message.body().messages(addressSet));
+		return Observable.merge(messages, envelopes);
 	}
 }
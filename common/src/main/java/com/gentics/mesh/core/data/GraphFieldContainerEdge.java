@@ -29,6 +29,10 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 
 	String WEBROOT_URLFIELD_INDEX_NAME = ("e." + HAS_FIELD_CONTAINER + "_" + WEBROOT_URLFIELD_INDEX_POSTFIX_NAME).toLowerCase();
 
+	// Materialized webroot path
+
+	String WEBROOT_PATH_PROPERTY_KEY = "webrootPath";
+
 	String LANGUAGE_TAG_KEY = "languageTag";
 
 	String BRANCH_UUID_KEY = "branchUuid";
@@ -82,6 +86,7 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 	default void defaultClearDraftPaths() {
 		property(WEBROOT_PROPERTY_KEY, null);
 		property(WEBROOT_URLFIELD_PROPERTY_KEY, null);
+		property(WEBROOT_PATH_PROPERTY_KEY, null);
 	}
 
 	BasicFieldContainer getContainer();
@@ -131,4 +136,23 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 		return property(WEBROOT_URLFIELD_PROPERTY_KEY);
 	}
 
+	/**
+	 * Set the materialized webroot path of the container. The path does not contain the path prefix of the branch.
+	 * 
+	 * @param path
+	 */
+	default void setWebrootPath(String path) {
+		property(WEBROOT_PATH_PROPERTY_KEY, path);
+	}
+
+	/**
+	 * Return the materialized webroot path of the container. The path is only set if the node and all of its parent nodes provide a segment in the language
+	 * of the container.
+	 * 
+	 * @return Path without the path prefix of the branch or null
+	 */
+	default String getWebrootPath() {
+		return property(WEBROOT_PATH_PROPERTY_KEY);
+	}
+
 }
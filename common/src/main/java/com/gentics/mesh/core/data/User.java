@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 
@@ -339,6 +340,16 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check the permission for all elements with the given ids. In contrast to {@link #hasPermissionForId(Object, GraphPermission)} the roles of the user
+	 * will only be loaded once for all elements which could not be found in the permission cache.
+	 *
+	 * @param elementIds
+	 * @param permission
+	 * @return Ids of the elements for which the permission is granted
+	 */
+	Set<Object> getPermittedIds(Collection<?> elementIds, GraphPermission permission);
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
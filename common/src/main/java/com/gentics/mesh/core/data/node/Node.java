@@ -571,6 +571,18 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	String getPath(ActionContext ac, String branchUuid, ContainerType type, String... languageTag);
 
+	/**
+	 * Update the materialized webroot paths of the contents of the node. The paths of the subtree are only updated if a path of the node has changed.
+	 *
+	 * @param branchUuid
+	 *            branch Uuid
+	 * @param type
+	 *            edge type
+	 * @param languageTag
+	 *            language of the changed contents or null to update the paths of all languages
+	 */
+	void updateWebrootPaths(String branchUuid, ContainerType type, String languageTag);
+
 	/**
 	 * Return the path segment value of this node preferable in the given language.
 	 *
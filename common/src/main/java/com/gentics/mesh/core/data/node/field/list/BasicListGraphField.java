@@ -0,0 +1,25 @@
+package com.gentics.mesh.core.data.node.field.list;
+
+import java.util.List;
+
+import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
+import com.gentics.mesh.core.rest.node.field.Field;
+
+/**
+ * A basic list graph field is a list which stores the values of its items within the list vertex (e.g. string, number or date lists).
+ * 
+ * @param <T>
+ * @param <RM>
+ * @param <U>
+ */
+public interface BasicListGraphField<T extends ListableGraphField, RM extends Field, U> extends ListGraphField<T, RM, U> {
+
+	/**
+	 * Replace all items of the list with the given values. The values are stored at once instead of item by item.
+	 * 
+	 * @param values
+	 *            Values of the items. Null values are not allowed.
+	 */
+	void setValues(List<U> values);
+
+}
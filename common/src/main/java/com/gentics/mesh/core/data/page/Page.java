@@ -21,7 +21,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total amount of pages which the resources that provided this page could return.
 	 * 
-	 * @return
+	 * @return Page count or -1 if the count was skipped
 	 */
 	long getPageCount();
 
@@ -35,7 +35,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total item count which the resource that provided this page could return.
 	 * 
-	 * @return
+	 * @return Total count or -1 if the count was skipped
 	 */
 	long getTotalElements();
 
@@ -60,6 +60,16 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
+	}
+
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if there is no next page or if the page does not support cursors
+	 */
+	default String getNextCursor() {
+		return null;
 	}
 
 	/**
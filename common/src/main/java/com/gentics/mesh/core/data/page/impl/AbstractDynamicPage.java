@@ -7,9 +7,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.parameter.PagingParameters;
 
 public abstract class AbstractDynamicPage<T> implements Page<T> {
@@ -20,6 +24,13 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Long lowerBound;
 
+	/**
+	 * Uuid of the element after which the page starts or null if the page number should be used.
+	 */
+	protected String after;
+
+	protected boolean skipCount;
+
 	/**
 	 * The unfiltered raw search count which was returned by the search provider.
 	 */
@@ -44,7 +55,10 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		if (pagingInfo.getPerPage() != null && pagingInfo.getPerPage() < 0) {
 			throw new GenericRestException(BAD_REQUEST, "error_pagesize_parameter", String.valueOf(pagingInfo.getPerPage()));
 		}
-		this.pageNumber = pagingInfo.getPage();
+		this.after = pagingInfo.getAfter();
+		this.skipCount = pagingInfo.isSkipCount();
+		// The page number is ignored when the page starts after a cursor
+		this.pageNumber = after == null ? pagingInfo.getPage() : PagingParameters.DEFAULT_PAGE;
 		this.perPage = pagingInfo.getPerPage();
 
 		if (perPage == null) {
@@ -57,13 +71,94 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	}
 
+	/**
+	 * Return the amount of leading elements which need to be retained when sorting the elements. One additional element is needed to determine whether a
+	 * next page exists.
+	 * 
+	 * @param sorting
+	 *            Sorting which is applied to the elements
+	 * @return Limit or null if all elements are needed
+	 */
+	protected Long getSortLimit(ElementSorting<?> sorting) {
+		if (perPage == null) {
+			return null;
+		}
+		if (after != null) {
+			// The position of the cursor element is only known if the sorting omits the elements in front of it
+			return sorting.hasStart() ? perPage + 2 : null;
+		}
+		return lowerBound + perPage + 1;
+	}
+
 	@Override
 	public Long getPerPage() {
 		return perPage;
 	}
 
+	/**
+	 * Skip all elements of the stream up to and including the element which is referenced by the cursor. The stream is returned unchanged if no cursor has
+	 * been set. An error is raised once the end of the stream is reached without finding the element of the cursor.
+	 * 
+	 * @param stream
+	 * @param uuidFunction
+	 *            Function which returns the uuid of an element
+	 * @return
+	 */
+	protected <E> Stream<E> skipToCursor(Stream<E> stream, Function<E, String> uuidFunction) {
+		if (after == null) {
+			return stream;
+		}
+		AtomicBoolean cursorFound = new AtomicBoolean(false);
+		Stream<E> elementsAfterCursor = stream.filter(element -> {
+			if (cursorFound.get()) {
+				return true;
+			}
+			if (after.equals(uuidFunction.apply(element))) {
+				cursorFound.set(true);
+			}
+			return false;
+		});
+		// The appended stream contains no elements and only checks whether the cursor was found
+		Stream<E> cursorCheck = Stream.of(after).filter(cursor -> {
+			if (!cursorFound.get()) {
+				throw new GenericRestException(BAD_REQUEST, "error_invalid_paging_cursor", cursor);
+			}
+			return false;
+		}).map(cursor -> null);
+		return Stream.concat(elementsAfterCursor, cursorCheck);
+	}
+
+	/**
+	 * Return the uuid of the given page element which can be used as a cursor.
+	 * 
+	 * @param element
+	 * @return Uuid or null if the element can't be referenced by a cursor
+	 */
+	protected static String cursorOf(Object element) {
+		if (element instanceof MeshElement) {
+			return ((MeshElement) element).getUuid();
+		}
+		if (element instanceof NodeContent) {
+			return ((NodeContent) element).getNode().getUuid();
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether the total count should not be computed. The count is always skipped for pages which start after a cursor since the elements in front of
+	 * the cursor are not inspected.
+	 * 
+	 * @return
+	 */
+	public boolean isCountSkipped() {
+		return skipCount || after != null;
+	}
+
 	@Override
 	public long getPageCount() {
+		if (isCountSkipped()) {
+			return -1;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +178,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (isCountSkipped()) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -108,4 +206,12 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public String getNextCursor() {
+		if (!hasNextPage() || elementsOfPage.isEmpty()) {
+			return null;
+		}
+		return cursorOf(elementsOfPage.get(elementsOfPage.size() - 1));
+	}
+
 }
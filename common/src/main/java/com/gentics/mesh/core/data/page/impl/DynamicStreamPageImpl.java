@@ -10,7 +10,22 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo) {
 		super(pagingInfo);
-		init(stream);
+		init(stream, null);
+	}
+
+	/**
+	 * Creates a new page which sorts the elements of the stream.
+	 *
+	 * @param stream
+	 *            a stream of elements to be paged
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param sorting
+	 *            the sorting to be applied or null if the elements should be paged in the order of the stream
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, ElementSorting<T> sorting) {
+		super(pagingInfo);
+		init(stream, sorting);
 	}
 
 	/**
@@ -25,10 +40,10 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 	 */
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(pagingInfo);
-		init(stream.filter(filter));
+		init(stream.filter(filter), null);
 	}
 
-	private void init(Stream<? extends T> stream) {
+	private void init(Stream<? extends T> stream, ElementSorting<T> sorting) {
 		AtomicLong pageCounter = new AtomicLong();
 		stream = stream
 			.map(item -> {
@@ -36,6 +51,13 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 				return item;
 			});
 
+		if (sorting != null) {
+			stream = sorting.sort(stream, getSortLimit(sorting));
+		}
+
+		// Continue after the element of the cursor
+		stream = skipToCursor(stream, AbstractDynamicPage::cursorOf);
+
 		// Apply paging - skip to lower bounds
 		if (lowerBound != null) {
 			stream = stream.skip(lowerBound);
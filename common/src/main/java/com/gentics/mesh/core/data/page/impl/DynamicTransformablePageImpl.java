@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.page.impl;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.page.TransformablePage;
@@ -25,7 +26,8 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
  * requires. Loading the first page will thus only iterate over the elements of the first page. Loading the total count on the other hand requires the
- * implementation to iterate over all edges.
+ * implementation to iterate over all edges. Pages which are sorted by the sort parameters also need to iterate over all edges but will only retain the
+ * elements which are needed for the selected page.
  *
  * @param <T>
  */
@@ -38,8 +40,11 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	private boolean frameExplicitly;
 
+	private PagingParameters pagingInfo;
+
 	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<T> extraFilter, boolean frameExplicitly) {
 		super(pagingInfo);
+		this.pagingInfo = pagingInfo;
 		this.extraFilter = extraFilter;
 		this.requestUser = requestUser;
 		this.frameExplicitly = frameExplicitly;
@@ -148,6 +153,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	private void applyPagingAndPermChecks(Stream<Vertex> stream, Class<? extends T> clazz, GraphPermission perm) {
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
+		ElementSorting<T> sorting = ElementSorting.forElements(clazz, pagingInfo);
+
+		// Unsorted pages can continue after the cursor element without checking the permissions of the preceding elements
+		if (sorting == null) {
+			stream = skipToCursor(stream, item -> item.getProperty(MeshVertex.UUID_KEY));
+		}
 
 		// Only handle elements which are visible to the user
 		if (perm != null) {
@@ -176,6 +187,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		framedStream = framedStream
 			.peek(item -> totalCounter.incrementAndGet());
 
+		// Sorted pages need to inspect all elements before the first element of the page can be determined
+		if (sorting != null) {
+			framedStream = sorting.sort(framedStream, getSortLimit(sorting));
+			framedStream = skipToCursor(framedStream, TransformableElement::getUuid);
+		}
+
 		if (lowerBound != null) {
 			framedStream = framedStream.skip(lowerBound);
 		}
@@ -13,6 +13,10 @@ public class DynamicTransformableStreamPageImpl<T extends TransformableElement<?
 		super(stream, pagingInfo);
 	}
 
+	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, ElementSorting<T> sorting) {
+		super(stream, pagingInfo, sorting);
+	}
+
 	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(stream, pagingInfo, filter);
 	}
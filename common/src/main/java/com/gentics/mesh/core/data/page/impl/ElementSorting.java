@@ -0,0 +1,230 @@
+package com.gentics.mesh.core.data.page.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.CreatorTrackingVertex;
+import com.gentics.mesh.core.data.EditorTrackingVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.SortField;
+import com.gentics.mesh.parameter.PagingParameters;
+
+/**
+ * Sorting of elements which can't be loaded via an ordered index. The sort key of each element is only computed once and only the elements which are needed
+ * for the requested page are retained while sorting.
+ *
+ * @param <T>
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ElementSorting<T> {
+
+	private final Function<T, Comparable> keyFunction;
+
+	private final Comparator<SortEntry<T>> comparator;
+
+	/**
+	 * Entry of the cursor element or null if the sorting should start with the first element.
+	 */
+	private final SortEntry<T> start;
+
+	private ElementSorting(Function<T, Comparable> keyFunction, boolean ascending) {
+		this(keyFunction, createComparator(ascending), null);
+	}
+
+	private ElementSorting(Function<T, Comparable> keyFunction, Comparator<SortEntry<T>> comparator, SortEntry<T> start) {
+		this.keyFunction = keyFunction;
+		this.comparator = comparator;
+		this.start = start;
+	}
+
+	/**
+	 * Create the comparator for the sort entries. Entries with the same key are ordered by the uuid of the element, so that the position of a cursor
+	 * element is well defined.
+	 */
+	private static <T> Comparator<SortEntry<T>> createComparator(boolean ascending) {
+		Comparator<Comparable> order = ascending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+		Comparator<Comparable> keyComparator = Comparator.nullsLast(order);
+		Comparator<SortEntry<T>> byKey = Comparator.comparing(entry -> entry.key, keyComparator);
+		return byKey.thenComparing(entry -> entry.uuid, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+	}
+
+	/**
+	 * Create the sorting for elements of the given class. Generic elements can only be sorted by their creation and edit date.
+	 *
+	 * @param clazz
+	 *            Class of the elements
+	 * @param pagingInfo
+	 *            Paging parameters which contain the sort parameters
+	 * @return Sorting or null if no sorting was requested
+	 */
+	public static <T> ElementSorting<T> forElements(Class<?> clazz, PagingParameters pagingInfo) {
+		SortField field = pagingInfo.getSortField();
+		if (field == null) {
+			return null;
+		}
+		if (field == SortField.CREATED && CreatorTrackingVertex.class.isAssignableFrom(clazz)) {
+			return new ElementSorting<>(element -> ((CreatorTrackingVertex) element).getCreationTimestamp(), pagingInfo.isAscending());
+		}
+		if (field == SortField.EDITED && EditorTrackingVertex.class.isAssignableFrom(clazz)) {
+			return new ElementSorting<>(element -> ((EditorTrackingVertex) element).getLastEditedTimestamp(), pagingInfo.isAscending());
+		}
+		throw error(BAD_REQUEST, "error_sort_field_not_supported", field.getSimpleName());
+	}
+
+	/**
+	 * Create the sorting for node elements.
+	 *
+	 * @param pagingInfo
+	 *            Paging parameters which contain the sort parameters
+	 * @param nodeFunction
+	 *            Function which returns the node of an element
+	 * @param containerFunction
+	 *            Function which returns the content of an element which should be used for content specific properties
+	 * @return Sorting or null if no sorting was requested
+	 */
+	public static <T> ElementSorting<T> forNodes(PagingParameters pagingInfo, Function<T, Node> nodeFunction,
+		Function<T, NodeGraphFieldContainer> containerFunction) {
+		SortField field = pagingInfo.getSortField();
+		if (field == null) {
+			return null;
+		}
+		boolean ascending = pagingInfo.isAscending();
+		switch (field) {
+		case CREATED:
+			return new ElementSorting<>(element -> nodeFunction.apply(element).getCreationTimestamp(), ascending);
+		case EDITED:
+			return new ElementSorting<>(element -> {
+				NodeGraphFieldContainer container = containerFunction.apply(element);
+				return container == null ? null : container.getLastEditedTimestamp();
+			}, ascending);
+		case DISPLAY_FIELD:
+			return new ElementSorting<>(element -> {
+				NodeGraphFieldContainer container = containerFunction.apply(element);
+				return container == null ? null : container.getDisplayFieldValue();
+			}, ascending);
+		case SCHEMA:
+			return new ElementSorting<>(element -> nodeFunction.apply(element).getSchemaContainer().getName(), ascending);
+		default:
+			throw error(BAD_REQUEST, "error_sort_field_not_supported", field.getSimpleName());
+		}
+	}
+
+	/**
+	 * Create the sorting for node lists which are loaded via the ordered indices of the project. These indices only cover properties of the node itself. Node
+	 * lists which should be sorted by a content specific property (edit date or display field) must be sorted by the page instead.
+	 *
+	 * @param pagingInfo
+	 *            Paging parameters which contain the sort parameters
+	 * @param nodeFunction
+	 *            Function which returns the node of an element
+	 * @param containerFunction
+	 *            Function which returns the content of an element which should be used for content specific properties
+	 * @return Sorting or null if no content specific sort field was requested
+	 */
+	public static <T> ElementSorting<T> forNodeContents(PagingParameters pagingInfo, Function<T, Node> nodeFunction,
+		Function<T, NodeGraphFieldContainer> containerFunction) {
+		SortField field = pagingInfo.getSortField();
+		if (field != SortField.EDITED && field != SortField.DISPLAY_FIELD) {
+			return null;
+		}
+		return forNodes(pagingInfo, nodeFunction, containerFunction);
+	}
+
+	/**
+	 * Return a sorting which omits all elements which are sorted in front of the given cursor element. Pages which start after the cursor thus only need to
+	 * retain the cursor element and the elements of the page.
+	 *
+	 * @param cursorElement
+	 *            Element which is referenced by the cursor
+	 * @return
+	 */
+	public ElementSorting<T> startingAt(T cursorElement) {
+		return new ElementSorting<>(keyFunction, comparator, entry(cursorElement));
+	}
+
+	/**
+	 * Check whether the sorting omits the elements in front of a cursor element.
+	 *
+	 * @return
+	 */
+	public boolean hasStart() {
+		return start != null;
+	}
+
+	/**
+	 * Sort the given stream. The stream will be consumed once the first element of the returned stream is requested.
+	 *
+	 * @param stream
+	 *            Stream to be sorted
+	 * @param limit
+	 *            Amount of leading elements which are needed. All other elements will be omitted. Use null to return all elements.
+	 * @return Sorted stream
+	 */
+	public Stream<T> sort(Stream<? extends T> stream, Long limit) {
+		return StreamSupport.stream(() -> sortedList(stream, limit).spliterator(), Spliterator.ORDERED, false);
+	}
+
+	/**
+	 * Sort the given list.
+	 *
+	 * @param elements
+	 * @return Sorted list
+	 */
+	public List<T> sort(List<? extends T> elements) {
+		return sortedList(elements.stream(), null);
+	}
+
+	private List<T> sortedList(Stream<? extends T> stream, Long limit) {
+		Stream<SortEntry<T>> entries = stream.map(this::entry);
+		if (start != null) {
+			entries = entries.filter(entry -> comparator.compare(entry, start) >= 0);
+		}
+		List<SortEntry<T>> sorted;
+		if (limit == null) {
+			sorted = entries.sorted(comparator).collect(Collectors.toList());
+		} else {
+			// Only keep the leading entries in a heap in which the head is the entry which would be sorted last
+			PriorityQueue<SortEntry<T>> heap = new PriorityQueue<>(comparator.reversed());
+			entries.forEach(entry -> {
+				heap.add(entry);
+				if (heap.size() > limit) {
+					heap.poll();
+				}
+			});
+			sorted = new ArrayList<>(heap);
+			sorted.sort(comparator);
+		}
+		return sorted.stream().map(entry -> entry.element).collect(Collectors.toList());
+	}
+
+	private SortEntry<T> entry(T element) {
+		return new SortEntry<>(keyFunction.apply(element), AbstractDynamicPage.cursorOf(element), element);
+	}
+
+	private static class SortEntry<T> {
+
+		private final Comparable key;
+
+		private final String uuid;
+
+		private final T element;
+
+		SortEntry(Comparable key, String uuid, T element) {
+			this.key = key;
+			this.uuid = uuid;
+			this.element = element;
+		}
+	}
+
+}
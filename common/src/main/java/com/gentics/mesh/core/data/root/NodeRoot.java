@@ -1,9 +1,15 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.parameter.PagingParameters;
 
 /**
  * Aggregation node for nodes.
@@ -12,6 +18,24 @@ public interface NodeRoot extends RootVertex<Node> {
 
 	public static final String TYPE = "nodes";
 
+	/**
+	 * Return a stream of the visible nodes of the project in the order which was selected via the sort parameters. Content specific sort fields (edit date
+	 * and display field) are not applied since no ordered index exists for them. Such nodes must be sorted via
+	 * {@link com.gentics.mesh.core.data.page.impl.ElementSorting#forNodeContents(PagingParameters, java.util.function.Function, java.util.function.Function)}
+	 * once all other filters have been applied. A cursor must reference a node which has a content in the given languages.
+	 * 
+	 * @param ac
+	 *            The context of the request
+	 * @param perm
+	 *            Needed permission
+	 * @param sorting
+	 *            Paging parameters which contain the sort parameters
+	 * @param languageTags
+	 *            Languages of the contents
+	 * @return
+	 */
+	Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm, PagingParameters sorting, List<String> languageTags);
+
 	/**
 	 * Create a new node.
 	 * 
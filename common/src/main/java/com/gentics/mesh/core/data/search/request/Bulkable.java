@@ -19,4 +19,12 @@ public interface Bulkable extends SearchRequest {
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the key of the document which is modified by the request. Requests with the same key must be sent to Elasticsearch in order.
+	 * @return Key of the document or null if the request does not modify a single document
+	 */
+	default String documentKey() {
+		return null;
+	}
 }
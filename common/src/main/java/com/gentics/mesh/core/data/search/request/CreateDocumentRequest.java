@@ -83,6 +83,11 @@ public class CreateDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	public JsonObject getDoc() {
 		return doc.getProxyTarget();
 	}
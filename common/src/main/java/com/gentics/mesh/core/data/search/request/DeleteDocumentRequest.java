@@ -78,6 +78,11 @@ public class DeleteDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	@Override
 	public long bulkLength() {
 		// + 1 for newline
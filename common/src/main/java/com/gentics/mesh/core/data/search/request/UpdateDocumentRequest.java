@@ -70,6 +70,11 @@ public class UpdateDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	public JsonObject getDoc() {
 		return doc.getProxyTarget();
 	}
@@ -10,6 +10,7 @@ import javax.imageio.ImageIO;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
@@ -28,9 +29,18 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
-	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+	protected final ImageCacheIndex cacheIndex;
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MeterRegistry registry) {
 		this.vertx = vertx;
 		this.options = options;
+		this.cacheIndex = new ImageCacheIndex(options, registry);
+		// Files which are not yet indexed are still found on disk until the index has been loaded
+		vertx.<Void>rxExecuteBlocking(bh -> {
+			cacheIndex.load();
+			bh.complete();
+		}, false).subscribe(ignore -> {
+		}, err -> log.error("Error while loading the image cache index", err));
 	}
 
 	@Override
@@ -46,6 +56,34 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
 		String baseName = "image-" + parameters.getCacheKey();
+		String basePath = Paths.get(baseFolder, baseName).toString();
+
+		// Variants which are known to the index only need to be checked for existence, since the cache directory may have been cleared externally
+		String cachedPath = cacheIndex.get(basePath);
+		if (cachedPath != null) {
+			return fs.rxExists(cachedPath).flatMap(exists -> {
+				if (exists) {
+					return Single.just(new CacheFileInfo(cachedPath, true));
+				}
+				cacheIndex.remove(basePath);
+				return findCacheFile(sha512sum, parameters, baseFolder, basePath);
+			});
+		}
+		return findCacheFile(sha512sum, parameters, baseFolder, basePath);
+	}
+
+	/**
+	 * Search the cache directory for the cache file of the variant.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @param baseFolder
+	 * @param basePath
+	 * @return
+	 */
+	private Single<CacheFileInfo> findCacheFile(String sha512sum, ImageManipulationParameters parameters, String baseFolder, String basePath) {
+		FileSystem fs = vertx.fileSystem();
+		String baseName = "image-" + parameters.getCacheKey();
 
 		return fs.rxMkdirs(baseFolder)
 		// Vert.x uses Files.createDirectories internally, which will not fail when the folder already exists.
@@ -54,11 +92,10 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		.map(foundFiles -> {
 			int numFiles = foundFiles.size();
 			if (numFiles == 0) {
-				String retPath = Paths.get(baseFolder, baseName).toString();
 				if (log.isDebugEnabled()) {
-					log.debug("No cache file found for base path {" + retPath + "}");
+					log.debug("No cache file found for base path {" + basePath + "}");
 				}
-				return new CacheFileInfo(retPath, false);
+				return new CacheFileInfo(basePath, false);
 			}
 
 			if (numFiles > 1) {
@@ -0,0 +1,246 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_EVICTION;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_MISS;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_SIZE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * In-memory index of the image variants which are stored in the image cache directory. Cache hits can be answered without searching the cache directory.
+ * The index also tracks the size of the cache directory and removes the least recently used variants once the configured
+ * {@link ImageManipulatorOptions#getImageCacheMaxSize()} has been exceeded.
+ * <p>
+ * Variants are identified by their base path (cache file path without the file extension). The index is populated by {@link #load()} and by the image
+ * manipulator whenever a variant has been written.
+ */
+public class ImageCacheIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageCacheIndex.class);
+
+	private final String cacheDirectory;
+
+	private final long maxSize;
+
+	/**
+	 * Variants in access order. The first entry is the least recently used one.
+	 */
+	private LinkedHashMap<String, Variant> variants = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalSize;
+
+	private final Counter hits;
+
+	private final Counter misses;
+
+	private final Counter evictions;
+
+	private final AtomicLong sizeGauge;
+
+	public ImageCacheIndex(ImageManipulatorOptions options, MeterRegistry registry) {
+		this.cacheDirectory = options.getImageCacheDirectory();
+		this.maxSize = options.getImageCacheMaxSize();
+		if (registry != null) {
+			this.hits = registry.counter(IMAGE_CACHE_HIT.key());
+			this.misses = registry.counter(IMAGE_CACHE_MISS.key());
+			this.evictions = registry.counter(IMAGE_CACHE_EVICTION.key());
+			this.sizeGauge = registry.gauge(IMAGE_CACHE_SIZE.key(), new AtomicLong());
+		} else {
+			this.hits = null;
+			this.misses = null;
+			this.evictions = null;
+			this.sizeGauge = null;
+		}
+	}
+
+	/**
+	 * Return the path of the cached variant with the given base path.
+	 *
+	 * @param basePath
+	 * @return Path of the cache file or null if the variant is not known to the index
+	 */
+	public String get(String basePath) {
+		Variant variant;
+		synchronized (this) {
+			variant = variants.get(basePath);
+		}
+		if (hits != null) {
+			if (variant == null) {
+				misses.increment();
+			} else {
+				hits.increment();
+			}
+		}
+		return variant == null ? null : variant.path;
+	}
+
+	/**
+	 * Add the cache file of a variant to the index. This will remove the least recently used variants from the cache directory if the size limit has been
+	 * exceeded. This method accesses the filesystem and must thus not be invoked from an event loop thread.
+	 *
+	 * @param basePath
+	 *            Base path of the variant
+	 * @param path
+	 *            Path of the cache file
+	 */
+	public void put(String basePath, String path) {
+		Variant variant = new Variant(path, new File(path).length());
+		List<Variant> evicted;
+		synchronized (this) {
+			Variant previous = variants.put(basePath, variant);
+			if (previous != null) {
+				totalSize -= previous.size;
+			}
+			totalSize += variant.size;
+			evicted = evict();
+		}
+		delete(evicted);
+	}
+
+	/**
+	 * Remove the variant from the index. This is used for cache files which were deleted externally.
+	 *
+	 * @param basePath
+	 */
+	public synchronized void remove(String basePath) {
+		Variant variant = variants.remove(basePath);
+		if (variant != null) {
+			totalSize -= variant.size;
+			if (sizeGauge != null) {
+				sizeGauge.set(totalSize);
+			}
+		}
+	}
+
+	/**
+	 * Scan the cache directory and add all found cache files to the index. Files are ordered by their modification date since the access order of previous
+	 * runs is unknown. Variants which were added to the index in the meantime are regarded as more recently used. This method must not be invoked from an
+	 * event loop thread.
+	 */
+	public void load() {
+		Path root = Paths.get(cacheDirectory);
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(root)) {
+			files = stream.filter(Files::isRegularFile)
+				.sorted(Comparator.comparingLong(file -> file.toFile().lastModified()))
+				.collect(Collectors.toList());
+		} catch (IOException | RuntimeException e) {
+			log.error("Could not scan the image cache directory {" + cacheDirectory + "}", e);
+			return;
+		}
+
+		LinkedHashMap<String, Variant> loaded = new LinkedHashMap<>(Math.max(16, files.size() * 2), 0.75f, true);
+		for (Path file : files) {
+			String path = file.toString();
+			loaded.put(basePath(path), new Variant(path, file.toFile().length()));
+		}
+
+		List<Variant> evicted;
+		synchronized (this) {
+			// Iterating an access ordered map does not change the order
+			for (Map.Entry<String, Variant> entry : variants.entrySet()) {
+				loaded.remove(entry.getKey());
+				loaded.put(entry.getKey(), entry.getValue());
+			}
+			variants = loaded;
+			totalSize = variants.values().stream().mapToLong(variant -> variant.size).sum();
+			evicted = evict();
+		}
+		log.info("Loaded {" + files.size() + "} cached images with a total size of {" + totalSize + "} bytes");
+		delete(evicted);
+	}
+
+	/**
+	 * Return the current size of all indexed cache files in bytes.
+	 *
+	 * @return
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+
+	/**
+	 * Remove the least recently used variants from the index until the size limit is no longer exceeded. The most recently used variant is never removed.
+	 *
+	 * @return Removed variants which need to be deleted
+	 */
+	private List<Variant> evict() {
+		List<Variant> evicted = new ArrayList<>();
+		if (maxSize > 0) {
+			Iterator<Variant> it = variants.values().iterator();
+			while (totalSize > maxSize && variants.size() > 1) {
+				Variant variant = it.next();
+				it.remove();
+				totalSize -= variant.size;
+				evicted.add(variant);
+			}
+		}
+		if (sizeGauge != null) {
+			sizeGauge.set(totalSize);
+		}
+		return evicted;
+	}
+
+	private void delete(List<Variant> evicted) {
+		for (Variant variant : evicted) {
+			if (log.isDebugEnabled()) {
+				log.debug("Removing cached image {" + variant.path + "}");
+			}
+			if (!new File(variant.path).delete()) {
+				log.warn("Could not delete cached image {" + variant.path + "}");
+			}
+			if (evictions != null) {
+				evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Return the base path of the given cache file. Cache files always end with a dot and the (possibly empty) file extension.
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static String basePath(String path) {
+		int dot = path.lastIndexOf('.');
+		int separator = path.lastIndexOf(File.separatorChar);
+		return dot > separator ? path.substring(0, dot) : path;
+	}
+
+	private static class Variant {
+
+		private final String path;
+
+		private final long size;
+
+		Variant(String path, long size) {
+			this.path = path;
+			this.size = size;
+		}
+	}
+
+}
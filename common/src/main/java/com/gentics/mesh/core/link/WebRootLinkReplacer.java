@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,6 +16,7 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.NodePathCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -29,7 +32,7 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
- * This class will resolve mesh link placeholders.
+ * This class will resolve mesh link placeholders. The rendered paths of the linked nodes are shared between requests via the {@link NodePathCache}.
  */
 @Singleton
 public class WebRootLinkReplacer {
@@ -43,10 +46,13 @@ public class WebRootLinkReplacer {
 
 	private final MeshOptions options;
 
+	private final NodePathCache pathCache;
+
 	@Inject
-	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options) {
+	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options, NodePathCache pathCache) {
 		this.boot = boot;
 		this.options = options;
+		this.pathCache = pathCache;
 	}
 
 	/**
@@ -73,66 +79,93 @@ public class WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
 		int length = content.length();
+		int pos = content.indexOf(START_TAG);
+		if (pos == -1) {
+			return content;
+		}
 
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
+		StringBuilder renderedContent = new StringBuilder(length);
+		// Contents often contain the same link multiple times. Each distinct link is only resolved once.
+		Map<List<String>, String> renderedLinks = new HashMap<>();
+		int lastPos = 0;
+		while (pos != -1) {
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
+			// Add the intermediate string segment
+			renderedContent.append(content, lastPos, pos);
 
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
-
-			// 2. Parse the link and invoke resolving
+			// Parse the link and invoke resolving
 			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 3) {
+			List<String> linkArguments = parseArguments(link);
+			if (linkArguments.size() == 3) {
 				// Branch in link argument always comes first
-				branch = linkArguments[2].trim();
-			}
-			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				branch = linkArguments.get(2).trim();
 			}
+			String linkBranch = branch;
+			String rendered = renderedLinks.computeIfAbsent(Arrays.asList(link, linkBranch), key -> {
+				if (linkArguments.size() >= 2) {
+					return resolve(ac, linkBranch, edgeType, linkArguments.get(0), type, projectName, linkArguments.get(1).trim());
+				} else if (languageTags != null) {
+					return resolve(ac, linkBranch, edgeType, linkArguments.get(0), type, projectName,
+						languageTags.toArray(new String[languageTags.size()]));
+				} else {
+					return resolve(ac, linkBranch, edgeType, linkArguments.get(0), type, projectName);
+				}
+			});
+			renderedContent.append(rendered);
 
 			lastPos = endPos + END_TAG.length();
+			pos = content.indexOf(START_TAG, lastPos);
 		}
-
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
+		// Add the last string segment
+		renderedContent.append(content, lastPos, length);
 
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Parse the comma separated arguments of the link in a single pass. Quotes are stripped away since we only care about the argument values. Double
+	 * quotes may be escaped. Trailing empty arguments are omitted.
+	 * 
+	 * @param link
+	 *            Link arguments without the link tags
+	 * @return List with at least one argument
+	 */
+	private List<String> parseArguments(String link) {
+		List<String> arguments = new ArrayList<>(3);
+		StringBuilder argument = new StringBuilder(link.length());
+		int length = link.length();
+		for (int i = 0; i < length; i++) {
+			char c = link.charAt(i);
+			switch (c) {
+			case '\\':
+				if (i + 1 < length && link.charAt(i + 1) == '"') {
+					i++;
+				} else {
+					argument.append(c);
+				}
+				break;
+			case '\'':
+			case '"':
+				break;
+			case ',':
+				arguments.add(argument.toString());
+				argument.setLength(0);
+				break;
+			default:
+				argument.append(c);
+			}
+		}
+		arguments.add(argument.toString());
+		while (arguments.size() > 1 && arguments.get(arguments.size() - 1).isEmpty()) {
+			arguments.remove(arguments.size() - 1);
+		}
+		return arguments;
+	}
+
 	/**
 	 * Resolve the link to the node with uuid (in the given language) into an observable
 	 * 
@@ -221,7 +254,10 @@ public class WebRootLinkReplacer {
 			log.debug("Resolving link to " + node.getUuid() + " in language " + Arrays.toString(languageTags) + " with type " + type.name());
 		}
 
-		String path = node.getPath(ac, branch.getUuid(), edgeType, languageTags);
+		ContainerType pathType = edgeType;
+		String[] pathLanguageTags = languageTags;
+		String path = pathCache.getPath(node, branch.getUuid(), edgeType, languageTags,
+			() -> node.getPath(ac, branch.getUuid(), pathType, pathLanguageTags));
 		if (path == null) {
 			path = "/error/404";
 		}
@@ -9,7 +9,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
-import java.util.concurrent.Semaphore;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -31,7 +31,6 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
-import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -53,22 +52,20 @@ public class HandlerUtilities {
 
 	private static final Logger log = LoggerFactory.getLogger(HandlerUtilities.class);
 
-	private Semaphore writeLock = new Semaphore(1);
-
 	private final Database database;
 	private final MetricsService metrics;
-	private final boolean syncWrites;
+	private final WriteLockManager writeLocks;
 
 	private final Provider<EventQueueBatch> queueProvider;
 
 	private final Provider<BulkActionContext> bulkProvider;
 
 	@Inject
-	public HandlerUtilities(Database database, MeshOptions meshOptions, MetricsService metrics, Provider<EventQueueBatch> queueProvider, Provider<BulkActionContext> bulkProvider) {
-		GraphStorageOptions storageOptions = meshOptions.getStorageOptions();
+	public HandlerUtilities(Database database, MeshOptions meshOptions, MetricsService metrics, WriteLockManager writeLocks,
+		Provider<EventQueueBatch> queueProvider, Provider<BulkActionContext> bulkProvider) {
 		this.database = database;
 		this.metrics = metrics;
-		this.syncWrites = storageOptions.isSynchronizeWrites();
+		this.writeLocks = writeLocks;
 		this.queueProvider = queueProvider;
 		this.bulkProvider = bulkProvider;
 	}
@@ -94,7 +91,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void deleteElement(InternalActionContext ac, TxAction1<RootVertex<T>> handler,
 		String uuid) {
-		lock();
+		WriteLock lock = lock(WriteScope.of(ac));
 		syncTx(ac, () -> {
 			try {
 				RootVertex<T> root = handler.handle();
@@ -108,7 +105,7 @@ public class HandlerUtilities {
 				});
 				log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
 			} finally {
-				unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 
@@ -140,7 +137,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler) {
-		lock();
+		WriteLock lock = lock(WriteScope.of(ac));
 		AtomicBoolean created = new AtomicBoolean(false);
 		syncTx(ac, tx -> {
 			try {
@@ -176,7 +173,7 @@ public class HandlerUtilities {
 					return model;
 				}
 			} finally {
-				unlock();
+				lock.unlock();
 			}
 		}, model -> ac.send(model, created.get() ? CREATED : OK));
 	}
@@ -195,7 +192,7 @@ public class HandlerUtilities {
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
 
-		syncTx(ac, tx -> {
+		syncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 
@@ -220,7 +217,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
 
-		rxSyncTx(ac, tx -> {
+		rxSyncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -257,6 +254,40 @@ public class HandlerUtilities {
 		}
 	}
 
+	/**
+	 * Invoke the handler in a read transaction and pass the result to the action. Changes which are made by the handler will be discarded.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 * @see Database#readTx(TxAction)
+	 */
+	public <RM> void syncReadTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		try {
+			RM model = database.readTx(handler);
+			action.accept(model);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
+	/**
+	 * Invoke the handler in a read transaction and pass the emitted result to the action.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 * @see Database#readTx(TxAction)
+	 */
+	public <RM extends RestModel> void rxSyncReadTx(InternalActionContext ac, TxAction<Single<RM>> handler, Consumer<RM> action) {
+		try {
+			Single<RM> model = database.readTx(handler);
+			model.subscribe(action::accept, ac::fail);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
 	/**
 	 * Invoke sync action in a tx.
 	 * 
@@ -345,25 +376,26 @@ public class HandlerUtilities {
 
 
 	/**
-	 * Locks writes. Use this to prevent concurrent write transactions.
+	 * Locks writes of the given scope. Use this to prevent concurrent write transactions which may affect the same elements.
+	 *
+	 * @param scope
+	 *            Scope of the write operation
+	 * @return Acquired lock which must be released via {@link WriteLock#unlock()}
 	 */
-	public void lock() {
-		if (syncWrites) {
-			try {
-				writeLock.acquire();
-			} catch (InterruptedException e) {
-				throw new RuntimeException(e);
-			}
-		}
+	public WriteLock lock(WriteScope scope) {
+		return writeLocks.lock(scope);
 	}
 
 	/**
-	 * Releases the lock that was acquired in {@link #lock()}.
+	 * Locks writes of all given scopes at once.
+	 *
+	 * @param scopes
+	 *            Scopes of the write operation
+	 * @return Acquired lock which must be released via {@link WriteLock#unlock()}
+	 * @see WriteLockManager#lock(Collection)
 	 */
-	public void unlock() {
-		if (syncWrites) {
-			writeLock.release();
-		}
+	public WriteLock lock(Collection<WriteScope> scopes) {
+		return writeLocks.lock(scopes);
 	}
 
 }
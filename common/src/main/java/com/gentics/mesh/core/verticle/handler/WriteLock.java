@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Write lock which has been acquired via the {@link WriteLockManager}. The lock is not bound to a thread and can thus be released by a different thread than
+ * the one which acquired it.
+ */
+public class WriteLock {
+
+	/**
+	 * Lock which does not hold any permits. It is used when writes are not synchronized.
+	 */
+	public static final WriteLock NONE = new WriteLock(new Semaphore[0], new int[0]);
+
+	private final Semaphore[] semaphores;
+
+	private final int[] permits;
+
+	WriteLock(Semaphore[] semaphores, int[] permits) {
+		this.semaphores = semaphores;
+		this.permits = permits;
+	}
+
+	/**
+	 * Release the lock.
+	 */
+	public void unlock() {
+		// Release in reverse order of acquisition
+		for (int i = semaphores.length - 1; i >= 0; i--) {
+			semaphores[i].release(permits[i]);
+		}
+	}
+
+}
@@ -0,0 +1,205 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_CONTENTION;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAIT_TIME;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.verticle.handler.WriteScope.Type;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Manager for the striped locks which are used to synchronize write operations when {@link com.gentics.mesh.etc.config.GraphStorageOptions#isSynchronizeWrites()}
+ * is enabled.
+ * <p>
+ * Every {@link WriteScope} is mapped to a fixed set of stripes. Global and project stripes are shared by all writes within their scope and acquired exclusively
+ * by writes to the scope itself. Node writes additionally acquire the exclusive stripe of their node. Stripes are always acquired in the order
+ * global, project, element so that no deadlocks can occur. Writes to independent projects thus only contend when their projects map to the same stripe.
+ */
+@Singleton
+public class WriteLockManager {
+
+	/**
+	 * Amount of project and element stripes.
+	 */
+	public static final int STRIPE_COUNT = 64;
+
+	/**
+	 * Permits of the shared stripes. An exclusive lock acquires all permits.
+	 */
+	private static final int MAX_PERMITS = 1 << 20;
+
+	private final boolean syncWrites;
+
+	private final Stripe global;
+
+	private final Stripe[] projectStripes = new Stripe[STRIPE_COUNT];
+
+	private final Stripe[] elementStripes = new Stripe[STRIPE_COUNT];
+
+	@Inject
+	public WriteLockManager(MeshOptions options, MetricsService metrics) {
+		this.syncWrites = options.getStorageOptions().isSynchronizeWrites();
+		MeterRegistry registry = metrics.isEnabled() ? metrics.getMetricRegistry() : null;
+		this.global = new Stripe("global", MAX_PERMITS, registry);
+		for (int i = 0; i < STRIPE_COUNT; i++) {
+			projectStripes[i] = new Stripe("project-" + i, MAX_PERMITS, registry);
+			elementStripes[i] = new Stripe("element-" + i, 1, registry);
+		}
+	}
+
+	/**
+	 * Acquire the locks of the scope. The returned lock must be released via {@link WriteLock#unlock()} once the write operation has finished.
+	 *
+	 * @param scope
+	 * @return Acquired lock
+	 */
+	public WriteLock lock(WriteScope scope) {
+		if (!syncWrites) {
+			return WriteLock.NONE;
+		}
+		switch (scope.getType()) {
+		case GLOBAL:
+			return acquire(new Stripe[] { global }, new int[] { MAX_PERMITS });
+		case PROJECT:
+			return acquire(new Stripe[] { global, projectStripe(scope) }, new int[] { 1, MAX_PERMITS });
+		case NODE:
+			return acquire(new Stripe[] { global, projectStripe(scope), elementStripe(scope) }, new int[] { 1, 1, 1 });
+		default:
+			throw new IllegalArgumentException("Unknown write scope {" + scope + "}");
+		}
+	}
+
+	/**
+	 * Acquire the locks of all given scopes at once. This is used by writes which affect multiple nodes, e.g. a batch of a migration. The project and element
+	 * stripes are acquired in the order of their index so that writes which lock multiple scopes can't deadlock each other.
+	 *
+	 * @param scopes
+	 * @return Acquired lock
+	 */
+	public WriteLock lock(Collection<WriteScope> scopes) {
+		if (!syncWrites || scopes.isEmpty()) {
+			return WriteLock.NONE;
+		}
+		if (scopes.stream().anyMatch(scope -> scope.getType() == Type.GLOBAL)) {
+			return lock(WriteScope.GLOBAL);
+		}
+		SortedMap<Integer, Integer> projects = new TreeMap<>();
+		SortedSet<Integer> elements = new TreeSet<>();
+		for (WriteScope scope : scopes) {
+			int permits = scope.getType() == Type.PROJECT ? MAX_PERMITS : 1;
+			projects.merge(index(scope.getProjectKey()), permits, Math::max);
+			if (scope.getType() == Type.NODE) {
+				elements.add(index(scope.getElementKey()));
+			}
+		}
+		Stripe[] stripes = new Stripe[1 + projects.size() + elements.size()];
+		int[] permits = new int[stripes.length];
+		stripes[0] = global;
+		permits[0] = 1;
+		int i = 1;
+		for (Map.Entry<Integer, Integer> project : projects.entrySet()) {
+			stripes[i] = projectStripes[project.getKey()];
+			permits[i++] = project.getValue();
+		}
+		for (int element : elements) {
+			stripes[i] = elementStripes[element];
+			permits[i++] = 1;
+		}
+		return acquire(stripes, permits);
+	}
+
+	private Stripe projectStripe(WriteScope scope) {
+		return projectStripes[index(scope.getProjectKey())];
+	}
+
+	private Stripe elementStripe(WriteScope scope) {
+		return elementStripes[index(scope.getElementKey())];
+	}
+
+	private static int index(Object key) {
+		int h = key.hashCode();
+		// Spread the bits since ids and uuids may only differ in the high bits
+		h ^= (h >>> 16);
+		return Math.floorMod(h, STRIPE_COUNT);
+	}
+
+	/**
+	 * Acquire the permits of the stripes in the given order.
+	 *
+	 * @param stripes
+	 * @param permits
+	 *            Amount of permits which should be acquired per stripe
+	 * @return
+	 */
+	private WriteLock acquire(Stripe[] stripes, int[] permits) {
+		Semaphore[] semaphores = new Semaphore[stripes.length];
+		int acquired = 0;
+		try {
+			for (; acquired < stripes.length; acquired++) {
+				stripes[acquired].acquire(permits[acquired]);
+				semaphores[acquired] = stripes[acquired].semaphore;
+			}
+		} catch (InterruptedException e) {
+			for (int i = acquired - 1; i >= 0; i--) {
+				semaphores[i].release(permits[i]);
+			}
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		return new WriteLock(semaphores, permits);
+	}
+
+	/**
+	 * Lock stripe which tracks the wait time and contention.
+	 */
+	private static class Stripe {
+
+		private final Semaphore semaphore;
+
+		private final Timer waitTime;
+
+		private final Counter contention;
+
+		Stripe(String name, int permits, MeterRegistry registry) {
+			// The semaphore is fair so that exclusive locks are not starved by shared locks
+			this.semaphore = new Semaphore(permits, true);
+			if (registry != null) {
+				this.waitTime = registry.timer(WRITE_LOCK_WAIT_TIME.key(), "stripe", name);
+				this.contention = registry.counter(WRITE_LOCK_CONTENTION.key(), "stripe", name);
+			} else {
+				this.waitTime = null;
+				this.contention = null;
+			}
+		}
+
+		void acquire(int permits) throws InterruptedException {
+			// A timed tryAcquire respects the fairness of the semaphore
+			if (semaphore.tryAcquire(permits, 0, TimeUnit.NANOSECONDS)) {
+				return;
+			}
+			long start = System.nanoTime();
+			semaphore.acquire(permits);
+			if (waitTime != null) {
+				contention.increment();
+				waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+}
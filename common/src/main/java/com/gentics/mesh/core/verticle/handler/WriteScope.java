@@ -0,0 +1,99 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
+
+/**
+ * Scope of a write operation which is used to select the write locks that need to be acquired.
+ * <p>
+ * The scopes form a hierarchy. A global write excludes all other writes. A project write excludes all other writes within the same project. Node writes only
+ * exclude writes to the same node and the enclosing scopes.
+ *
+ * @see WriteLockManager
+ */
+public final class WriteScope {
+
+	/**
+	 * Scope for writes which may affect any element.
+	 */
+	public static final WriteScope GLOBAL = new WriteScope(Type.GLOBAL, null, null);
+
+	enum Type {
+		GLOBAL, PROJECT, NODE
+	}
+
+	private final Type type;
+
+	private final Object projectKey;
+
+	private final Object elementKey;
+
+	private WriteScope(Type type, Object projectKey, Object elementKey) {
+		this.type = type;
+		this.projectKey = projectKey;
+		this.elementKey = elementKey;
+	}
+
+	/**
+	 * Return the scope for writes within the project.
+	 *
+	 * @param projectId
+	 *            Vertex id of the project
+	 * @return
+	 */
+	public static WriteScope project(Object projectId) {
+		return new WriteScope(Type.PROJECT, projectId, null);
+	}
+
+	/**
+	 * Return the scope for writes which only affect the node.
+	 *
+	 * @param projectId
+	 *            Vertex id of the project of the node
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @return
+	 */
+	public static WriteScope node(Object projectId, String nodeUuid) {
+		return new WriteScope(Type.NODE, projectId, nodeUuid);
+	}
+
+	/**
+	 * Return the scope for writes of the request. Requests to project endpoints use the project scope and all other requests the global scope.
+	 *
+	 * @param ac
+	 * @return
+	 */
+	public static WriteScope of(InternalActionContext ac) {
+		Project project = ac.getProject();
+		if (project == null) {
+			return GLOBAL;
+		}
+		return project(project.id());
+	}
+
+	Type getType() {
+		return type;
+	}
+
+	Object getProjectKey() {
+		return projectKey;
+	}
+
+	Object getElementKey() {
+		return elementKey;
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+		case GLOBAL:
+			return "global";
+		case PROJECT:
+			return "project:" + projectKey;
+		default:
+			return type.name().toLowerCase() + ":" + elementKey;
+		}
+	}
+
+}
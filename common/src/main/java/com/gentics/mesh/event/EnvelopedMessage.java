@@ -0,0 +1,86 @@
+package com.gentics.mesh.event;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Message for a single event of an {@link EventEnvelope}. The event was published and the message can thus not be replied to, which matches the behaviour
+ * of published eventbus messages.
+ */
+class EnvelopedMessage implements Message<JsonObject> {
+
+	private final String address;
+
+	private final JsonObject body;
+
+	EnvelopedMessage(String address, JsonObject body) {
+		this.address = address;
+		this.body = body;
+	}
+
+	@Override
+	public String address() {
+		return address;
+	}
+
+	@Override
+	public MultiMap headers() {
+		return MultiMap.caseInsensitiveMultiMap();
+	}
+
+	@Override
+	public JsonObject body() {
+		return body;
+	}
+
+	@Override
+	public String replyAddress() {
+		return null;
+	}
+
+	@Override
+	public boolean isSend() {
+		return false;
+	}
+
+	@Override
+	public void reply(Object message) {
+		// Published messages have no reply address
+	}
+
+	@Override
+	public void reply(Object message, DeliveryOptions options) {
+		// Published messages have no reply address
+	}
+
+	public <R> void reply(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published messages have no reply address
+	}
+
+	public <R> void reply(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published messages have no reply address
+	}
+
+	public <R> void replyAndRequest(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published messages have no reply address
+	}
+
+	public <R> void replyAndRequest(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published messages have no reply address
+	}
+
+	@Override
+	public void fail(int failureCode, String message) {
+		// Published messages have no reply address
+	}
+
+	@Override
+	public String toString() {
+		return address;
+	}
+
+}
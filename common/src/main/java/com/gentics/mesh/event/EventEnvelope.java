@@ -0,0 +1,109 @@
+package com.gentics.mesh.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.etc.config.VertxOptions;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Envelope which contains multiple events that are published within a single eventbus message. Envelopes are published by
+ * {@link EventQueueBatch#dispatch()} when {@link VertxOptions#getEventEnvelopeSize()} is set. The envelope is sent to the {@link #ADDRESS} instead of the
+ * addresses of the contained events. Consumers need to unpack the envelope via {@link #getEvents()} or {@link #messages(Collection)}.
+ * <p>
+ * The models of the envelope are shared by all local consumers and must thus not be modified.
+ */
+public class EventEnvelope {
+
+	/**
+	 * Address to which envelopes are published.
+	 */
+	public static final String ADDRESS = "mesh.event.envelope";
+
+	private final List<MeshEventModel> events;
+
+	/**
+	 * JSON bodies of the events which are created on first access.
+	 */
+	private final AtomicReferenceArray<JsonObject> bodies;
+
+	public EventEnvelope(List<MeshEventModel> events) {
+		this.events = Collections.unmodifiableList(events);
+		this.bodies = new AtomicReferenceArray<>(events.size());
+	}
+
+	/**
+	 * Return the events of the envelope in the order in which they were added to the batch.
+	 *
+	 * @return
+	 */
+	public List<MeshEventModel> getEvents() {
+		return events;
+	}
+
+	public int size() {
+		return events.size();
+	}
+
+	/**
+	 * Return eventbus messages for the events of the envelope which were emitted on one of the given addresses. The messages can be handled like messages
+	 * which were published to the address of the event.
+	 *
+	 * @param addresses
+	 * @return
+	 */
+	public List<Message<JsonObject>> messages(Collection<String> addresses) {
+		List<Message<JsonObject>> messages = new ArrayList<>();
+		for (int i = 0; i < events.size(); i++) {
+			MeshEvent event = events.get(i).getEvent();
+			if (event != null && addresses.contains(event.address)) {
+				messages.add(new EnvelopedMessage(event.address, body(i)));
+			}
+		}
+		return messages;
+	}
+
+	/**
+	 * Register a handler for the event which receives the published messages of the event and the matching events of published envelopes.
+	 *
+	 * @param eventBus
+	 * @param event
+	 * @param handler
+	 */
+	public static void consumer(EventBus eventBus, MeshEvent event, Handler<Message<JsonObject>> handler) {
+		eventBus.consumer(event.address, handler);
+		List<String> addresses = Collections.singletonList(event.address);
+		eventBus.<EventEnvelope>consumer(ADDRESS, message -> {
+			message.body().messages(addresses).forEach(handler::handle);
+		});
+	}
+
+	/**
+	 * Return a copy of the JSON body of the event with the given index. The event is only serialized once and copied for every consumer, just like the
+	 * eventbus does for local deliveries of JSON objects.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private JsonObject body(int index) {
+		JsonObject body = bodies.get(index);
+		if (body == null) {
+			body = new JsonObject(JsonUtil.toJson(events.get(index)));
+			if (!bodies.compareAndSet(index, null, body)) {
+				body = bodies.get(index);
+			}
+		}
+		return body.copy();
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.gentics.mesh.event.impl;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.EventEnvelope;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Codec for {@link EventEnvelope} messages.
+ * <p>
+ * Local deliveries pass the envelope itself. The models are thus neither serialized nor copied. Envelopes which are sent to other cluster members are
+ * encoded in a compact binary format: The amount of events followed by the length prefixed address and the length prefixed JSON of each event.
+ */
+public class EventEnvelopeCodec implements MessageCodec<EventEnvelope, EventEnvelope> {
+
+	public static final String NAME = "meshEventEnvelope";
+
+	@Override
+	public void encodeToWire(Buffer buffer, EventEnvelope envelope) {
+		buffer.appendInt(envelope.size());
+		for (MeshEventModel model : envelope.getEvents()) {
+			byte[] address = model.getEvent().address.getBytes(UTF_8);
+			byte[] json;
+			try {
+				json = JsonUtil.getMapper().writeValueAsBytes(model);
+			} catch (IOException e) {
+				throw new GenericRestException(INTERNAL_SERVER_ERROR, "Could not encode event {" + model.getEvent() + "}", e);
+			}
+			buffer.appendInt(address.length);
+			buffer.appendBytes(address);
+			buffer.appendInt(json.length);
+			buffer.appendBytes(json);
+		}
+	}
+
+	@Override
+	public EventEnvelope decodeFromWire(int pos, Buffer buffer) {
+		int size = buffer.getInt(pos);
+		pos += 4;
+		List<MeshEventModel> events = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int addressLength = buffer.getInt(pos);
+			pos += 4;
+			String address = buffer.getString(pos, pos + addressLength, UTF_8.name());
+			pos += addressLength;
+			int jsonLength = buffer.getInt(pos);
+			pos += 4;
+			byte[] json = buffer.getBytes(pos, pos + jsonLength);
+			pos += jsonLength;
+
+			// Events of unknown addresses may be sent by cluster members with a different version
+			MeshEvent event = MeshEvent.fromAddress(address).orElse(null);
+			if (event == null || event.bodyModel == null) {
+				continue;
+			}
+			try {
+				MeshEventModel model = JsonUtil.getMapper().readValue(json, event.bodyModel);
+				model.setEvent(event);
+				events.add(model);
+			} catch (IOException e) {
+				throw new GenericRestException(INTERNAL_SERVER_ERROR, "Could not decode event {" + address + "}", e);
+			}
+		}
+		return new EventEnvelope(events);
+	}
+
+	@Override
+	public EventEnvelope transform(EventEnvelope envelope) {
+		return envelope;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+}
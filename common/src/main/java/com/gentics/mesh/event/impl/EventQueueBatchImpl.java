@@ -11,6 +11,8 @@ import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 
@@ -35,9 +37,12 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private final Vertx vertx;
 
+	private final int envelopeSize;
+
 	@Inject
-	public EventQueueBatchImpl(Vertx vertx) {
+	public EventQueueBatchImpl(Vertx vertx, MeshOptions options) {
 		this.vertx = vertx;
+		this.envelopeSize = options.getVertxOptions().getEventEnvelopeSize();
 	}
 
 	@Override
@@ -68,20 +73,44 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
-			entry.setCause(getCause());
-			MeshEvent event = entry.getEvent();
-			if (log.isDebugEnabled()) {
-				log.debug("Created event sent {}", event);
+		List<MeshEventModel> entries = getEntries();
+		if (envelopeSize > 0 && entries.size() > 1) {
+			dispatchEnvelopes(eventbus, entries);
+		} else {
+			entries.forEach(entry -> {
+				entry.setCause(getCause());
+				MeshEvent event = entry.getEvent();
+				if (log.isDebugEnabled()) {
+					log.debug("Created event sent {}", event);
+				}
+				String json = JsonUtil.toJson(entry);
+				if (log.isTraceEnabled()) {
+					log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				}
+				eventbus.publish(event.getAddress(), new JsonObject(json));
+			});
+		}
+		entries.clear();
+	}
+
+	/**
+	 * Publish the entries in envelopes of at most {@link #envelopeSize} events. The models are passed as-is to local consumers and are only serialized when
+	 * the envelope is sent to other cluster members.
+	 *
+	 * @param eventbus
+	 * @param entries
+	 */
+	private void dispatchEnvelopes(EventBus eventbus, List<MeshEventModel> entries) {
+		for (int start = 0; start < entries.size(); start += envelopeSize) {
+			List<MeshEventModel> events = new ArrayList<>(entries.subList(start, Math.min(start + envelopeSize, entries.size())));
+			for (MeshEventModel entry : events) {
+				entry.setCause(getCause());
 			}
-			String json = JsonUtil.toJson(entry);
-			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+			if (log.isDebugEnabled()) {
+				log.debug("Dispatching envelope with {} events", events.size());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
-		getEntries().clear();
+			eventbus.publish(EventEnvelope.ADDRESS, new EventEnvelope(events));
+		}
 	}
 
 }
@@ -159,6 +159,87 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Execute the handler within a transaction which is only used for reading. The transaction will not be committed and will not be retried. Changes
+	 * which are made by the handler are discarded. An already active transaction will be reused.
+	 *
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction<T> txHandler) {
+		return tx(txHandler);
+	}
+
+	/**
+	 * Execute the handler within a transaction which is only used for reading.
+	 *
+	 * @param txHandler
+	 * @see #readTx(TxAction)
+	 */
+	default void readTx(TxAction0 txHandler) {
+		readTx(tx -> {
+			txHandler.handle();
+			return null;
+		});
+	}
+
+	/**
+	 * Execute the handler within a transaction which is only used for reading.
+	 *
+	 * @param txHandler
+	 * @return Result of the handler
+	 * @see #readTx(TxAction)
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx(tx -> {
+			return txHandler.handle();
+		});
+	}
+
+	/**
+	 * Executes a supplier in a read-only transaction within the worker thread pool.
+	 * If the supplier returns null, the maybe is completed, else the value is returned.
+	 *
+	 * @param handler
+	 * @return
+	 * @see #readTx(TxAction)
+	 */
+	default <T> Maybe<T> maybeReadTx(Function<Tx, T> handler) {
+		return new io.vertx.reactivex.core.Vertx(vertx()).rxExecuteBlocking(promise -> {
+			try {
+				promise.complete(readTx(handler::apply));
+			} catch (Throwable e) {
+				promise.fail(e);
+			}
+		}, false);
+	}
+
+	/**
+	 * Executes the given action in a read-only transaction within the worker thread pool and returns a single which can be subscribed to get the result.
+	 * The single which is returned by the action is resolved before the transaction is closed.
+	 *
+	 * @param trxHandler
+	 * @return
+	 * @see #readTx(TxAction)
+	 */
+	default <T> Single<T> asyncReadTx(TxAction1<Single<T>> trxHandler) {
+		return singleReadTx(tx -> {
+			return trxHandler.handle().timeout(40, TimeUnit.SECONDS).blockingGet();
+		});
+	}
+
+	/**
+	 * Executes a supplier in a read-only transaction within the worker thread pool.
+	 * If the supplier returns null, a {@link java.util.NoSuchElementException} is emitted.
+	 *
+	 * @param handler
+	 * @return
+	 * @see #readTx(TxAction)
+	 */
+	default <T> Single<T> singleReadTx(Function<Tx, T> handler) {
+		return maybeReadTx(handler).toSingle();
+	}
+
 	/**
 	 * Executes a supplier in a transaction within the worker thread pool.
 	 * If the supplier returns null, the maybe is completed, else the value is returned.
@@ -9,13 +9,47 @@ public enum SimpleMetric implements Metric {
 
 	NO_TX("notx_created", "Meter which measures the rate of created noTx transactions over time."),
 
+	READ_TX("readtx_created", "Meter which measures the rate of created read-only transactions over time."),
+
 	TX_TIME("tx_time", "Timer which tracks transaction durations."),
 
+	READ_TX_TIME("readtx_time", "Timer which tracks read-only transaction durations."),
+
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	WRITE_LOCK_WAIT_TIME("write_lock_wait_time", "Timer which tracks the time writes had to wait for a write lock stripe."),
+
+	WRITE_LOCK_CONTENTION("write_lock_contention", "Amount of writes which had to wait for a write lock stripe."),
+
 	GRAPH_ELEMENT_RELOAD("graph_element_reload", "Meter which tracks the reload operations on used vertices."),
 
-	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration.");
+	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
+
+	MIGRATION_MIGRATED("migration_migrated", "Amount of elements which were processed by schema, microschema and branch migrations."),
+
+	MIGRATION_BATCH_TIME("migration_batch_time", "Timer which tracks the duration of the transactions which migrate a batch of elements."),
+
+	GRAPHQL_SCHEMA_BUILD_TIME("graphql_schema_build_time", "Timer which tracks the time needed to build a GraphQL schema which was not found in the schema cache."),
+
+	GRAPHQL_TIME("graphql_time", "Timer which tracks the overall duration of GraphQL queries."),
+
+	GRAPHQL_QUEUE_WAIT_TIME("graphql_queue_wait_time", "Timer which tracks the time GraphQL queries have to wait for a free worker."),
+
+	GRAPHQL_RESOLVER_TIME("graphql_resolver_time", "Timer which tracks the time which was spent in the field resolvers of a GraphQL query."),
+
+	GRAPHQL_PENDING("graphql_pending", "Amount of GraphQL queries which are currently queued or executed."),
+
+	GRAPHQL_REJECTED("graphql_rejected", "Amount of GraphQL queries which were rejected because the worker queue was full."),
+
+	IMAGE_CACHE_HIT("image_cache_hit", "Amount of image variant requests which were answered by the image cache index."),
+
+	IMAGE_CACHE_MISS("image_cache_miss", "Amount of image variant requests which were not found in the image cache index."),
+
+	IMAGE_CACHE_EVICTION("image_cache_eviction", "Amount of cached image variants which were removed because the image cache size limit was exceeded."),
+
+	IMAGE_CACHE_SIZE("image_cache_size", "Total size of the cached image variants in bytes."),
+
+	IMAGE_RESIZE_COALESCED("image_resize_coalesced", "Amount of image resize requests which joined an identical resize operation that was already in progress.");
 
 	private String key;
 
@@ -37,7 +37,7 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		super();
 		setPage(page);
 		setPerPage(perPage);
-		setSortOrder(order.toString());
+		setSortOrder(order);
 		setOrderBy(sortBy);
 	}
 
@@ -67,7 +67,7 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 	 *            Per page count
 	 */
 	public PagingParametersImpl(int page, Long perPage) {
-		this(page, perPage, "uuid", SortOrder.ASCENDING);
+		this(page, perPage, DEFAULT_SORT_BY, null);
 	}
 
 	@Override
@@ -98,6 +98,43 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// sortBy
+		QueryParameter sortByParameter = new QueryParameter();
+		sortByParameter.setDescription(
+			"Property which should be used to sort the elements. Possible values are: created, edited, displayField (nodes only) and schema (nodes only). By default the elements are returned in the natural order of the index.");
+		sortByParameter.setExample("created");
+		sortByParameter.setRequired(false);
+		sortByParameter.setType(ParamType.STRING);
+		parameters.put(SORT_BY_PARAMETER_KEY, sortByParameter);
+
+		// order
+		QueryParameter orderParameter = new QueryParameter();
+		orderParameter.setDefaultValue(SortOrder.ASCENDING.getSimpleName());
+		orderParameter.setDescription("Order in which the elements should be sorted. Possible values are: asc and desc.");
+		orderParameter.setExample(SortOrder.DESCENDING.getSimpleName());
+		orderParameter.setRequired(false);
+		orderParameter.setType(ParamType.STRING);
+		parameters.put(SORT_ORDER_PARAMETER_KEY, orderParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor after which the elements of the page should start. The cursor of the next page is returned via the nextCursor property of the paging info. The page parameter is ignored and the total count is not computed when a cursor is used.");
+		afterParameter.setExample("2f2de9297c8143e8ade9297c8193e8fc");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// skipCount
+		QueryParameter skipCountParameter = new QueryParameter();
+		skipCountParameter.setDefaultValue("false");
+		skipCountParameter.setDescription(
+			"Skip the computation of the total count and the page count. Both values will be set to -1. This avoids loading all elements when only a single page is needed.");
+		skipCountParameter.setExample("true");
+		skipCountParameter.setRequired(false);
+		skipCountParameter.setType(ParamType.BOOLEAN);
+		parameters.put(SKIP_COUNT_PARAMETER_KEY, skipCountParameter);
 		return parameters;
 	}
 
@@ -6,7 +6,7 @@ import com.gentics.mesh.parameter.SearchParameters;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public class SearchParametersImpl extends AbstractParameters implements SearchParameters {
@@ -36,7 +36,18 @@ public class SearchParametersImpl extends AbstractParameters implements SearchPa
 		waitParameter.setRequired(false);
 		waitParameter.setType(ParamType.BOOLEAN);
 
-		return Collections.singletonMap(WAIT_PARAMETER_KEY, waitParameter);
+		QueryParameter sourceParameter = new QueryParameter();
+		sourceParameter.setDescription(
+			"Specify whether the node search results should be directly created from the stored search documents. The results will only contain the meta data and the display name of the nodes. This avoids loading the nodes from the graph database.");
+		sourceParameter.setDefaultValue("false");
+		sourceParameter.setExample("true");
+		sourceParameter.setRequired(false);
+		sourceParameter.setType(ParamType.BOOLEAN);
+
+		Map<String, QueryParameter> parameters = new HashMap<>();
+		parameters.put(WAIT_PARAMETER_KEY, waitParameter);
+		parameters.put(SOURCE_PARAMETER_KEY, sourceParameter);
+		return parameters;
 	}
 
 }
@@ -14,13 +14,13 @@ import com.gentics.mesh.auth.MeshAuthChain;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.VersionHandler;
 
 import dagger.Lazy;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -92,7 +92,7 @@ public class RouterStorage {
 	public void registerEventbusHandlers() {
 		ProjectsRouter projectsRouter = rootRouter.apiRouter().projectsRouter();
 		EventBus eb = vertx.eventBus();
-		eb.consumer(PROJECT_CREATED.address, (Message<JsonObject> rh) -> {
+		EventEnvelope.consumer(eb, PROJECT_CREATED, rh -> {
 			JsonObject json = rh.body();
 
 			// Check whether this is a local message. We only need to react on foreign messages.
@@ -116,7 +116,7 @@ public class RouterStorage {
 			}
 		});
 
-		eb.consumer(PROJECT_UPDATED.address, (Message<JsonObject> rh) -> {
+		EventEnvelope.consumer(eb, PROJECT_UPDATED, rh -> {
 			Database database = db.get();
 
 			try (Tx tx = database.tx()) {
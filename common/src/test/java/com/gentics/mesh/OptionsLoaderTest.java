@@ -15,8 +15,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
 
+import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.etc.config.HttpServerConfig;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
@@ -53,11 +56,19 @@ public class OptionsLoaderTest {
 		environmentVariables.set(HttpServerConfig.MESH_HTTP_CORS_ENABLE_ENV, "true");
 		environmentVariables.set(VertxOptions.MESH_VERTX_EVENT_POOL_SIZE_ENV, "41");
 		environmentVariables.set(VertxOptions.MESH_VERTX_WORKER_POOL_SIZE_ENV, "42");
+		environmentVariables.set(VertxOptions.MESH_VERTX_EVENT_ENVELOPE_SIZE_ENV, "500");
 		environmentVariables.set(MeshOptions.MESH_LOCK_PATH_ENV, "dummy/1234");
 		environmentVariables.set(MeshUploadOptions.MESH_BINARY_DIR_ENV, "/uploads");
 		environmentVariables.set(MonitoringConfig.MESH_MONITORING_HTTP_HOST_ENV, "0.0.0.0");
 		environmentVariables.set(ContentConfig.MESH_CONTENT_AUTO_PURGE_ENV, "true");
+		environmentVariables.set(ContentConfig.MESH_CONTENT_MIGRATION_WORKERS_ENV, "4");
+		environmentVariables.set(ContentConfig.MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV, "200");
 		environmentVariables.set(ElasticSearchOptions.MESH_ELASTICSEARCH_MAPPING_MODE_ENV, "STRICT");
+		environmentVariables.set(GraphQLOptions.MESH_GRAPHQL_WORKER_POOL_SIZE_ENV, "43");
+		environmentVariables.set(GraphQLOptions.MESH_GRAPHQL_WORKER_QUEUE_SIZE_ENV, "44");
+		environmentVariables.set(ImageManipulatorOptions.MESH_IMAGE_CACHE_MAX_SIZE_ENV, "1000000");
+		environmentVariables.set(CacheConfig.MESH_CACHE_NODE_RESPONSE_SIZE_ENV, "5000");
+		environmentVariables.set(CacheConfig.MESH_CACHE_NODE_PATH_SIZE_ENV, "6000");
 
 		MeshOptions options = OptionsLoader.createOrloadOptions();
 		assertEquals(8100, options.getHttpServerOptions().getPort());
@@ -68,12 +79,20 @@ public class OptionsLoaderTest {
 		assertTrue(options.getHttpServerOptions().getEnableCors());
 		assertEquals(41, options.getVertxOptions().getEventPoolSize());
 		assertEquals(42, options.getVertxOptions().getWorkerPoolSize());
+		assertEquals(500, options.getVertxOptions().getEventEnvelopeSize());
 		assertEquals("*", options.getHttpServerOptions().getCorsAllowedOriginPattern());
 		assertEquals("dummy/1234", options.getLockPath());
 		assertEquals("/uploads", options.getUploadOptions().getDirectory());
 		assertEquals("0.0.0.0", options.getMonitoringOptions().getHost());
 		assertTrue(options.getContentOptions().isAutoPurge());
+		assertEquals(4, options.getContentOptions().getMigrationWorkers());
+		assertEquals(200, options.getContentOptions().getMigrationBatchSize());
 		assertEquals(MappingMode.STRICT, options.getSearchOptions().getMappingMode());
+		assertEquals(43, options.getGraphQLOptions().getWorkerPoolSize());
+		assertEquals(44, options.getGraphQLOptions().getWorkerQueueSize());
+		assertEquals(1000000, options.getImageOptions().getImageCacheMaxSize());
+		assertEquals(5000, options.getCacheConfig().getNodeResponseCacheSize());
+		assertEquals(6000, options.getCacheConfig().getNodePathCacheSize());
 	}
 
 	@Test
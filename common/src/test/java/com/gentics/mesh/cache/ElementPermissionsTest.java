@@ -0,0 +1,47 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.DELETE_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ElementPermissionsTest {
+
+	@Test
+	public void testPermissionMask() {
+		Map<Integer, Integer> roleMasks = new HashMap<>();
+		roleMasks.put(3, ElementPermissions.bit(READ_PERM));
+		roleMasks.put(70, ElementPermissions.bit(UPDATE_PERM) | ElementPermissions.bit(DELETE_PERM));
+		ElementPermissions permissions = ElementPermissions.of(roleMasks);
+
+		BitSet roles = new BitSet();
+		assertThat(permissions.getPermissionMask(roles)).isEqualTo(0);
+
+		roles.set(3);
+		int mask = permissions.getPermissionMask(roles);
+		assertThat(ElementPermissions.isSet(mask, READ_PERM)).isTrue();
+		assertThat(ElementPermissions.isSet(mask, UPDATE_PERM)).isFalse();
+
+		roles.set(70);
+		mask = permissions.getPermissionMask(roles);
+		assertThat(ElementPermissions.isSet(mask, READ_PERM)).isTrue();
+		assertThat(ElementPermissions.isSet(mask, UPDATE_PERM)).isTrue();
+		assertThat(ElementPermissions.isSet(mask, DELETE_PERM)).isTrue();
+		assertThat(ElementPermissions.isSet(mask, CREATE_PERM)).isFalse();
+	}
+
+	@Test
+	public void testEmpty() {
+		BitSet roles = new BitSet();
+		roles.set(0, 100);
+		assertThat(ElementPermissions.of(new HashMap<>())).isSameAs(ElementPermissions.EMPTY);
+		assertThat(ElementPermissions.EMPTY.getPermissionMask(roles)).isEqualTo(0);
+	}
+}
@@ -0,0 +1,93 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+public class ImageCacheIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ImageManipulatorOptions options;
+
+	@Before
+	public void setup() {
+		options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(folder.getRoot().getAbsolutePath());
+		options.setImageCacheMaxSize(250);
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		ImageCacheIndex index = new ImageCacheIndex(options, null);
+		File a = write("a/image-rw100", 100);
+		File b = write("b/image-rw100", 100);
+		index.put(base(a), a.getPath());
+		index.put(base(b), b.getPath());
+
+		// Access the first variant so that the second one is the least recently used
+		assertThat(index.get(base(a))).isEqualTo(a.getPath());
+
+		File c = write("c/image-rw100", 100);
+		index.put(base(c), c.getPath());
+
+		assertThat(index.get(base(b))).isNull();
+		assertThat(b).doesNotExist();
+		assertThat(a).exists();
+		assertThat(c).exists();
+		assertThat(index.getTotalSize()).isEqualTo(200);
+	}
+
+	@Test
+	public void testLoad() throws IOException {
+		File a = write("a/image-fpx0.5", 100);
+		File b = write("b/image-rw100", 100);
+		File c = write("c/image-rw200", 100);
+		a.setLastModified(1000);
+		b.setLastModified(2000);
+		c.setLastModified(3000);
+
+		ImageCacheIndex index = new ImageCacheIndex(options, null);
+		index.load();
+
+		// The oldest file is removed to match the limit
+		assertThat(a).doesNotExist();
+		assertThat(index.get(base(a))).isNull();
+		assertThat(index.get(base(b))).isEqualTo(b.getPath());
+		assertThat(index.get(base(c))).isEqualTo(c.getPath());
+		assertThat(index.getTotalSize()).isEqualTo(200);
+	}
+
+	@Test
+	public void testUnlimited() throws IOException {
+		options.setImageCacheMaxSize(0);
+		ImageCacheIndex index = new ImageCacheIndex(options, null);
+		for (int i = 0; i < 5; i++) {
+			File file = write(i + "/image-rw100", 100);
+			index.put(base(file), file.getPath());
+		}
+		assertThat(index.getTotalSize()).isEqualTo(500);
+	}
+
+	private File write(String basePath, int size) throws IOException {
+		File file = new File(folder.getRoot(), basePath + ".jpg");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new byte[size]);
+		return file;
+	}
+
+	private String base(File file) {
+		return ImageCacheIndex.basePath(file.getPath());
+	}
+
+}
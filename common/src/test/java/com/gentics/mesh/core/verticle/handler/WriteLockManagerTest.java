@@ -0,0 +1,98 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+public class WriteLockManagerTest {
+
+	private WriteLockManager manager;
+
+	@Before
+	public void setup() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setSynchronizeWrites(true);
+		manager = new WriteLockManager(options, mock(MetricsService.class));
+	}
+
+	@Test
+	public void testIndependentProjects() throws Exception {
+		WriteLock lock = manager.lock(WriteScope.project("projectA"));
+		try {
+			lockAsync(WriteScope.project("projectB")).get(1, TimeUnit.SECONDS).unlock();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Test
+	public void testSameProject() throws Exception {
+		WriteLock lock = manager.lock(WriteScope.project("projectA"));
+		CompletableFuture<WriteLock> other = lockAsync(WriteScope.node("projectA", "node"));
+		Thread.sleep(200);
+		assertThat(other).as("The node write must wait for the project write").isNotDone();
+		lock.unlock();
+		other.get(1, TimeUnit.SECONDS).unlock();
+	}
+
+	@Test
+	public void testIndependentNodes() throws Exception {
+		WriteLock lock = manager.lock(WriteScope.node("projectA", "nodeA"));
+		try {
+			lockAsync(WriteScope.node("projectA", "nodeB")).get(1, TimeUnit.SECONDS).unlock();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Test
+	public void testMultipleNodes() throws Exception {
+		// Scopes which share a stripe must not block each other
+		WriteLock lock = manager.lock(Arrays.asList(WriteScope.node("projectA", "nodeA"), WriteScope.node("projectA", "nodeB"),
+			WriteScope.node("projectA", "nodeA")));
+		CompletableFuture<WriteLock> other = lockAsync(WriteScope.node("projectA", "nodeB"));
+		Thread.sleep(200);
+		assertThat(other).as("The node write must wait until the batch has been released").isNotDone();
+		lock.unlock();
+		other.get(1, TimeUnit.SECONDS).unlock();
+	}
+
+	@Test
+	public void testGlobal() throws Exception {
+		WriteLock lock = manager.lock(WriteScope.node("projectA", "node"));
+		CompletableFuture<WriteLock> global = lockAsync(WriteScope.GLOBAL);
+		Thread.sleep(200);
+		assertThat(global).as("The global write must wait for all other writes").isNotDone();
+
+		// Writes which arrive later must not overtake the waiting global write
+		CompletableFuture<WriteLock> project = lockAsync(WriteScope.project("projectB"));
+		Thread.sleep(200);
+		assertThat(project).isNotDone();
+
+		lock.unlock();
+		global.get(1, TimeUnit.SECONDS).unlock();
+		project.get(1, TimeUnit.SECONDS).unlock();
+	}
+
+	@Test
+	public void testUnsynchronized() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setSynchronizeWrites(false);
+		manager = new WriteLockManager(options, mock(MetricsService.class));
+		assertThat(manager.lock(WriteScope.GLOBAL)).isSameAs(WriteLock.NONE);
+	}
+
+	private CompletableFuture<WriteLock> lockAsync(WriteScope scope) {
+		return CompletableFuture.supplyAsync(() -> manager.lock(scope));
+	}
+
+}
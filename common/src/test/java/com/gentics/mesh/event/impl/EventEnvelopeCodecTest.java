@@ -0,0 +1,75 @@
+package com.gentics.mesh.event.impl;
+
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.event.EventEnvelope;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+public class EventEnvelopeCodecTest {
+
+	private final EventEnvelopeCodec codec = new EventEnvelopeCodec();
+
+	@Test
+	public void testWireFormat() {
+		EventEnvelope envelope = new EventEnvelope(Arrays.asList(event(USER_UPDATED, "user"), event(ROLE_DELETED, "role")));
+
+		Buffer buffer = Buffer.buffer();
+		// Prepend some data to verify that the position is respected
+		buffer.appendString("prefix");
+		codec.encodeToWire(buffer, envelope);
+
+		EventEnvelope decoded = codec.decodeFromWire("prefix".length(), buffer);
+		List<MeshEventModel> events = decoded.getEvents();
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getEvent()).isEqualTo(USER_UPDATED);
+		assertThat(((MeshElementEventModel) events.get(0)).getUuid()).isEqualTo("user");
+		assertThat(events.get(0).getOrigin()).isEqualTo("nodeA");
+		assertThat(events.get(1).getEvent()).isEqualTo(ROLE_DELETED);
+		assertThat(((MeshElementEventModel) events.get(1)).getUuid()).isEqualTo("role");
+	}
+
+	@Test
+	public void testLocalTransform() {
+		EventEnvelope envelope = new EventEnvelope(Collections.singletonList(event(USER_UPDATED, "user")));
+		assertThat(codec.transform(envelope)).isSameAs(envelope);
+	}
+
+	@Test
+	public void testMessages() {
+		EventEnvelope envelope = new EventEnvelope(Arrays.asList(event(USER_UPDATED, "user1"), event(ROLE_DELETED, "role"), event(USER_UPDATED, "user2")));
+		List<Message<JsonObject>> messages = envelope.messages(Collections.singleton(USER_UPDATED.address));
+		assertThat(messages).hasSize(2);
+		assertThat(messages.get(0).address()).isEqualTo(USER_UPDATED.address);
+		assertThat(messages.get(0).body().getString("uuid")).isEqualTo("user1");
+		assertThat(messages.get(1).body().getString("uuid")).isEqualTo("user2");
+
+		// Every consumer gets its own copy of the body
+		messages.get(0).body().put("uuid", "changed");
+		assertThat(envelope.messages(Collections.singleton(USER_UPDATED.address)).get(0).body().getString("uuid")).isEqualTo("user1");
+	}
+
+	private MeshEventModel event(MeshEvent event, String uuid) {
+		MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		model.setName("name");
+		model.setOrigin("nodeA");
+		return model;
+	}
+
+}
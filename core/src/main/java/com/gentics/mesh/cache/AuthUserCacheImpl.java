@@ -0,0 +1,92 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.rest.MeshEvent;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * @see AuthUserCache
+ */
+@Singleton
+public class AuthUserCacheImpl extends AbstractMeshCache<String, MeshAuthUser> implements AuthUserCache {
+
+	private static final Logger log = LoggerFactory.getLogger(AuthUserCacheImpl.class);
+
+	public static final long CACHE_SIZE = 10_000;
+
+	@Inject
+	public AuthUserCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
+		super(createCache(factory), registry, CACHE_SIZE);
+	}
+
+	private static EventAwareCache<String, MeshAuthUser> createCache(EventAwareCacheFactory factory) {
+		return factory.<String, MeshAuthUser>builder()
+			.events(USER_UPDATED, USER_DELETED, GROUP_USER_ASSIGNED, GROUP_USER_UNASSIGNED, GROUP_ROLE_ASSIGNED, GROUP_ROLE_UNASSIGNED, GROUP_DELETED,
+				ROLE_UPDATED, ROLE_DELETED)
+			.action((event, cache) -> {
+				String userUuid = getUserUuid(MeshEvent.fromAddress(event.address()).orElse(null), event.body());
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating auth user cache {" + userUuid + "} due to received event from {" + event.address() + "}");
+				}
+				if (userUuid != null) {
+					cache.invalidate(userUuid);
+				} else {
+					// Changes to groups and roles may affect the role membership and admin flag of any user
+					cache.invalidate();
+				}
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(CACHE_SIZE)
+			.name("authuser")
+			.build();
+	}
+
+	/**
+	 * Return the uuid of the single user which is affected by the event.
+	 *
+	 * @param event
+	 * @param body
+	 * @return Uuid of the user or null if the event may affect any user
+	 */
+	private static String getUserUuid(MeshEvent event, JsonObject body) {
+		if (event == null || body == null) {
+			return null;
+		}
+		switch (event) {
+		case USER_UPDATED:
+		case USER_DELETED:
+			return body.getString("uuid");
+		case GROUP_USER_ASSIGNED:
+		case GROUP_USER_UNASSIGNED:
+			JsonObject user = body.getJsonObject("user");
+			return user == null ? null : user.getString("uuid");
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public void invalidate(String userUuid) {
+		cache.invalidate(userUuid);
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * LRU cache for the paths of nodes which are rendered when resolving links.
+ * <p>
+ * Like the {@link WebrootPathCacheImpl} the cache keeps a {@link WebrootPathIndex} of the nodes which are part of the cached paths, so that node events
+ * only evict the paths which contain the affected node. Since the segments of the parent nodes may fall back to any language, the paths are evicted on
+ * changes of any language of the contained nodes. Branch updates may change the path prefix and thus clear the whole cache. Paths which are rendered within
+ * a transaction with uncommitted changes are neither read from nor added to the cache.
+ */
+@Singleton
+public class NodePathCacheImpl extends AbstractMeshCache<String, String> implements NodePathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NodePathCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED };
+
+	private final WebrootPathIndex<String> index;
+
+	@Inject
+	public NodePathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(new WebrootPathIndex<>(), factory, registry, options);
+	}
+
+	private NodePathCacheImpl(WebrootPathIndex<String> index, EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(index, factory, options.getCacheConfig()), registry, options.getCacheConfig().getNodePathCacheSize());
+		this.index = index;
+	}
+
+	private static EventAwareCache<String, String> createCache(WebrootPathIndex<String> index, EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, String>builder()
+			.events(EVENTS)
+			.action((event, cache) -> invalidate(index, event, cache))
+			.removalListener(index::remove)
+			.name("nodepath")
+			.maxSize(config.getNodePathCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the cached paths which are affected by the event.
+	 *
+	 * @param index
+	 * @param event
+	 * @param cache
+	 */
+	private static void invalidate(WebrootPathIndex<String> index, Message<JsonObject> event, EventAwareCache<String, String> cache) {
+		MeshEvent meshEvent = MeshEvent.fromAddress(event.address()).orElse(null);
+		List<String> keys = null;
+		if (meshEvent != CLEAR_PATH_STORE && meshEvent != SCHEMA_MIGRATION_FINISHED && meshEvent != BRANCH_UPDATED) {
+			keys = index.removeAffected(meshEvent, event.body());
+		}
+		if (keys == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing node path cache due to received event from {" + event.address() + "}");
+			}
+			cache.invalidate();
+			return;
+		}
+		for (String key : keys) {
+			cache.invalidate(key);
+		}
+	}
+
+	@Override
+	public String getPath(Node node, String branchUuid, ContainerType type, String[] languageTags, Supplier<String> resolver) {
+		// The paths of a transaction with uncommitted changes may differ from the committed paths and may still be rolled back
+		if (isDisabled() || Tx.get().hasUncommittedChanges()) {
+			return resolver.get();
+		}
+		String key = createCacheKey(node.getUuid(), branchUuid, type, languageTags);
+		String path = cache.get(key);
+		if (path != null) {
+			return path;
+		}
+		path = resolver.get();
+		// Paths which could not be resolved are not cached, since any created content may make them resolvable
+		if (path != null) {
+			// Put the path first so that a replaced path has already been removed from the index
+			cache.put(key, path);
+			index.add(key, branchUuid, type, path, pathNodes(node, branchUuid));
+		}
+		return path;
+	}
+
+	@Override
+	public void invalidateNode(String nodeUuid) {
+		if (isDisabled()) {
+			return;
+		}
+		for (String key : index.removeAffected(nodeUuid, null, null, null)) {
+			cache.invalidate(key);
+		}
+	}
+
+	/**
+	 * Return the uuids of the node and its parents in the branch. The segments of all nodes may be affected by changes of any language.
+	 * 
+	 * @param node
+	 * @param branchUuid
+	 * @return
+	 */
+	private Map<String, String> pathNodes(Node node, String branchUuid) {
+		Map<String, String> nodes = new HashMap<>();
+		Node current = node;
+		while (current != null) {
+			nodes.put(current.getUuid(), null);
+			current = current.getParentNode(branchUuid);
+		}
+		return nodes;
+	}
+
+	private String createCacheKey(String nodeUuid, String branchUuid, ContainerType type, String[] languageTags) {
+		return branchUuid + "-" + type.getCode() + "-" + nodeUuid + "-" + Arrays.toString(languageTags);
+	}
+
+}
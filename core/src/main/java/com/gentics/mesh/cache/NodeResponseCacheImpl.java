@@ -0,0 +1,237 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.NodeParameters;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * LRU cache for serialized node responses.
+ * <p>
+ * The key of each entry only consists of inputs which are cheap to determine: the node, the selected content version, the branch, the query parameters
+ * (language list, expansion and link resolving) and the role set of the user. The ETag of a response is computed once from the cached JSON. The response of
+ * a node also contains information of other nodes (breadcrumb, children, tags, references and resolved links), which is not covered by the key. The cache
+ * therefore keeps a {@link NodeResponseIndex} of the nodes on which the cached responses depend. Node events and permission changes of nodes will thus only
+ * evict the affected responses. All other events which affect the rendering of nodes (e.g. schema, project or user changes) clear the whole cache.
+ */
+@Singleton
+public class NodeResponseCacheImpl extends AbstractMeshCache<String, CachedNodeResponse> implements NodeResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeResponseCacheImpl.class);
+
+	private static final MeshEvent[] EVENTS = {
+		NODE_CREATED,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_REFERENCE_UPDATED,
+		ROLE_PERMISSIONS_CHANGED,
+		USER_UPDATED,
+		USER_DELETED,
+		PROJECT_UPDATED,
+		BRANCH_UPDATED,
+		SCHEMA_UPDATED,
+		MICROSCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		TAG_FAMILY_DELETED };
+
+	private final MeshOptions options;
+
+	/**
+	 * Counter which is incremented before responses are evicted. Responses which were rendered while responses were evicted are not kept since they may
+	 * already be outdated.
+	 */
+	private final AtomicLong generation;
+
+	private final NodeResponseIndex<CachedNodeResponse> index;
+
+	@Inject
+	public NodeResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(new AtomicLong(), new NodeResponseIndex<>(), factory, registry, options);
+	}
+
+	private NodeResponseCacheImpl(AtomicLong generation, NodeResponseIndex<CachedNodeResponse> index, EventAwareCacheFactory factory,
+		CacheRegistry registry, MeshOptions options) {
+		super(createCache(generation, index, factory, options.getCacheConfig()), registry, options.getCacheConfig().getNodeResponseCacheSize());
+		this.generation = generation;
+		this.index = index;
+		this.options = options;
+	}
+
+	private static EventAwareCache<String, CachedNodeResponse> createCache(AtomicLong generation, NodeResponseIndex<CachedNodeResponse> index,
+		EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, CachedNodeResponse>builder()
+			.events(EVENTS)
+			.action((event, cache) -> invalidate(generation, index, event, cache))
+			.removalListener(index::remove)
+			.name("noderesponse")
+			.maxSize(config.getNodeResponseCacheSize())
+			.build();
+	}
+
+	/**
+	 * Invalidate the cached responses which are affected by the event.
+	 *
+	 * @param generation
+	 * @param index
+	 * @param event
+	 * @param cache
+	 */
+	private static void invalidate(AtomicLong generation, NodeResponseIndex<CachedNodeResponse> index, Message<JsonObject> event,
+		EventAwareCache<String, CachedNodeResponse> cache) {
+		// Responses which are currently being rendered must not be kept
+		generation.incrementAndGet();
+		List<String> keys = index.removeAffected(MeshEvent.fromAddress(event.address()).orElse(null), event.body());
+		if (keys == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing node response cache due to received event from {" + event.address() + "}");
+			}
+			cache.invalidate();
+			return;
+		}
+		for (String key : keys) {
+			cache.invalidate(key);
+		}
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+	@Override
+	public CachedNodeResponse getResponse(InternalActionContext ac, Node node, Supplier<String> renderer) {
+		if (isDisabled()) {
+			return new CachedNodeResponse(renderer.get());
+		}
+		long currentGeneration = generation.get();
+		String branchUuid = ac.getBranch(node.getProject()).getUuid();
+		NodeGraphFieldContainer container = node.findVersion(ac.getNodeParameters().getLanguageList(options), branchUuid,
+			ac.getVersioningParameters().getVersion());
+		String key = createCacheKey(ac, node, branchUuid, container);
+		CachedNodeResponse response = cache.get(key);
+		if (response != null) {
+			return response;
+		}
+		response = new CachedNodeResponse(renderer.get());
+		// The response is indexed before the generation is checked so that evictions which start after the check will find it
+		cache.put(key, response);
+		NodeParameters parameters = ac.getNodeParameters();
+		boolean anyNode = parameters.getResolveLinks() != LinkType.OFF || parameters.getExpandAll() || parameters.getExpandedFieldNames().length > 0;
+		index.add(key, branchUuid, response, dependencies(node, branchUuid, container), ac.getGenericParameters().getFields().has("children"), anyNode);
+		if (generation.get() != currentGeneration) {
+			// Responses were evicted while the response was rendered
+			cache.invalidate(key);
+		}
+		return response;
+	}
+
+	/**
+	 * Return the uuids of the nodes on which the response of the node depends. These are the node itself, the nodes of the breadcrumb (which also contains
+	 * the parent node) and the nodes which are referenced by the fields of the container.
+	 *
+	 * @param node
+	 * @param branchUuid
+	 * @param container
+	 * @return
+	 */
+	private Set<String> dependencies(Node node, String branchUuid, NodeGraphFieldContainer container) {
+		Set<String> uuids = new HashSet<>();
+		for (Node current = node; current != null; current = current.getParentNode(branchUuid)) {
+			uuids.add(current.getUuid());
+		}
+		if (container != null) {
+			for (Node referenced : container.getReferencedNodes()) {
+				uuids.add(referenced.getUuid());
+			}
+		}
+		return uuids;
+	}
+
+	/**
+	 * Create the cache key. The selected container is identified by its uuid and version, the permissions of the user are represented by the role set.
+	 * The query string covers the language list, the expansion and link resolving parameters.
+	 * 
+	 * @param ac
+	 * @param node
+	 * @param branchUuid
+	 * @param container
+	 * @return
+	 */
+	private String createCacheKey(InternalActionContext ac, Node node, String branchUuid, NodeGraphFieldContainer container) {
+		String query = ac.query();
+		StringBuilder key = new StringBuilder();
+		key.append(node.getUuid());
+		key.append("-");
+		key.append(branchUuid);
+		key.append("-");
+		if (container == null) {
+			key.append("no-container");
+		} else {
+			key.append(container.getUuid());
+			key.append("@");
+			key.append(container.getVersion());
+		}
+		key.append("-");
+		key.append(ac.getUser().getRolesHash());
+		key.append("-");
+		key.append(query == null ? "" : query);
+		return key.toString();
+	}
+
+}
@@ -0,0 +1,265 @@
+package com.gentics.mesh.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.gentics.mesh.ElementType;
+import com.gentics.mesh.core.rest.MeshEvent;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Index of the entries of the {@link NodeResponseCacheImpl} which knows the nodes on which the cached responses depend. This allows the cache to only evict
+ * the responses which are affected by a change of a node instead of clearing the whole cache.
+ * <p>
+ * A response depends on its node, the nodes of its breadcrumb and the nodes which are referenced by its fields. Responses which contain the children info
+ * of their node are tracked separately per branch since any created, deleted or moved node may change the children. Responses with resolved links or
+ * expanded fields are tracked separately per branch since they contain information of arbitrary nodes and are thus affected by every node event.
+ * <p>
+ * All buckets are only accessed within {@link ConcurrentHashMap#compute(Object, java.util.function.BiFunction)} so that entries can't get lost when a
+ * bucket is removed while another thread adds an entry to it.
+ */
+class NodeResponseIndex<V> {
+
+	/**
+	 * Indexed entries by cache key.
+	 */
+	private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries by the uuids of the nodes on which the responses depend.
+	 */
+	private final Map<String, Map<String, Entry<V>>> byNode = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries of responses which contain the children info by branch uuid.
+	 */
+	private final Map<String, Map<String, Entry<V>>> withChildren = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries of responses which contain information of arbitrary nodes by branch uuid.
+	 */
+	private final Map<String, Map<String, Entry<V>>> withAnyNode = new ConcurrentHashMap<>();
+
+	/**
+	 * Add the cached response to the index. The response must already have been put into the cache so that replacing it did already remove the previous
+	 * entry.
+	 *
+	 * @param key
+	 *            Cache key
+	 * @param branchUuid
+	 *            Uuid of the branch for which the response was rendered
+	 * @param value
+	 *            Cached value
+	 * @param nodeUuids
+	 *            Uuids of the nodes on which the response depends
+	 * @param children
+	 *            Whether the response contains the children info of the node
+	 * @param anyNode
+	 *            Whether the response contains information of arbitrary nodes (e.g. resolved links)
+	 */
+	void add(String key, String branchUuid, V value, Set<String> nodeUuids, boolean children, boolean anyNode) {
+		Entry<V> entry = new Entry<>(key, branchUuid, value, nodeUuids, children, anyNode);
+		Entry<V> previous = entries.put(key, entry);
+		if (previous != null) {
+			unindex(previous);
+		}
+		for (String nodeUuid : nodeUuids) {
+			addToBucket(byNode, nodeUuid, entry);
+		}
+		if (children) {
+			addToBucket(withChildren, branchUuid, entry);
+		}
+		if (anyNode) {
+			addToBucket(withAnyNode, branchUuid, entry);
+		}
+	}
+
+	/**
+	 * Remove the entry of the value which was removed from the cache. Entries which were replaced by another value in the meantime are kept.
+	 *
+	 * @param key
+	 * @param value
+	 */
+	@SuppressWarnings("unchecked")
+	void remove(String key, V value) {
+		Entry<V>[] removed = new Entry[1];
+		entries.computeIfPresent(key, (k, entry) -> {
+			if (entry.value == value) {
+				removed[0] = entry;
+				return null;
+			}
+			return entry;
+		});
+		if (removed[0] != null) {
+			unindex(removed[0]);
+		}
+	}
+
+	/**
+	 * Remove the entries which are affected by the node or permission event from the index.
+	 *
+	 * @param event
+	 *            Received event
+	 * @param body
+	 *            Body of the event
+	 * @return Cache keys of the removed entries or null if the event does not reference a node and all entries are thus affected
+	 */
+	List<String> removeAffected(MeshEvent event, JsonObject body) {
+		if (event == null || body == null) {
+			return null;
+		}
+		switch (event) {
+		case NODE_CREATED:
+		case NODE_DELETED:
+		case NODE_MOVED:
+			return removeAffected(body.getString("uuid"), body.getString("branchUuid"), true);
+		case NODE_UPDATED:
+		case NODE_PUBLISHED:
+		case NODE_UNPUBLISHED:
+		case NODE_CONTENT_CREATED:
+		case NODE_CONTENT_DELETED:
+		case NODE_REFERENCE_UPDATED:
+			return removeAffected(body.getString("uuid"), body.getString("branchUuid"), false);
+		case NODE_TAGGED:
+		case NODE_UNTAGGED:
+			return removeAffected(uuidOf(body.getJsonObject("node")), uuidOf(body.getJsonObject("branch")), false);
+		case ROLE_PERMISSIONS_CHANGED:
+			if (!ElementType.NODE.name().equals(body.getString("type"))) {
+				return null;
+			}
+			// The read permission on a node also affects the children info of its parent in all branches
+			return removeAffected(body.getString("uuid"), null, true);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Remove the entries which are affected by a change of the given node from the index.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the changed node
+	 * @param branchUuid
+	 *            Uuid of the branch in which the node was changed or null if all branches are affected
+	 * @param structural
+	 *            Whether the children of the parent of the node may have changed
+	 * @return Cache keys of the removed entries or null if no node was given and all entries are thus affected
+	 */
+	List<String> removeAffected(String nodeUuid, String branchUuid, boolean structural) {
+		if (nodeUuid == null) {
+			return null;
+		}
+		// An entry may be contained in multiple buckets
+		Set<Entry<V>> affected = new LinkedHashSet<>();
+		removeFromBranchBuckets(withAnyNode, branchUuid, affected);
+		if (structural) {
+			removeFromBranchBuckets(withChildren, branchUuid, affected);
+		}
+		removeFromBucket(byNode, nodeUuid, entry -> branchUuid == null || branchUuid.equals(entry.branchUuid), affected);
+
+		List<String> keys = new ArrayList<>(affected.size());
+		for (Entry<V> entry : affected) {
+			entries.remove(entry.key, entry);
+			// Also remove the entry from the other buckets
+			unindex(entry);
+			keys.add(entry.key);
+		}
+		return keys;
+	}
+
+	/**
+	 * Return the number of indexed entries.
+	 *
+	 * @return
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	private void unindex(Entry<V> entry) {
+		for (String nodeUuid : entry.nodeUuids) {
+			removeFromBucket(byNode, nodeUuid, e -> e == entry, null);
+		}
+		if (entry.children) {
+			removeFromBucket(withChildren, entry.branchUuid, e -> e == entry, null);
+		}
+		if (entry.anyNode) {
+			removeFromBucket(withAnyNode, entry.branchUuid, e -> e == entry, null);
+		}
+	}
+
+	private static String uuidOf(JsonObject reference) {
+		return reference == null ? null : reference.getString("uuid");
+	}
+
+	private static <V> void removeFromBranchBuckets(Map<String, Map<String, Entry<V>>> buckets, String branchUuid, Collection<Entry<V>> removed) {
+		if (branchUuid == null) {
+			for (String branch : buckets.keySet()) {
+				removeFromBucket(buckets, branch, entry -> true, removed);
+			}
+		} else {
+			removeFromBucket(buckets, branchUuid, entry -> true, removed);
+		}
+	}
+
+	private static <V> void addToBucket(Map<String, Map<String, Entry<V>>> buckets, String bucketKey, Entry<V> entry) {
+		buckets.compute(bucketKey, (k, bucket) -> {
+			if (bucket == null) {
+				bucket = new HashMap<>();
+			}
+			bucket.put(entry.key, entry);
+			return bucket;
+		});
+	}
+
+	private static <V> void removeFromBucket(Map<String, Map<String, Entry<V>>> buckets, String bucketKey, Predicate<Entry<V>> filter,
+		Collection<Entry<V>> removed) {
+		buckets.computeIfPresent(bucketKey, (k, bucket) -> {
+			Iterator<Entry<V>> it = bucket.values().iterator();
+			while (it.hasNext()) {
+				Entry<V> entry = it.next();
+				if (filter.test(entry)) {
+					it.remove();
+					if (removed != null) {
+						removed.add(entry);
+					}
+				}
+			}
+			return bucket.isEmpty() ? null : bucket;
+		});
+	}
+
+	private static class Entry<V> {
+
+		private final String key;
+
+		private final String branchUuid;
+
+		private final V value;
+
+		private final Set<String> nodeUuids;
+
+		private final boolean children;
+
+		private final boolean anyNode;
+
+		Entry(String key, String branchUuid, V value, Set<String> nodeUuids, boolean children, boolean anyNode) {
+			this.key = key;
+			this.branchUuid = branchUuid;
+			this.value = value;
+			this.nodeUuids = nodeUuids;
+			this.children = children;
+			this.anyNode = anyNode;
+		}
+	}
+
+}
@@ -1,15 +1,29 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_ROLE;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.syncleus.ferma.FramedGraph;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
@@ -17,27 +31,51 @@ import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * <p>
+ * Two caches are used. The first one contains the {@link ElementPermissions} of elements keyed by the vertex id of the element. The second one contains the
+ * role bitsets of users keyed by the vertex id of the user. The bit of a role is the dense index which is assigned to the role uuid when the role is seen for the
+ * first time. Entries are only cached when they are loaded within a transaction without uncommitted changes, so that the caches only contain committed data
+ * of persistent elements.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<Object, ElementPermissions> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String ROLE_EDGE_INDEX = ("e." + ASSIGNED_TO_ROLE + "_out").toLowerCase();
+
+	private static final int READ_MASK = ElementPermissions.bit(READ_PERM) | ElementPermissions.bit(READ_PUBLISHED_PERM);
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
+	private final EventAwareCache<Object, BitSet> userRoles;
+
+	private final Map<String, Integer> roleIndices = new ConcurrentHashMap<>();
+
+	private final AtomicInteger nextRoleIndex = new AtomicInteger();
+
+	/**
+	 * Indices of the roles which have been deleted. The bits of deleted roles may still be set in cached role sets of users.
+	 */
+	private volatile BitSet deletedRoles = new BitSet();
+
 	private static final long CACHE_SIZE = 100_000;
 
+	private static final long USER_CACHE_SIZE = 10_000;
+
 	@Inject
 	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
 		super(createCache(factory), registry, CACHE_SIZE);
 		this.vertx = vertx;
 		this.options = options;
+		this.userRoles = createUserRoleCache(factory);
+		registry.register(userRoles);
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
+	private static EventAwareCache<Object, ElementPermissions> createCache(EventAwareCacheFactory factory) {
+		return factory.<Object, ElementPermissions>builder()
 			.events(CLEAR_PERMISSION_STORE)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
@@ -51,44 +89,142 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 			.build();
 	}
 
+	private static EventAwareCache<Object, BitSet> createUserRoleCache(EventAwareCacheFactory factory) {
+		return factory.<Object, BitSet>builder()
+			.events(CLEAR_PERMISSION_STORE)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing user role store due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(USER_CACHE_SIZE)
+			.name("permission_roles")
+			.build();
+	}
+
 	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
+	 * Return the permissions which the user has been granted on the element.
+	 *
 	 * @param userId
 	 *            Vertex id of the user
-	 * @param permission
-	 *            Permission to check against
 	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 *            Vertex id of the element
+	 * @return Bitmask of the granted permission ordinals
 	 */
-	public boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+	@Override
+	public int getPermissionMask(Object userId, Object elementId) {
+		// Permissions which were loaded within a transaction with uncommitted changes may still be rolled back. New elements also only have temporary ids
+		// which will change once they are committed.
+		boolean cacheable = !isDisabled() && !Tx.get().hasUncommittedChanges();
+		ElementPermissions permissions = cacheable ? get(elementId, this::loadElementPermissions) : loadElementPermissions(elementId);
+		if (permissions == null) {
+			return 0;
+		}
+		BitSet roles = cacheable ? userRoles.get(userId, this::loadUserRoles) : loadUserRoles(userId);
+		int mask = permissions.getPermissionMask(roles, deletedRoles);
+		// Read permission also includes read published.
+		if (ElementPermissions.isSet(mask, READ_PERM)) {
+			mask |= READ_MASK;
+		}
+		return mask;
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
+	 * Load the permissions of the element from the graph.
+	 *
 	 * @param elementId
+	 * @return Loaded permissions or null if the element could not be found
+	 */
+	private ElementPermissions loadElementPermissions(Object elementId) {
+		Vertex vertex = Tx.get().getGraph().getVertex(elementId);
+		if (vertex == null) {
+			return null;
+		}
+		Map<Integer, Integer> roleMasks = new HashMap<>();
+		for (GraphPermission permission : GraphPermission.values()) {
+			Set<String> roleUuids = vertex.getProperty(permission.propertyKey());
+			if (roleUuids == null) {
+				continue;
+			}
+			int bit = ElementPermissions.bit(permission);
+			for (String roleUuid : roleUuids) {
+				roleMasks.merge(roleIndex(roleUuid), bit, (a, b) -> a | b);
+			}
+		}
+		return ElementPermissions.of(roleMasks);
+	}
+
+	/**
+	 * Load the roles of the user from the graph by using the shortcut edges from the index.
+	 *
+	 * @param userId
+	 * @return Bitset of the role indices
+	 */
+	private BitSet loadUserRoles(Object userId) {
+		FramedGraph graph = Tx.get().getGraph();
+		BitSet roles = new BitSet();
+		for (Edge roleEdge : graph.getEdges(ROLE_EDGE_INDEX, userId)) {
+			Vertex role = roleEdge.getVertex(Direction.IN);
+			roles.set(roleIndex(role.getProperty("uuid")));
+		}
+		return roles;
+	}
+
+	/**
+	 * Return the index of the role. A new index is assigned if the role has not been seen before.
+	 *
+	 * @param roleUuid
 	 * @return
 	 */
-	private String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	private int roleIndex(String roleUuid) {
+		Integer index = roleIndices.get(roleUuid);
+		if (index != null) {
+			return index;
+		}
+		return roleIndices.computeIfAbsent(roleUuid, uuid -> nextRoleIndex.getAndIncrement());
+	}
+
+	/**
+	 * Invalidate the cached roles of the user.
+	 *
+	 * @param userId
+	 *            Vertex id of the user
+	 */
+	@Override
+	public void invalidateUser(Object userId) {
+		userRoles.invalidate(userId);
+	}
+
+	/**
+	 * Invalidate the role. The role will be ignored in all cached role sets of users.
+	 *
+	 * @param roleUuid
+	 *            Uuid of the role
+	 */
+	@Override
+	public synchronized void invalidateRole(String roleUuid) {
+		Integer index = roleIndices.get(roleUuid);
+		// Roles without an index can't be contained in any cached entry
+		if (index != null && !deletedRoles.get(index)) {
+			// The bitset is copied so that concurrent readers never see a modified set
+			BitSet deleted = (BitSet) deletedRoles.clone();
+			deleted.set(index);
+			deletedRoles = deleted;
+		}
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	@Override
 	public void clear(boolean notify) {
 		// Invalidate locally
 		cache.invalidate();
+		userRoles.invalidate();
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
@@ -105,16 +241,20 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	}
 
 	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
+	 * Invalidate the cached permissions of the element.
+	 *
 	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 *            Vertex id of the element
+	 * @param notify
+	 *            Whether other instances in the cluster should be notified. Other instances will clear their caches completely. This is only needed if
+	 *            the change of the permissions is not announced by a {@link com.gentics.mesh.core.rest.MeshEvent#ROLE_PERMISSIONS_CHANGED} event.
 	 */
-	public void store(Object userId, GraphPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+	@Override
+	public void invalidate(Object elementId, boolean notify) {
+		cache.invalidate(elementId);
+		if (notify && options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
+		}
 	}
+
 }
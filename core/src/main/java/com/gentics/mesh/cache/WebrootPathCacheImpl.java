@@ -10,24 +10,35 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 
-import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ * <p>
+ * The cache keeps a {@link WebrootPathIndex} of the nodes through which the cached paths pass. Node events will thus only evict the paths which contain
+ * the affected node in the affected branch, type and language. This also covers the subtree of a moved node. Paths which could not be resolved are
+ * evicted on every node event of their branch.
  */
 @Singleton
 public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
@@ -45,25 +56,53 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		NODE_CONTENT_DELETED,
 		SCHEMA_MIGRATION_FINISHED };
 
+	private final WebrootPathIndex<Path> index;
+
 	@Inject
 	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		this(new WebrootPathIndex<>(), factory, registry, options);
+	}
+
+	private WebrootPathCacheImpl(WebrootPathIndex<Path> index, EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(index, factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		this.index = index;
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+	private static EventAwareCache<String, Path> createCache(WebrootPathIndex<Path> index, EventAwareCacheFactory factory, CacheConfig config) {
 		return factory.<String, Path>builder()
 			.events(EVENTS)
-			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
-				}
-				cache.invalidate();
-			})
+			.action((event, cache) -> invalidate(index, event, cache))
+			.removalListener(index::remove)
 			.name("webroot")
 			.maxSize(config.getPathCacheSize())
 			.build();
 	}
 
+	/**
+	 * Invalidate the cached paths which are affected by the event.
+	 *
+	 * @param index
+	 * @param event
+	 * @param cache
+	 */
+	private static void invalidate(WebrootPathIndex<Path> index, Message<JsonObject> event, EventAwareCache<String, Path> cache) {
+		MeshEvent meshEvent = MeshEvent.fromAddress(event.address()).orElse(null);
+		List<String> keys = null;
+		if (meshEvent != CLEAR_PATH_STORE && meshEvent != SCHEMA_MIGRATION_FINISHED) {
+			keys = index.removeAffected(meshEvent, event.body());
+		}
+		if (keys == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing path store due to received event from {" + event.address() + "}");
+			}
+			cache.invalidate();
+			return;
+		}
+		for (String key : keys) {
+			cache.invalidate(key);
+		}
+	}
+
 	@Override
 	public Path getPath(Project project, Branch branch, ContainerType type, String path) {
 		if (isDisabled()) {
@@ -81,7 +120,30 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		String key = createCacheKey(project, branch, type, path);
+		// Put the path first so that a replaced path has already been removed from the index
+		cache.put(key, resolvedPath);
+		index.add(key, branch.getUuid(), type, resolvedPath, segmentLanguages(resolvedPath));
+	}
+
+	/**
+	 * Return the language tags of the segments of the path by the uuids of the nodes of the segments.
+	 *
+	 * @param path
+	 * @return Languages by node uuid or null if the path could not be resolved
+	 */
+	private Map<String, String> segmentLanguages(Path path) {
+		if (path.isPrefixMismatch() || !path.isFullyResolved()) {
+			return null;
+		}
+		Map<String, String> languages = new HashMap<>();
+		for (PathSegment segment : path.getSegments()) {
+			NodeGraphFieldContainer container = segment.getContainer();
+			if (container != null) {
+				languages.put(container.getParentNode().getUuid(), segment.getLanguageTag());
+			}
+		}
+		return languages;
 	}
 
 	/**
@@ -0,0 +1,235 @@
+package com.gentics.mesh.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Index of the entries of path caches (e.g. {@link WebrootPathCacheImpl}) which knows the nodes through which the cached paths pass. This allows the caches
+ * to only evict the paths which are affected by a change of a node instead of clearing the whole cache.
+ * <p>
+ * Paths which could not be resolved are tracked separately per branch since any created, updated or moved node may make them resolvable.
+ * <p>
+ * All buckets are only accessed within {@link ConcurrentHashMap#compute(Object, java.util.function.BiFunction)} so that entries can't get lost when a
+ * bucket is removed while another thread adds an entry to it.
+ */
+class WebrootPathIndex<V> {
+
+	/**
+	 * Indexed entries by cache key.
+	 */
+	private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries of resolved paths by the uuids of the nodes which are part of the path.
+	 */
+	private final Map<String, Map<String, Entry<V>>> byNode = new ConcurrentHashMap<>();
+
+	/**
+	 * Entries of paths which could not be resolved by branch uuid.
+	 */
+	private final Map<String, Map<String, Entry<V>>> unresolved = new ConcurrentHashMap<>();
+
+	/**
+	 * Add the cached path to the index. The path must already have been put into the cache so that replacing it did already remove the previous entry.
+	 *
+	 * @param key
+	 *            Cache key
+	 * @param branchUuid
+	 *            Uuid of the branch for which the path was resolved
+	 * @param type
+	 *            Type of the resolved contents
+	 * @param value
+	 *            Cached value
+	 * @param languages
+	 *            Language tags of the resolved path segments by the uuids of the nodes of the segments. A null language tag is affected by changes of any
+	 *            language. Null if the path could not be resolved.
+	 */
+	void add(String key, String branchUuid, ContainerType type, V value, Map<String, String> languages) {
+		Entry<V> entry = new Entry<>(key, branchUuid, type, value, languages);
+		Entry<V> previous = entries.put(key, entry);
+		if (previous != null) {
+			unindex(previous);
+		}
+		if (languages == null) {
+			addToBucket(unresolved, branchUuid, entry);
+		} else {
+			for (String nodeUuid : languages.keySet()) {
+				addToBucket(byNode, nodeUuid, entry);
+			}
+		}
+	}
+
+	/**
+	 * Remove the entry of the value which was removed from the cache. Entries which were replaced by another value in the meantime are kept.
+	 *
+	 * @param key
+	 * @param value
+	 */
+	@SuppressWarnings("unchecked")
+	void remove(String key, V value) {
+		Entry<V>[] removed = new Entry[1];
+		entries.computeIfPresent(key, (k, entry) -> {
+			if (entry.value == value) {
+				removed[0] = entry;
+				return null;
+			}
+			return entry;
+		});
+		if (removed[0] != null) {
+			unindex(removed[0]);
+		}
+	}
+
+	/**
+	 * Remove the entries which are affected by the node event from the index.
+	 *
+	 * @param event
+	 *            Received node event
+	 * @param body
+	 *            Body of the event
+	 * @return Cache keys of the removed entries or null if the event does not reference a node and all entries are thus affected
+	 */
+	List<String> removeAffected(MeshEvent event, JsonObject body) {
+		String nodeUuid = body == null ? null : body.getString("uuid");
+		if (nodeUuid == null) {
+			return null;
+		}
+		String branchUuid = body.getString("branchUuid");
+		String type = body.getString("type");
+		String languageTag = body.getString("languageTag");
+		// Moving or deleting a node affects the paths of all contents of the node
+		if (event == MeshEvent.NODE_MOVED || event == MeshEvent.NODE_DELETED) {
+			type = null;
+			languageTag = null;
+		}
+		return removeAffected(nodeUuid, branchUuid, type == null ? null : ContainerType.valueOf(type), languageTag);
+	}
+
+	/**
+	 * Remove the entries which are affected by a change of the given node from the index.
+	 *
+	 * @param nodeUuid
+	 *            Uuid of the changed node
+	 * @param branchUuid
+	 *            Uuid of the branch in which the node was changed or null if all branches are affected
+	 * @param type
+	 *            Type of the changed contents or null if all types are affected
+	 * @param languageTag
+	 *            Language of the changed contents or null if all languages are affected
+	 * @return Cache keys of the removed entries
+	 */
+	List<String> removeAffected(String nodeUuid, String branchUuid, ContainerType type, String languageTag) {
+		List<Entry<V>> affected = new ArrayList<>();
+		if (branchUuid == null) {
+			for (String branch : unresolved.keySet()) {
+				removeFromBucket(unresolved, branch, entry -> true, affected);
+			}
+		} else {
+			removeFromBucket(unresolved, branchUuid, entry -> true, affected);
+		}
+		removeFromBucket(byNode, nodeUuid, entry -> entry.isAffected(nodeUuid, branchUuid, type, languageTag), affected);
+
+		List<String> keys = new ArrayList<>(affected.size());
+		for (Entry<V> entry : affected) {
+			entries.remove(entry.key, entry);
+			// Also remove the entry from the buckets of the other nodes of the path
+			unindex(entry);
+			keys.add(entry.key);
+		}
+		return keys;
+	}
+
+	/**
+	 * Return the number of indexed entries.
+	 *
+	 * @return
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	private void unindex(Entry<V> entry) {
+		if (entry.languages == null) {
+			removeFromBucket(unresolved, entry.branchUuid, e -> e == entry, null);
+		} else {
+			for (String nodeUuid : entry.languages.keySet()) {
+				removeFromBucket(byNode, nodeUuid, e -> e == entry, null);
+			}
+		}
+	}
+
+	private static <V> void addToBucket(Map<String, Map<String, Entry<V>>> buckets, String bucketKey, Entry<V> entry) {
+		buckets.compute(bucketKey, (k, bucket) -> {
+			if (bucket == null) {
+				bucket = new HashMap<>();
+			}
+			bucket.put(entry.key, entry);
+			return bucket;
+		});
+	}
+
+	private static <V> void removeFromBucket(Map<String, Map<String, Entry<V>>> buckets, String bucketKey, Predicate<Entry<V>> filter,
+		List<Entry<V>> removed) {
+		buckets.computeIfPresent(bucketKey, (k, bucket) -> {
+			Iterator<Entry<V>> it = bucket.values().iterator();
+			while (it.hasNext()) {
+				Entry<V> entry = it.next();
+				if (filter.test(entry)) {
+					it.remove();
+					if (removed != null) {
+						removed.add(entry);
+					}
+				}
+			}
+			return bucket.isEmpty() ? null : bucket;
+		});
+	}
+
+	private static class Entry<V> {
+
+		private final String key;
+
+		private final String branchUuid;
+
+		private final ContainerType type;
+
+		private final V value;
+
+		private final Map<String, String> languages;
+
+		Entry(String key, String branchUuid, ContainerType type, V value, Map<String, String> languages) {
+			this.key = key;
+			this.branchUuid = branchUuid;
+			this.type = type;
+			this.value = value;
+			this.languages = languages;
+		}
+
+		/**
+		 * Check whether the path is affected by the change of the node. Segments without a language (e.g. the path of the base node) are affected by
+		 * changes of any language.
+		 */
+		boolean isAffected(String nodeUuid, String changedBranchUuid, ContainerType changedType, String changedLanguageTag) {
+			if (changedBranchUuid != null && !changedBranchUuid.equals(branchUuid)) {
+				return false;
+			}
+			if (changedType != null && changedType != type) {
+				return false;
+			}
+			String languageTag = languages.get(nodeUuid);
+			return changedLanguageTag == null || languageTag == null || Objects.equals(changedLanguageTag, languageTag);
+		}
+	}
+
+}
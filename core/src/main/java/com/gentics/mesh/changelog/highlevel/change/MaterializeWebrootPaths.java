@@ -0,0 +1,75 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.GraphFieldContainerEdge;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which will set the materialized webroot paths of all draft and published {@link GraphFieldContainerEdge}s.
+ */
+@Singleton
+public class MaterializeWebrootPaths extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(MaterializeWebrootPaths.class);
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	@Inject
+	public MaterializeWebrootPaths(Lazy<BootstrapInitializer> boot) {
+		this.boot = boot;
+	}
+
+	@Override
+	public String getUuid() {
+		return "4B1D6E2F0C8A4D3E9D6E2F0C8A0D3E11";
+	}
+
+	@Override
+	public String getName() {
+		return "Materialize Webroot Paths";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Sets the materialized webroot paths of all draft and published content edges.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		List<? extends Project> projects = boot.get().meshRoot().getProjectRoot().findAll().list();
+		for (Project project : projects) {
+			Node baseNode = project.getBaseNode();
+			List<? extends Branch> branches = project.getBranchRoot().findAll().list();
+			for (Branch branch : branches) {
+				String branchUuid = branch.getUuid();
+				log.info("Updating webroot paths of project {" + project.getName() + "} in branch {" + branch.getName() + "}");
+				for (Node child : baseNode.getChildren(branchUuid).list()) {
+					child.updateWebrootPaths(branchUuid, DRAFT, null);
+					child.updateWebrootPaths(branchUuid, PUBLISHED, null);
+					graph.commit();
+				}
+			}
+		}
+		log.info("Done updating the webroot paths");
+	}
+
+}
@@ -86,6 +86,8 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.EventEnvelope;
+import com.gentics.mesh.event.impl.EventEnvelopeCodec;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -500,6 +502,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		} else {
 			log.warn("Current environment does not support native transports");
 		}
+		vertx.eventBus().registerDefaultCodec(EventEnvelope.class, new EventEnvelopeCodec());
 
 		this.vertx = vertx;
 	}
@@ -74,7 +74,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = Collections.synchronizedSet(new HashSet<>());
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -859,6 +859,24 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		return conflicts;
 	}
 
+	/**
+	 * Create a context for a migration worker thread. The worker context shares the migration information and the set of encountered conflicts with this
+	 * context but uses its own parameters and data, since these are modified for every migrated container.
+	 *
+	 * @return
+	 */
+	public NodeMigrationActionContextImpl createWorkerContext() {
+		NodeMigrationActionContextImpl context = new NodeMigrationActionContextImpl();
+		context.conflicts = conflicts;
+		context.project = project;
+		context.branch = branch;
+		context.cause = cause;
+		context.fromContainerVersion = fromContainerVersion;
+		context.toContainerVersion = toContainerVersion;
+		context.status = status;
+		return context;
+	}
+
 	@Override
 	public SchemaMigrationCause getCause() {
 		return cause;
@@ -1,7 +1,6 @@
 package com.gentics.mesh.core.binary.impl;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashSet;
@@ -15,6 +14,7 @@ import javax.inject.Singleton;
 
 import org.apache.commons.collections4.map.HashedMap;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 
 import com.gentics.mesh.core.binary.AbstractBinaryProcessor;
@@ -119,7 +119,8 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				log.debug("Using parser limit of {" + len + "}");
 			}
 
-			try (FileInputStream ins = new FileInputStream(uploadFile)) {
+			// Parsers which need random access (e.g. MP4) can directly use the upload file instead of spooling the stream into a temporary file
+			try (TikaInputStream ins = TikaInputStream.get(uploadFile.toPath())) {
 				TikaResult pr = parseFile(ins, len);
 
 				Consumer<BinaryGraphField> consumer = field -> {
@@ -300,18 +300,23 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n) {
+		// The segment may change. Cached paths must not be used for links which are rendered within this transaction.
+		Node node = getParentNode();
+		mesh().nodePathCache().invalidateNode(node.getUuid());
 		Set<String> urlFieldValues = getUrlFieldValues();
 		Iterator<? extends GraphFieldContainerEdge> it = getContainerEdge(DRAFT, branchUuid);
 		if (it.hasNext()) {
 			GraphFieldContainerEdge draftEdge = it.next();
 			updateWebrootPathInfo(ac, draftEdge, branchUuid, conflictI18n, DRAFT);
 			updateWebrootUrlFieldsInfo(draftEdge, branchUuid, urlFieldValues, DRAFT);
+			node.updateWebrootPaths(branchUuid, DRAFT, getLanguageTag());
 		}
 		it = getContainerEdge(PUBLISHED, branchUuid);
 		if (it.hasNext()) {
 			GraphFieldContainerEdge publishEdge = it.next();
 			updateWebrootPathInfo(ac, publishEdge, branchUuid, conflictI18n, PUBLISHED);
 			updateWebrootUrlFieldsInfo(publishEdge, branchUuid, urlFieldValues, PUBLISHED);
+			node.updateWebrootPaths(branchUuid, PUBLISHED, getLanguageTag());
 		}
 	}
 
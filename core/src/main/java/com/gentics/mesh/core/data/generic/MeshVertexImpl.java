@@ -121,6 +121,9 @@ public class MeshVertexImpl extends AbstractVertexFrame implements MeshVertex {
 		if (this instanceof MeshCoreVertex) {
 			MeshCoreVertex<?, ?> coreVertex = (MeshCoreVertex<?, ?>) this;
 			batch.add(coreVertex.onPermissionChanged(role));
+		} else {
+			// Other instances can't invalidate the element without an event and need to clear their caches
+			mesh().permissionCache().invalidate(id(), true);
 		}
 		// TODO Also handle RootVertex - We need to add a dedicated event in those cases.
 	}
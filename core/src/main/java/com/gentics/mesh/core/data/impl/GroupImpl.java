@@ -88,6 +88,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		mesh().permissionCache().invalidateUser(user.id());
+		mesh().authUserCache().invalidate(user.getUuid());
 	}
 
 	@Override
@@ -96,7 +98,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(user.id());
+		mesh().authUserCache().invalidate(user.getUuid());
 	}
 
 	@Override
@@ -111,8 +114,9 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		// Add shortcut edges from role to users of this group
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			mesh().permissionCache().invalidateUser(user.id());
+			mesh().authUserCache().invalidate(user.getUuid());
 		}
-
 	}
 
 	@Override
@@ -122,8 +126,9 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		// Update the shortcut edges since the role does no longer belong to the group
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			mesh().permissionCache().invalidateUser(user.id());
+			mesh().authUserCache().invalidate(user.getUuid());
 		}
-		mesh().permissionCache().clear();
 	}
 
 	@Override
@@ -195,6 +200,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		}
 		bac.process();
 		mesh().permissionCache().clear();
+		mesh().authUserCache().clear();
 	}
 
 	@Override
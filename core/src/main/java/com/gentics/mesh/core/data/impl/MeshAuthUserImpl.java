@@ -27,6 +27,12 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 
 	private String uuid;
 
+	private Boolean admin;
+
+	private String apiKeyTokenCode;
+
+	private boolean apiKeyTokenCodeLoaded;
+
 	@Override
 	public String getUuid() {
 		// Cache the user uuid so that we can reuse it during the login process
@@ -38,6 +44,37 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 		return uuid;
 	}
 
+	@Override
+	public boolean hasAdminRole() {
+		// Cache the admin flag since the user may be reused by the auth user cache. The cache entry is invalidated when the roles change.
+		if (admin == null) {
+			admin = super.hasAdminRole();
+		}
+		return admin;
+	}
+
+	@Override
+	public String getAPIKeyTokenCode() {
+		// Cache the token code to validate API keys without accessing the graph. The cache entry is invalidated when a new token is issued.
+		if (!apiKeyTokenCodeLoaded) {
+			apiKeyTokenCode = super.getAPIKeyTokenCode();
+			apiKeyTokenCodeLoaded = true;
+		}
+		return apiKeyTokenCode;
+	}
+
+	@Override
+	public com.gentics.mesh.core.data.User setAPITokenId(String code) {
+		apiKeyTokenCodeLoaded = false;
+		return super.setAPITokenId(code);
+	}
+
+	@Override
+	public void resetAPIToken() {
+		apiKeyTokenCodeLoaded = false;
+		super.resetAPIToken();
+	}
+
 	/**
 	 * An active transaction is required in order to load the json data.
 	 */
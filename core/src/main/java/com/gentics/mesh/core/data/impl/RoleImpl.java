@@ -69,6 +69,8 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 	@Override
 	public void setName(String name) {
 		property("name", name);
+		// The name determines the admin flag of the users
+		mesh().authUserCache().clear();
 	}
 
 	@Override
@@ -114,6 +116,8 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
 		}
+		// Other instances are informed by the permission changed event
+		mesh().permissionCache().invalidate(vertex.id(), false);
 	}
 
 	@Override
@@ -154,16 +158,18 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		}
 
 		if (permissionRevoked) {
-			mesh().permissionCache().clear();
+			mesh().permissionCache().invalidate(vertex.id(), false);
 		}
 	}
 
 	@Override
 	public void delete(BulkActionContext bac) {
+		String uuid = getUuid();
 		bac.add(onDeleted());
 		getVertex().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRole(uuid);
+		mesh().authUserCache().clear();
 	}
 
 	@Override
@@ -18,12 +18,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -31,6 +32,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.ElementPermissions;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
@@ -68,11 +70,9 @@ import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
 import com.gentics.mesh.util.ETag;
-import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
-import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
@@ -305,14 +305,18 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Set<GraphPermission> getPermissions(MeshVertex vertex) {
-		Predicate<? super GraphPermission> isValidPermission = perm -> perm != READ_PUBLISHED_PERM && perm != PUBLISH_PERM
-			|| vertex.hasPublishPermissions();
-
-		return Stream.of(GraphPermission.values())
+		// A single lookup answers all permissions
+		int mask = mesh().permissionCache().getPermissionMask(id(), vertex.id());
+		boolean hasPublishPermissions = vertex.hasPublishPermissions();
+		Set<GraphPermission> permissions = EnumSet.noneOf(GraphPermission.class);
+		for (GraphPermission perm : GraphPermission.values()) {
 			// Don't check for publish perms if it does not make sense for the vertex type
-			.filter(isValidPermission)
-			.filter(perm -> hasPermission(vertex, perm))
-			.collect(Collectors.toSet());
+			boolean isValidPermission = perm != READ_PUBLISHED_PERM && perm != PUBLISH_PERM || hasPublishPermissions;
+			if (isValidPermission && ElementPermissions.isSet(mask, perm)) {
+				permissions.add(perm);
+			}
+		}
+		return permissions;
 	}
 
 	@Override
@@ -327,38 +331,20 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
+		return mesh().permissionCache().hasPermission(id(), permission, elementId);
+	}
+
+	@Override
+	public Set<Object> getPermittedIds(Collection<?> elementIds, GraphPermission permission) {
 		PermissionCache permissionCache = mesh().permissionCache();
-		if (permissionCache.hasPermission(id(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			Vertex vertex = graph.getVertex(elementId);
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.store(id(), permission, elementId);
-					return true;
-				}
-			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
+		Object userId = id();
+		Set<Object> permitted = new HashSet<>();
+		for (Object elementId : elementIds) {
+			if (permissionCache.hasPermission(userId, permission, elementId)) {
+				permitted.add(elementId);
 			}
 		}
-
+		return permitted;
 	}
 
 	@Override
@@ -513,6 +499,8 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 			String key = perm.propertyKey();
 			targetNode.property(key, sourceNode.property(key));
 		}
+		// The target is usually a new element which can't be cached by other instances yet
+		mesh().permissionCache().invalidate(targetNode.id(), false);
 		return this;
 	}
 
@@ -528,9 +516,12 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.add(onDeleted());
+		Object id = id();
+		String uuid = getUuid();
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(id);
+		mesh().authUserCache().invalidate(uuid);
 	}
 
 	/**
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.job.impl;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_BRANCH;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FROM_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 
@@ -314,8 +315,14 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		return Completable.defer(() -> {
 
 			db().tx(() -> {
-				log.info("Processing job {" + getUuid() + "}");
-				setStartTimestamp();
+				JobStatus status = getStatus();
+				if (status == STARTING || status == RUNNING) {
+					// The job was interrupted. Migrations will continue with the elements which were not yet migrated.
+					log.info("Resuming job {" + getUuid() + "} with completion count {" + getCompletionCount() + "}");
+				} else {
+					log.info("Processing job {" + getUuid() + "}");
+					setStartTimestamp();
+				}
 				setStatus(STARTING);
 				setNodeName();
 			});
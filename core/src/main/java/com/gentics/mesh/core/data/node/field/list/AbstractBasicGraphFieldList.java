@@ -3,8 +3,8 @@ package com.gentics.mesh.core.data.node.field.list;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -14,8 +14,11 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored within a
+ * single list property of the vertex that represents the list. The size of the list and the item at a given index can thus be determined without reading
+ * and sorting all properties of the vertex.
+ * <p>
+ * The item fields access their value via the <code>item-N-[type]</code> property key. These keys are mapped to the position N-1 of the packed list.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -24,7 +27,20 @@ import com.gentics.mesh.util.CompareUtils;
  * @param <U>
  *            Value type that is stored in the list
  */
-public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
+public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U>
+	implements BasicListGraphField<T, RM, U> {
+
+	/**
+	 * Key of the property which stores the values of all list items.
+	 */
+	public static final String ITEMS_PROPERTY_KEY = "items";
+
+	private static final String ITEM_PREFIX = "item-";
+
+	/**
+	 * Postfix of the field key property which the item fields set when they are removed. It does not store an item value.
+	 */
+	private static final String FIELD_KEY_POSTFIX = "-field";
 
 	/**
 	 * Create a new field wrapper which is used to handle the field value.
@@ -34,11 +50,6 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 */
 	protected abstract T createField(String key);
 
-	protected T convertBasicValue(String itemKey) {
-		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
-		return createField(key);
-	}
-
 	/**
 	 * Load the field for the given index.
 	 * 
@@ -46,40 +57,140 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		return createField(ITEM_PREFIX + index);
 	}
 
 	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+		return createField(ITEM_PREFIX + (getSize() + 1));
+	}
+
+	/**
+	 * Return the packed values of the list items.
+	 * 
+	 * @return
+	 */
+	protected List<Object> getItems() {
+		List<Object> items = property(ITEMS_PROPERTY_KEY);
+		if (items == null) {
+			return Collections.emptyList();
+		}
+		return items;
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		return getItems().size();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
-			setProperty(key, null);
-		}
+		removeProperty(ITEMS_PROPERTY_KEY);
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
-		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
-		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
-			return index1 - index2;
-		}).forEachOrdered(itemKey -> {
-			list.add(convertBasicValue(itemKey));
-		});
+		int size = getItems().size();
+		List<T> list = new ArrayList<>(size);
+		for (int i = 1; i <= size; i++) {
+			list.add(getField(i));
+		}
 		return list;
 	}
 
+	@Override
+	public <E> E getProperty(String name) {
+		int index = itemIndex(name);
+		if (index < 0) {
+			return super.getProperty(name);
+		}
+		List<Object> items = getItems();
+		if (index >= items.size()) {
+			return null;
+		}
+		return (E) items.get(index);
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		int index = itemIndex(name);
+		if (index < 0) {
+			super.setProperty(name, value);
+			return;
+		}
+		List<Object> items = property(ITEMS_PROPERTY_KEY);
+		if (items == null) {
+			items = new ArrayList<>();
+		}
+		if (value == null) {
+			// Removing the value removes the item, like removing the item property did before the items were packed
+			if (index < items.size()) {
+				items.remove(index);
+				storeItems(items);
+			}
+			return;
+		}
+		if (index < items.size()) {
+			items.set(index, value);
+		} else if (index == items.size()) {
+			items.add(value);
+		} else {
+			throw new IndexOutOfBoundsException("Can't set item {" + (index + 1) + "} of list {" + getFieldKey() + "} with size {" + items.size() + "}");
+		}
+		storeItems(items);
+	}
+
+	@Override
+	public void setValues(List<U> values) {
+		List<Object> items = new ArrayList<>(values.size());
+		for (U value : values) {
+			if (value == null) {
+				throw new IllegalArgumentException("The list {" + getFieldKey() + "} must not contain null values");
+			}
+			items.add(toItemValue(value));
+		}
+		storeItems(items);
+	}
+
+	/**
+	 * Convert the value into the representation which is stored in the packed list. The representation must match the one which is used by the item fields.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	protected Object toItemValue(U value) {
+		return value;
+	}
+
+	private void storeItems(List<Object> items) {
+		if (items.isEmpty()) {
+			removeProperty(ITEMS_PROPERTY_KEY);
+		} else {
+			property(ITEMS_PROPERTY_KEY, items);
+		}
+	}
+
+	/**
+	 * Return the position within the packed list for the given item property key.
+	 * 
+	 * @param key
+	 *            Item property key (e.g. item-1-string)
+	 * @return Position or -1 if the key is not an item property key
+	 */
+	private static int itemIndex(String key) {
+		if (key == null || !key.startsWith(ITEM_PREFIX) || key.endsWith(FIELD_KEY_POSTFIX)) {
+			return -1;
+		}
+		int end = key.indexOf('-', ITEM_PREFIX.length());
+		if (end < 0) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(key.substring(ITEM_PREFIX.length(), end)) - 1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		container.unlinkOut(this, HAS_LIST);
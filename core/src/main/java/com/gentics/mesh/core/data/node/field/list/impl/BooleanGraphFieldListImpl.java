@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.node.field.list.impl;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -67,14 +68,14 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		graphBooleanFieldList = container.createBooleanList(fieldKey);
 
 		// Handle Update
-		// Remove all and add the listed items
-		graphBooleanFieldList.removeAll();
+		List<Boolean> values = new ArrayList<>();
 		for (Boolean item : booleanList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphBooleanFieldList.createBoolean(item);
+			values.add(item);
 		}
+		graphBooleanFieldList.setValues(values);
 
 	};
 
@@ -98,6 +99,12 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return field;
 	}
 
+	@Override
+	protected Object toItemValue(Boolean value) {
+		// The item fields store the flag as string
+		return String.valueOf(value);
+	}
+
 	@Override
 	protected BooleanGraphField createField(String key) {
 		return new BooleanGraphFieldImpl(key, this);
@@ -5,6 +5,7 @@ import static com.gentics.mesh.util.DateUtils.fromISO8601;
 import static com.gentics.mesh.util.DateUtils.toISO8601;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -68,13 +69,14 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		graphDateFieldList = container.createDateList(fieldKey);
 
 		// Handle Update
-		graphDateFieldList.removeAll();
+		List<Long> values = new ArrayList<>();
 		for (String item : dateList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphDateFieldList.createDate(fromISO8601(item));
+			values.add(fromISO8601(item));
 		}
+		graphDateFieldList.setValues(values);
 
 	};
 
@@ -93,6 +95,12 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return field;
 	}
 
+	@Override
+	protected Object toItemValue(Long value) {
+		// The item fields store the timestamp as string
+		return String.valueOf(value);
+	}
+
 	@Override
 	protected DateGraphField createField(String key) {
 		return new DateGraphFieldImpl(key, this);
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.node.field.list.impl;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -66,12 +67,14 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		graphHtmlFieldList = container.createHTMLList(fieldKey);
 
 		// Add items from rest model
+		List<String> values = new ArrayList<>();
 		for (String item : htmlList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphHtmlFieldList.createHTML(item);
+			values.add(item);
 		}
+		graphHtmlFieldList.setValues(values);
 	};
 
 	public static FieldGetter HTML_LIST_GETTER = (container, fieldSchema) -> {
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.node.field.list.impl;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -68,13 +69,14 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		graphNumberFieldList = container.createNumberList(fieldKey);
 
 		// Handle Update
-		graphNumberFieldList.removeAll();
+		List<Number> values = new ArrayList<>();
 		for (Number item : numberList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphNumberFieldList.createNumber(item);
+			values.add(item);
 		}
+		graphNumberFieldList.setValues(values);
 
 	};
 
@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.node.field.list.impl;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -67,13 +68,14 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		graphStringList = container.createStringList(fieldKey);
 
 		// Handle Update
-		graphStringList.removeAll();
+		List<String> values = new ArrayList<>();
 		for (String item : stringList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphStringList.createString(item);
+			values.add(item);
 		}
+		graphStringList.setValues(values);
 	};
 
 	public static FieldGetter STRING_LIST_GETTER = (container, fieldSchema) -> {
@@ -25,6 +25,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.forVersion;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
@@ -46,8 +47,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -87,6 +90,7 @@ import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.ElementSorting;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -162,6 +166,16 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Postfix of the ordered index on the project and the creation timestamp.
+	 */
+	public static final String PROJECT_CREATED_INDEX_POSTFIX = "project_created";
+
+	/**
+	 * Postfix of the index on the project and the schema.
+	 */
+	public static final String PROJECT_SCHEMA_INDEX_POSTFIX = "project_schema";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -193,6 +207,18 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("branch_parents")
 			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET));
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_SCHEMA_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
+
+		// Ordered index which is used to page the nodes of a project sorted by creation date
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_CREATED_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(CREATION_TIMESTAMP_PROPERTY_KEY, LONG)
+			.ordered());
 	}
 
 	@Override
@@ -247,6 +273,15 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		String cacheKey = getUuid() + branchUuid + type.getCode() + Arrays.toString(languageTag);
 		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
 
+			// Use the materialized path if the node and all parent nodes provide a segment in the first language
+			if (languageTag.length > 0 && languageTag[0] != null) {
+				GraphFieldContainerEdge edge = GraphFieldContainerEdgeImpl.findEdge(getId(), branchUuid, type.getCode(), languageTag[0]);
+				String path = edge == null ? null : edge.getWebrootPath();
+				if (path != null) {
+					return getPathPrefix(branchUuid) + path;
+				}
+			}
+
 			List<String> segments = new ArrayList<>();
 			String segment = getPathSegment(branchUuid, type, languageTag);
 			if (segment == null) {
@@ -279,19 +314,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			StringBuilder builder = new StringBuilder();
 
 			// Append the prefix first
-			Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
-			if (branch != null) {
-				String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
-				if (!prefix.isEmpty()) {
-					String[] prefixSegments = prefix.split("/");
-					for (String prefixSegment : prefixSegments) {
-						if (prefixSegment.isEmpty()) {
-							continue;
-						}
-						builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
-					}
-				}
-			}
+			builder.append(getPathPrefix(branchUuid));
 
 			Iterator<String> it = segments.iterator();
 			while (it.hasNext()) {
@@ -303,6 +326,140 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	}
 
+	/**
+	 * Return the encoded path prefix of the branch.
+	 * 
+	 * @param branchUuid
+	 * @return Prefix or empty string if the branch has no path prefix
+	 */
+	private String getPathPrefix(String branchUuid) {
+		StringBuilder builder = new StringBuilder();
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		if (branch != null) {
+			String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
+			if (!prefix.isEmpty()) {
+				String[] prefixSegments = prefix.split("/");
+				for (String prefixSegment : prefixSegments) {
+					if (prefixSegment.isEmpty()) {
+						continue;
+					}
+					builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
+				}
+			}
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public void updateWebrootPaths(String branchUuid, ContainerType type, String languageTag) {
+		Node parentNode = getParentNode(branchUuid);
+		// The base node does not provide a segment
+		if (parentNode == null) {
+			return;
+		}
+		updateWebrootPaths(this, branchUuid, type, languageTag, getWebrootPaths(parentNode, branchUuid, type));
+	}
+
+	/**
+	 * Update the materialized webroot paths of the children after contents of this node have been removed.
+	 * 
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTag
+	 *            language of the removed content or null for all languages
+	 */
+	private void updateChildWebrootPaths(String branchUuid, ContainerType type, String languageTag) {
+		Map<String, String> paths = getWebrootPaths(this, branchUuid, type);
+		for (Node child : getChildren(branchUuid)) {
+			updateWebrootPaths(child, branchUuid, type, languageTag, paths);
+		}
+	}
+
+	/**
+	 * Update the materialized webroot paths of the node and continue with the children if a path has changed.
+	 * 
+	 * @param node
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTag
+	 *            language of the paths to update or null for all languages
+	 * @param parentPaths
+	 *            materialized paths of the parent node by language or null if the parent node is the base node
+	 */
+	private static void updateWebrootPaths(Node node, String branchUuid, ContainerType type, String languageTag, Map<String, String> parentPaths) {
+		boolean changed = false;
+		Map<String, String> paths = new HashMap<>();
+		for (GraphFieldContainerEdge edge : GraphFieldContainerEdgeImpl.findEdges(node.getId(), branchUuid, type).list()) {
+			String edgeLanguageTag = edge.getLanguageTag();
+			String path = edge.getWebrootPath();
+			if (languageTag == null || languageTag.equals(edgeLanguageTag)) {
+				String newPath = composeWebrootPath(edge.getNodeContainer(), parentPaths, edgeLanguageTag);
+				if (!Objects.equals(path, newPath)) {
+					edge.setWebrootPath(newPath);
+					path = newPath;
+					changed = true;
+				}
+			}
+			if (path != null) {
+				paths.put(edgeLanguageTag, path);
+			}
+		}
+		if (changed) {
+			for (Node child : node.getChildren(branchUuid)) {
+				updateWebrootPaths(child, branchUuid, type, languageTag, paths);
+			}
+		}
+	}
+
+	/**
+	 * Return the materialized webroot paths of the node by language.
+	 * 
+	 * @param node
+	 * @param branchUuid
+	 * @param type
+	 * @return Paths by language or null for the base node
+	 */
+	private static Map<String, String> getWebrootPaths(Node node, String branchUuid, ContainerType type) {
+		if (node.getParentNode(branchUuid) == null) {
+			return null;
+		}
+		Map<String, String> paths = new HashMap<>();
+		for (GraphFieldContainerEdge edge : GraphFieldContainerEdgeImpl.findEdges(node.getId(), branchUuid, type)) {
+			String path = edge.getWebrootPath();
+			if (path != null) {
+				paths.put(edge.getLanguageTag(), path);
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Compose the webroot path of the container. Paths are only materialized if the parent nodes provide a segment in the language of the container, since
+	 * the segments of the parent nodes would otherwise depend on the language fallback of the request.
+	 * 
+	 * @param container
+	 * @param parentPaths
+	 * @param languageTag
+	 * @return Path without the path prefix of the branch or null
+	 */
+	private static String composeWebrootPath(NodeGraphFieldContainer container, Map<String, String> parentPaths, String languageTag) {
+		if (container == null) {
+			return null;
+		}
+		String segment = container.getSegmentFieldValue();
+		if (segment == null) {
+			return null;
+		}
+		String parentPath = "";
+		if (parentPaths != null) {
+			parentPath = parentPaths.get(languageTag);
+			if (parentPath == null) {
+				return null;
+			}
+		}
+		return parentPath + "/" + URIUtils.encodeSegment(segment);
+	}
+
 	@Override
 	public void assertPublishConsistency(InternalActionContext ac, Branch branch) {
 
@@ -1248,6 +1405,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		updateChildWebrootPaths(branchUuid, PUBLISHED, null);
 
 		assertPublishConsistency(ac, branch);
 
@@ -1323,6 +1481,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		updateChildWebrootPaths(branchUuid, PUBLISHED, languageTag);
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
@@ -1567,7 +1726,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public TransformablePage<? extends Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		// The children are loaded via the parents index. Sorted pages thus sort the children in-memory.
+		List<String> contentLanguageTags = languageTags == null || languageTags.isEmpty() ? ac.getNodeParameters().getLanguageList(options())
+			: languageTags;
+		ElementSorting<Node> sorting = ElementSorting.forNodes(pagingInfo, Function.identity(),
+			child -> child.findVersion(contentLanguageTags, branchUuid, type.getHumanCode()));
+		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo, sorting);
 	}
 
 	@Override
@@ -1864,6 +2028,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		updateChildWebrootPaths(branch.getUuid(), DRAFT, languageTag);
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLI
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE_ROOT;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
@@ -16,8 +17,10 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -42,10 +45,12 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.ElementSorting;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.SortField;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaReferenceInfo;
@@ -84,7 +89,19 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	@Override
 	public TransformablePage<? extends Node> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type), pagingInfo);
+		List<String> languageTags = ac.getNodeParameters().getLanguageList(options());
+		String branchUuid = ac.getBranch().getUuid();
+
+		// Content specific sort fields are applied by the page, which only retains the readable nodes of the requested page
+		ElementSorting<Node> sorting = ElementSorting.forNodeContents(pagingInfo, Function.identity(),
+			node -> selectContainer(node, languageTags, branchUuid, type, true));
+		if (sorting != null) {
+			Node cursorNode = findCursorNode(pagingInfo);
+			if (cursorNode != null) {
+				sorting = sorting.startingAt(cursorNode);
+			}
+		}
+		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type, pagingInfo), pagingInfo, sorting);
 	}
 
 	@Override
@@ -99,10 +116,32 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	@Override
 	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm) {
+		return filterReadable(ac, findAll(ac.getProject().getUuid()));
+	}
+
+	@Override
+	public Stream<? extends Node> findAllStream(InternalActionContext ac, GraphPermission perm, PagingParameters sorting, List<String> languageTags) {
+		if (sorting.getSortField() == null) {
+			// Validate the cursor of unsorted pages
+			findCursorNode(sorting);
+			return findAllStream(ac, perm);
+		}
+		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+		return filterReadable(ac, findAllSorted(ac, type, sorting, languageTags, false));
+	}
+
+	/**
+	 * Filter the nodes which are readable by the user of the action context.
+	 * 
+	 * @param ac
+	 * @param vertices
+	 * @return
+	 */
+	private Stream<? extends Node> filterReadable(InternalActionContext ac, Stream<Vertex> vertices) {
 		MeshAuthUser user = ac.getUser();
 		String branchUuid = ac.getBranch().getUuid();
 
-		return findAll(ac.getProject().getUuid())
+		return vertices
 			.filter(item -> {
 				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
 				if (hasRead) {
@@ -132,14 +171,115 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		));
 	}
 
-	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
+	/**
+	 * Finds all nodes of a project in the order which was selected via the sort parameters. Nodes sorted by creation date or schema are loaded lazily via
+	 * project specific indices and thus only the nodes which are needed for the requested page will be loaded. Pages sorted by creation date which start after
+	 * a cursor will seek the index to the sort value of the cursor node.
+	 * <p>
+	 * Contents may be shared by multiple branches and projects and there is thus no ordered content index which is scoped to the project, branch and type.
+	 * Nodes which should be sorted by a content specific property are therefore returned unsorted. The caller must sort them via
+	 * {@link ElementSorting#forNodeContents(PagingParameters, Function, Function)} after all filters have been applied.
+	 * 
+	 * @param ac
+	 * @param type
+	 *            Type of the contents which should be used for content specific properties
+	 * @param sorting
+	 *            Paging parameters which contain the sort parameters
+	 * @param languageTags
+	 *            Languages of the contents which should be used for content specific properties
+	 * @param anyLanguage
+	 *            Whether to fall back to any content of the node if no content for the languages could be found
+	 * @return
+	 */
+	private Stream<Vertex> findAllSorted(InternalActionContext ac, ContainerType type, PagingParameters sorting, List<String> languageTags,
+		boolean anyLanguage) {
+		String projectUuid = ac.getProject().getUuid();
+		boolean ascending = sorting.isAscending();
+		SortField sortField = sorting.getSortField();
+		Node cursorNode = findCursorNode(sorting);
+
+		switch (sortField) {
+		case CREATED:
+			if (cursorNode != null) {
+				return db().index().orderedVertexLookupFrom(NodeImpl.class, NodeImpl.PROJECT_CREATED_INDEX_POSTFIX, ascending,
+					cursorNode.getCreationTimestamp(), projectUuid);
+			}
+			return db().index().orderedVertexLookup(NodeImpl.class, NodeImpl.PROJECT_CREATED_INDEX_POSTFIX, ascending, projectUuid);
+		case SCHEMA:
+			// Nodes of the same schema are loaded via the index. The schemas are sorted by name.
+			Comparator<SchemaContainer> byName = Comparator.comparing(SchemaContainer::getName);
+			Stream<? extends SchemaContainer> schemas = mesh().boot().schemaContainerRoot().findAll().stream()
+				.sorted(ascending ? byName : byName.reversed());
+			if (cursorNode != null) {
+				// Skip the schemas which are sorted in front of the schema of the cursor node
+				String cursorSchemaName = cursorNode.getSchemaContainer().getName();
+				schemas = schemas.filter(schema -> {
+					int diff = schema.getName().compareTo(cursorSchemaName);
+					return ascending ? diff >= 0 : diff <= 0;
+				});
+			}
+			return schemas
+				.flatMap(schema -> toStream(db().getVertices(
+					NodeImpl.class,
+					new String[] { PROJECT_KEY_PROPERTY, SCHEMA_CONTAINER_KEY_PROPERTY },
+					new Object[] { projectUuid, schema.getUuid() })));
+		case EDITED:
+		case DISPLAY_FIELD:
+			if (cursorNode != null && selectContainer(cursorNode, languageTags, ac.getBranch().getUuid(), type, anyLanguage) == null) {
+				throw error(BAD_REQUEST, "error_invalid_paging_cursor", cursorNode.getUuid());
+			}
+			return findAll(projectUuid);
+		default:
+			throw error(BAD_REQUEST, "error_sort_field_not_supported", sortField.getSimpleName());
+		}
+	}
+
+	/**
+	 * Load the node which is referenced by the cursor of the paging parameters.
+	 * 
+	 * @param pagingInfo
+	 * @return Found node or null if no cursor was specified
+	 */
+	private Node findCursorNode(PagingParameters pagingInfo) {
+		String after = pagingInfo.getAfter();
+		if (after == null) {
+			return null;
+		}
+		Node node = findByUuid(after);
+		if (node == null) {
+			throw error(BAD_REQUEST, "error_invalid_paging_cursor", after);
+		}
+		return node;
+	}
+
+	/**
+	 * Select the content of the node which is used for content specific sort properties.
+	 */
+	private NodeGraphFieldContainer selectContainer(Node node, List<String> languageTags, String branchUuid, ContainerType type, boolean anyLanguage) {
+		NodeGraphFieldContainer selected = node.findVersion(languageTags, branchUuid, type.getHumanCode());
+		if (selected == null && anyLanguage) {
+			selected = node.getGraphFieldContainers(branchUuid, type).nextOrNull();
+		}
+		return selected;
+	}
+
+	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type, PagingParameters pagingInfo) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
 
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 
-		return findAll(ac.getProject().getUuid()).filter(item -> {
+		Stream<Vertex> vertices;
+		if (pagingInfo.getSortField() == null) {
+			// Validate the cursor of unsorted pages
+			findCursorNode(pagingInfo);
+			vertices = findAll(ac.getProject().getUuid());
+		} else {
+			vertices = findAllSorted(ac, type, pagingInfo, ac.getNodeParameters().getLanguageList(options()), true);
+		}
+
+		return vertices.filter(item -> {
 			// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
 			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, type);
 		}).filter(item -> {
@@ -54,7 +54,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleRead(InternalActionContext ac, String id) {
-		db.asyncTx((tx) -> {
+		db.asyncReadTx(() -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -110,7 +110,7 @@ public class PluginHandler extends AbstractHandler {
 	}
 
 	public void handleReadList(InternalActionContext ac) {
-		db.asyncTx((tx) -> {
+		db.asyncReadTx(() -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -39,7 +39,7 @@ public class AuthenticationRestHandler extends AbstractHandler {
 	 * @param ac
 	 */
 	public void handleMe(InternalActionContext ac) {
-		utils.syncTx(ac, tx -> {
+		utils.syncReadTx(ac, tx -> {
 			// TODO add permission check
 			MeshAuthUser requestUser = ac.getUser();
 			return requestUser.transformToRestSync(ac, 0);
@@ -89,9 +89,9 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetSchemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.singleReadTx(tx -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
-			return Single.just(getSchemaVersionsInfo(branch));
+			return getSchemaVersionsInfo(branch);
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
@@ -145,9 +145,9 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	 */
 	public void handleGetMicroschemaVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		db.asyncTx(() -> {
+		db.singleReadTx(tx -> {
 			Branch branch = getRootVertex(ac).loadObjectByUuid(ac, uuid, GraphPermission.READ_PERM);
-			return Single.just(getMicroschemaVersions(branch));
+			return getMicroschemaVersions(branch);
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
@@ -316,7 +316,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 	public void readTags(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.rxSyncTx(ac, (tx) -> {
+		utils.rxSyncReadTx(ac, (tx) -> {
 			Branch branch = ac.getProject().getBranchRoot().loadObjectByUuid(ac, uuid, READ_PERM);
 			TransformablePage<? extends Tag> tagPage = branch.getTags(ac.getUser(), ac.getPagingParameters());
 			return tagPage.transformToRest(ac, 0);
@@ -1,14 +1,25 @@
 package com.gentics.mesh.core.endpoint.migration;
 
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_BATCH_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_MIGRATED;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
 
+import com.gentics.madl.tx.TxAction1;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -23,11 +34,21 @@ import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteScope;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
+import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -43,11 +64,21 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	protected final Provider<EventQueueBatch> batchProvider;
 
-	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
+	protected final MeshOptions options;
+
+	private final Timer batchTimer;
+
+	private final Counter migratedCounter;
+
+	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options) {
 		this.db = db;
 		this.binaryFieldHandler = binaryFieldHandler;
 		this.metrics = metrics;
 		this.batchProvider = batchProvider;
+		this.options = options;
+		this.batchTimer = metrics.timer(MIGRATION_BATCH_TIME);
+		this.migratedCounter = metrics.counter(MIGRATION_MIGRATED);
 	}
 
 	/**
@@ -110,51 +141,177 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		newContainer.updateFieldsFromRest(ac, fields);
 	}
 
+	/**
+	 * Migrate the given elements with the configured amount of {@link ContentConfig#getMigrationWorkers() workers}.
+	 *
+	 * @see #migrateLoop(List, EventCauseInfo, MigrationStatusHandler, int, Function, TriConsumer)
+	 */
 	@ParametersAreNonnullByDefault
-	protected <T> List<Exception> migrateLoop(Iterable<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
-		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		EventQueueBatch sqb = batchProvider.get();
-		sqb.setCause(cause);
-		for (T container : containers) {
+	protected <T> List<Exception> migrateLoop(List<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
+		Function<List<T>, WriteLock> locker, TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
+		return migrateLoop(containers, cause, status, options.getContentOptions().getMigrationWorkers(), locker, migrator);
+	}
+
+	/**
+	 * Migrate the given elements. The elements are split into batches of {@link ContentConfig#getMigrationBatchSize()} elements which are migrated within a
+	 * single transaction each. The batches are processed by the given amount of worker threads. The progress is stored in the job after every batch. Since
+	 * migrated elements will no longer be selected for migration, a job which was interrupted will continue with the remaining elements when it is processed
+	 * again.
+	 *
+	 * @param containers
+	 *            Elements to migrate
+	 * @param cause
+	 *            Cause of the migration events
+	 * @param status
+	 *            Status which will be updated after every batch
+	 * @param workers
+	 *            Amount of worker threads. The elements are migrated in the calling thread if only a single worker is used.
+	 * @param locker
+	 *            Function which locks the elements of a batch. The lock is held until the transaction of the batch has been committed. May be null if the
+	 *            elements don't need to be locked.
+	 * @param migrator
+	 *            Migrator which will be invoked for every element. It must be thread safe if multiple workers are used.
+	 * @return Detected errors
+	 */
+	@ParametersAreNonnullByDefault
+	protected <T> List<Exception> migrateLoop(List<T> containers, EventCauseInfo cause, MigrationStatusHandler status, int workers,
+		Function<List<T>, WriteLock> locker, TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
+		int batchSize = options.getContentOptions().getMigrationBatchSize();
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		MigrationProgress progress = new MigrationProgress(containers.size());
+		List<List<T>> batches = Lists.partition(containers, batchSize);
+
+		if (workers <= 1) {
+			for (List<T> batch : batches) {
+				migrateBatch(batch, cause, status, locker, migrator, errorsDetected, progress);
+			}
+		} else {
+			log.info("Migrating {" + containers.size() + "} elements using {" + workers + "} workers");
+			ExecutorService executor = Executors.newFixedThreadPool(workers,
+				new ThreadFactoryBuilder().setNameFormat("mesh-migration-worker-%d").setDaemon(true).build());
 			try {
-				// Each container migration has its own search queue batch which is then combined with other batch entries.
-				// This prevents adding partial entries from failed migrations.
-				EventQueueBatch containerBatch = batchProvider.get();
-				db.tx(() -> {
-					migrator.accept(containerBatch, container, errorsDetected);
-				});
-				sqb.addAll(containerBatch);
-				status.incCompleted();
-				if (count % 50 == 0) {
-					log.info("Migrated containers: " + count);
+				List<Future<?>> futures = new ArrayList<>();
+				for (List<T> batch : batches) {
+					futures.add(executor.submit(() -> migrateBatch(batch, cause, status, locker, migrator, errorsDetected, progress)));
 				}
-				count++;
-			} catch (Exception e) {
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} catch (ExecutionException e) {
+				errorsDetected.add(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 				errorsDetected.add(e);
+			} finally {
+				executor.shutdownNow();
 			}
+		}
 
-			if (count % 500 == 0) {
-				// Process the batch and reset it
-				log.info("Syncing batch with size: " + sqb.size());
-				db.tx(() -> {
-					sqb.dispatch();
-					sqb.clear();
-				});
+		log.info("Migration of " + progress.getCompleted() + " elements done..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		return errorsDetected;
+	}
+
+	/**
+	 * Migrate the batch within a single transaction and dispatch the events of the batch. If the transaction fails, the elements of the batch are migrated
+	 * in dedicated transactions, so that a single failing element does not prevent the migration of the other elements. The elements are locked until their
+	 * transaction has been committed.
+	 */
+	private <T> void migrateBatch(List<T> batch, EventCauseInfo cause, MigrationStatusHandler status, Function<List<T>, WriteLock> locker,
+		TriConsumer<EventQueueBatch, T, List<Exception>> migrator, List<Exception> errorsDetected, MigrationProgress progress) {
+		Timer.Sample sample = Timer.start();
+		int migrated = 0;
+		try {
+			// The events and errors are collected within the transaction because the transaction may be retried
+			Tuple<EventQueueBatch, List<Exception>> result = lockedTx(batch, locker, () -> {
+				EventQueueBatch eventBatch = batchProvider.get();
+				List<Exception> errors = new ArrayList<>();
+				for (T container : batch) {
+					migrator.accept(eventBatch, container, errors);
+				}
+				return Tuple.tuple(eventBatch, errors);
+			});
+			errorsDetected.addAll(result.v2());
+			dispatch(result.v1(), cause);
+			migrated = batch.size();
+		} catch (Exception batchError) {
+			if (log.isDebugEnabled()) {
+				log.debug("Migration of batch failed. Migrating the elements of the batch separately.", batchError);
+			}
+			for (T container : batch) {
+				try {
+					Tuple<EventQueueBatch, List<Exception>> result = lockedTx(Collections.singletonList(container), locker, () -> {
+						EventQueueBatch eventBatch = batchProvider.get();
+						List<Exception> errors = new ArrayList<>();
+						migrator.accept(eventBatch, container, errors);
+						return Tuple.tuple(eventBatch, errors);
+					});
+					errorsDetected.addAll(result.v2());
+					dispatch(result.v1(), cause);
+					migrated++;
+				} catch (Exception e) {
+					errorsDetected.add(e);
+				}
 			}
 		}
-		if (sqb.size() > 0) {
-			log.info("Syncing last batch with size: " + sqb.size());
+		sample.stop(batchTimer);
+		if (metrics.isEnabled()) {
+			migratedCounter.increment(migrated);
+		}
+		progress.add(migrated);
+		checkpoint(status, migrated);
+	}
+
+	/**
+	 * Lock the nodes of the given containers. This is used to lock the elements of a batch.
+	 *
+	 * @param utils
+	 * @param projectId
+	 *            Vertex id of the project of the nodes
+	 * @param containers
+	 * @return Acquired lock
+	 */
+	protected WriteLock lockNodes(HandlerUtilities utils, Object projectId, List<? extends NodeGraphFieldContainer> containers) {
+		List<WriteScope> scopes = db.tx(() -> containers.stream()
+			.map(container -> WriteScope.node(projectId, container.getParentNode().getUuid()))
+			.collect(Collectors.toList()));
+		return utils.lock(scopes);
+	}
+
+	/**
+	 * Run the handler in a transaction while the given elements are locked.
+	 */
+	private <T, R> R lockedTx(List<T> elements, Function<List<T>, WriteLock> locker, TxAction1<R> handler) {
+		WriteLock lock = locker == null ? WriteLock.NONE : locker.apply(elements);
+		try {
+			return db.tx(handler);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void dispatch(EventQueueBatch batch, EventCauseInfo cause) {
+		if (batch.size() > 0) {
+			batch.setCause(cause);
 			db.tx(() -> {
-				sqb.dispatch();
+				batch.dispatch();
 			});
 		}
+	}
 
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
-		return errorsDetected;
+	/**
+	 * Store the progress of the migration in the job.
+	 */
+	private void checkpoint(MigrationStatusHandler status, int migrated) {
+		if (status == null) {
+			return;
+		}
+		synchronized (status) {
+			status.incCompleted(migrated);
+			db.tx(() -> {
+				status.commit();
+			});
+		}
 	}
 
 	/**
@@ -179,4 +336,39 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 			container.purge();
 		}
 	}
+
+	/**
+	 * Tracks the throughput of a migration and periodically logs the progress and the estimated remaining time.
+	 */
+	private static class MigrationProgress {
+
+		private static final long LOG_INTERVAL_MS = 10_000;
+
+		private final long total;
+
+		private final long start = System.currentTimeMillis();
+
+		private long completed;
+
+		private long lastLog = start;
+
+		MigrationProgress(long total) {
+			this.total = total;
+		}
+
+		synchronized void add(int migrated) {
+			completed += migrated;
+			long now = System.currentTimeMillis();
+			if (now - lastLog >= LOG_INTERVAL_MS || completed == total) {
+				lastLog = now;
+				double perSecond = completed * 1000d / Math.max(1, now - start);
+				long remainingSeconds = perSecond > 0 ? (long) ((total - completed) / perSecond) : -1;
+				log.info(String.format("Migrated %d of %d elements (%.1f/s), estimated remaining time: %ds", completed, total, perSecond, remainingSeconds));
+			}
+		}
+
+		synchronized long getCompleted() {
+			return completed;
+		}
+	}
 }
@@ -62,6 +62,13 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Increment the completion counter by the given amount.
+	 * 
+	 * @param amount
+	 */
+	void incCompleted(long amount);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
@@ -15,6 +15,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.context.BranchMigrationContext;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
@@ -22,7 +23,9 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
+import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.event.node.BranchMigrationCause;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.madl.traversal.TraversalResult;
@@ -39,8 +42,9 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 	private static final Logger log = LoggerFactory.getLogger(BranchMigrationHandler.class);
 
 	@Inject
-	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options);
 	}
 
 	/**
@@ -70,8 +74,9 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 			});
 
 			List<Exception> errorsDetected = new ArrayList<>();
-			// Iterate over all nodes of the project and migrate them to the new branch
-			migrateLoop(nodes, cause, status, (batch, node, errors) -> {
+			// Iterate over all nodes of the project and migrate them to the new branch. The nodes are migrated by a single worker since the migration of
+			// a node also modifies the tags of the node.
+			migrateLoop(nodes, cause, status, 1, null, (batch, node, errors) -> {
 				migrateNode(node, batch, oldBranch, newBranch, errorsDetected);
 			});
 
@@ -140,6 +145,8 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 						draftEdge.setSegmentInfo(null);
 					}
 					draftEdge.setUrlFieldInfo(container.getUrlFieldValues());
+					// The node structure of the new branch is the same, so the materialized path can be copied
+					draftEdge.setWebrootPath(getWebrootPath(node, oldBranch, DRAFT, container.getLanguageTag()));
 					batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
 				});
 
@@ -160,6 +167,7 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 						publishEdge.setSegmentInfo(null);
 					}
 					publishEdge.setUrlFieldInfo(container.getUrlFieldValues());
+					publishEdge.setWebrootPath(getWebrootPath(node, oldBranch, PUBLISHED, container.getLanguageTag()));
 					batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
 				});
 
@@ -172,6 +180,14 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 		}
 	}
 
+	/**
+	 * Return the materialized webroot path of the content of the node in the given branch.
+	 */
+	private String getWebrootPath(Node node, Branch branch, ContainerType type, String languageTag) {
+		GraphFieldContainerEdge edge = GraphFieldContainerEdgeImpl.findEdge(node.getId(), branch.getUuid(), type.getCode(), languageTag);
+		return edge == null ? null : edge.getWebrootPath();
+	}
+
 	/**
 	 * Create a new initial edge between node and container for the given branch.
 	 */
@@ -37,6 +37,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private long completionCount = 0;
 
+	private boolean completionCountLoaded = false;
+
 	private JobStatus status;
 
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, JobType type) {
@@ -45,11 +47,12 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public MigrationStatusHandler commit() {
+	public synchronized MigrationStatusHandler commit() {
 		// Load the status if it has not yet been set or loaded.
 		if (status == null) {
 			status = job.getStatus();
 		}
+		loadCompletionCount();
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
@@ -61,6 +64,17 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	}
 
+	/**
+	 * Load the stored completion count of the job once, so that the count is continued if the job is resumed after it has been interrupted. This must be
+	 * invoked within a transaction.
+	 */
+	private synchronized void loadCompletionCount() {
+		if (!completionCountLoaded) {
+			completionCount += job.getCompletionCount();
+			completionCountLoaded = true;
+		}
+	}
+
 	private ObjectName startJMX() throws MalformedObjectNameException {
 		String JMX_MBEAN_NAME = "com.gentics.mesh:type=NodeMigration";
 		ObjectName statusMBeanName = new ObjectName(JMX_MBEAN_NAME + ",name=" + "bogus");
@@ -122,18 +136,25 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public void setCompletionCount(long completionCount) {
+	public synchronized void setCompletionCount(long completionCount) {
 		this.completionCount = completionCount;
+		completionCountLoaded = true;
 	}
 
 	@Override
 	public void setStatus(JobStatus status) {
+		loadCompletionCount();
 		this.status = status;
 	}
 
 	@Override
-	public void incCompleted() {
+	public synchronized void incCompleted() {
 		completionCount++;
 	}
 
+	@Override
+	public synchronized void incCompleted(long amount) {
+		completionCount += amount;
+	}
+
 }
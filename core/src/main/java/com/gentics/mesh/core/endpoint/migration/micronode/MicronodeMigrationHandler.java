@@ -29,6 +29,7 @@ import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -48,8 +49,9 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	private final HandlerUtilities handlerUtilities;
 
 	@Inject
-	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider, HandlerUtilities handlerUtilities) {
-		super(db, binaryFieldHandler, metrics, batchProvider);
+	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		HandlerUtilities handlerUtilities, MeshOptions options) {
+		super(db, binaryFieldHandler, metrics, batchProvider, options);
 		this.handlerUtilities = handlerUtilities;
 	}
 
@@ -104,14 +106,13 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
+			// The migration of a container only affects the node of the container. Each worker needs its own context since the parameters of the context are
+			// modified for every container.
+			Object projectId = db.tx(() -> branch.getProject().id());
+			ThreadLocal<NodeMigrationActionContextImpl> workerContext = ThreadLocal.withInitial(ac::createWorkerContext);
+			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status, batch -> lockNodes(handlerUtilities, projectId, batch),
 				(batch, container, errors) -> {
-					handlerUtilities.lock();
-					try {
-						migrateMicronodeContainer(ac, batch, branch, fromVersion, toVersion, container, touchedFields, errors);
-					} finally {
-						handlerUtilities.unlock();
-					}
+					migrateMicronodeContainer(workerContext.get(), batch, branch, fromVersion, toVersion, container, touchedFields, errors);
 				});
 
 			Completable result = Completable.complete();
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -52,8 +53,9 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	private final HandlerUtilities handlerUtilities;
 
 	@Inject
-	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider, HandlerUtilities handlerUtilities) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		HandlerUtilities handlerUtilities, MeshOptions options) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options);
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 		this.handlerUtilities = handlerUtilities;
 	}
@@ -113,17 +115,17 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-		List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-			handlerUtilities.lock();
-			try {
-				migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-			} finally {
-				handlerUtilities.unlock();
-			}
-			if (metrics.isEnabled()) {
-				migrationGauge.decrementAndGet();
-			}
-		});
+			// The migration of a container only affects the node of the container. Each worker needs its own context since the parameters of the context are
+			// modified for every container.
+			Object projectId = db.tx(() -> branch.getProject().id());
+			ThreadLocal<NodeMigrationActionContextImpl> workerContext = ThreadLocal.withInitial(context::createWorkerContext);
+			List<Exception> errorsDetected = migrateLoop(containers, cause, status, batch -> lockNodes(handlerUtilities, projectId, batch),
+				(batch, container, errors) -> {
+					migrateContainer(workerContext.get(), batch, container, fromVersion, newSchema, errors, touchedFields);
+					if (metrics.isEnabled()) {
+						migrationGauge.decrementAndGet();
+					}
+				});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
 			Completable result = Completable.complete();
@@ -44,7 +44,7 @@ public class NavRootHandler {
 		);
 		MeshAuthUser requestUser = ac.getUser();
 
-		utils.rxSyncTx(ac, tx-> {
+		utils.rxSyncReadTx(ac, tx-> {
 			Path nodePath = webrootService.findByProjectPath(ac, path);
 			PathSegment lastSegment = nodePath.getLast();
 
@@ -41,6 +41,7 @@ import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.handler.impl.HashedFileUpload;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
@@ -232,6 +233,13 @@ public class BinaryUploadHandler extends AbstractHandler {
 	}
 
 	private Single<String> hashUpload(FileUpload ul) {
+		// Uploads which were received by the body handler have already been hashed while the data was streamed to disk
+		if (ul instanceof HashedFileUpload) {
+			String hash = ((HashedFileUpload) ul).getSha512Sum();
+			if (hash != null) {
+				return Single.just(hash);
+			}
+		}
 		String uploadFilePath = ul.uploadedFileName();
 		return fs.rxOpen(uploadFilePath, new OpenOptions())
 			.flatMapPublisher(RxUtil::toBufferFlow)
@@ -19,6 +19,8 @@ import javax.inject.Inject;
 import org.apache.commons.lang3.math.NumberUtils;
 
 import com.gentics.madl.tx.TxAction1;
+import com.gentics.mesh.cache.CachedNodeResponse;
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -36,6 +38,8 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteScope;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.parameter.NodeParameters;
@@ -56,13 +60,16 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 	private final MeshOptions options;
 
+	private final NodeResponseCache responseCache;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
-	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot) {
+	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot, NodeResponseCache responseCache) {
 		super(db, utils);
 		this.options = options;
 		this.boot = boot;
+		this.responseCache = responseCache;
 	}
 
 	@Override
@@ -74,7 +81,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, () -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
@@ -86,7 +93,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					node.deleteFromBranch(ac, ac.getBranch(), bac, false);
 				});
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -104,7 +111,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleDeleteLanguage(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, () -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, DELETE_PERM);
@@ -116,7 +123,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					node.deleteLanguageContainer(ac, ac.getBranch(), languageTag, bac, true);
 				});
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -135,7 +142,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(toUuid, "toUuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, () -> {
 			try {
 				Project project = ac.getProject();
@@ -154,7 +161,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					sourceNode.moveTo(ac, targetNode, batch);
 				});
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 
@@ -171,7 +178,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleNavigation(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.rxSyncTx(ac, tx -> {
+		utils.rxSyncReadTx(ac, tx -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return node.transformToNavigation(ac);
 		}, model -> ac.send(model, OK));
@@ -188,7 +195,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleReadChildren(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.rxSyncTx(ac, (tx) -> {
+		utils.rxSyncReadTx(ac, (tx) -> {
 			NodeParameters nodeParams = ac.getNodeParameters();
 			PagingParameters pagingParams = ac.getPagingParameters();
 			VersioningParameters versionParams = ac.getVersioningParameters();
@@ -213,7 +220,32 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 		GraphPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-		utils.readElement(ac, uuid, () -> getRootVertex(ac), requiredPermission);
+		utils.syncReadTx(ac, tx -> {
+			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, requiredPermission);
+
+			if (responseCache.isDisabled()) {
+				// Handle etag
+				if (ac.getGenericParameters().getETag()) {
+					String etag = node.getETag(ac);
+					ac.setEtag(etag, true);
+					if (ac.matches(etag, true)) {
+						throw new NotModifiedException();
+					}
+				}
+				return node.transformToRestSync(ac, 0).toJson();
+			}
+
+			// The etag of a cached response is computed from the response itself
+			CachedNodeResponse response = responseCache.getResponse(ac, node, () -> node.transformToRestSync(ac, 0).toJson());
+			if (ac.getGenericParameters().getETag()) {
+				String etag = response.getETag();
+				ac.setEtag(etag, true);
+				if (ac.matches(etag, true)) {
+					throw new NotModifiedException();
+				}
+			}
+			return response.getJson();
+		}, json -> ac.send(json, OK));
 	}
 
 	/**
@@ -227,7 +259,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void readTags(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.rxSyncTx(ac, tx -> {
+		utils.rxSyncReadTx(ac, tx -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			try {
 				TransformablePage<? extends Tag> tagPage = node.getTags(ac.getUser(), ac.getPagingParameters(), ac.getBranch());
@@ -260,7 +292,8 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		utils.lock();
+		// Tagging also changes the shared tag and tag family vertices
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.rxSyncTx(ac, tx -> {
 			try {
 				Project project = ac.getProject();
@@ -282,7 +315,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 				return node.transformToRest(ac, 0);
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, model -> ac.send(model, OK));
 
@@ -302,7 +335,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, () -> {
 			try {
 				Project project = ac.getProject();
@@ -321,7 +354,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					}
 				}
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -337,7 +370,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleGetPublishStatus(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.syncTx(ac, (tx) -> {
+		utils.syncReadTx(ac, (tx) -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return node.transformToPublishStatus(ac);
 		}, model -> ac.send(model, OK));
@@ -354,7 +387,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handlePublish(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, tx -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
@@ -363,7 +396,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				});
 				return node.transformToPublishStatus(ac);
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, model -> ac.send(model, OK));
 	}
@@ -379,7 +412,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleTakeOffline(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		utils.syncTx(ac, () -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
@@ -387,7 +420,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					node.takeOffline(ac, bac);
 				});
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -405,7 +438,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleGetPublishStatus(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.syncTx(ac, tx -> {
+		utils.syncReadTx(ac, tx -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return node.transformToPublishStatus(ac, languageTag);
 		}, model -> ac.send(model, OK));
@@ -424,7 +457,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handlePublish(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.node(ac.getProject().id(), uuid));
 		utils.syncTx(ac, tx -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
@@ -433,7 +466,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				});
 				return node.transformToPublishStatus(ac, languageTag);
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, model -> ac.send(model, OK));
 	}
@@ -451,7 +484,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleTakeOffline(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		utils.lock();
+		WriteLock lock = utils.lock(WriteScope.node(ac.getProject().id(), uuid));
 		utils.syncTx(ac, () -> {
 			try {
 				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
@@ -460,7 +493,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					node.takeOffline(ac, bac, branch, languageTag);
 				});
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}, () -> ac.send(NO_CONTENT));
 	}
@@ -501,7 +534,8 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleBulkTagUpdate(InternalActionContext ac, String nodeUuid) {
 		validateParameter(nodeUuid, "nodeUuid");
 
-		utils.lock();
+		// Tags may be created within the tag families of the project
+		WriteLock lock = utils.lock(WriteScope.of(ac));
 		db.asyncTx(() -> {
 			try {
 				Project project = ac.getProject();
@@ -512,7 +546,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 				return page.transformToRest(ac, 0);
 			} finally {
-				utils.unlock();
+				lock.unlock();
 			}
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
@@ -527,7 +561,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleListVersions(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		utils.syncTx(ac, (tx) -> {
+		utils.syncReadTx(ac, (tx) -> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, READ_PERM);
 			return node.transformToVersionList(ac);
 		}, model -> {
@@ -13,6 +13,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.AuthUserCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -45,11 +46,14 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 
 	private MeshJWTAuthProvider authProvider;
 
+	private AuthUserCache authUserCache;
+
 	@Inject
-	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider) {
+	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, AuthUserCache authUserCache) {
 		super(db, utils);
 		this.boot = boot;
 		this.authProvider = authProvider;
+		this.authUserCache = authUserCache;
 	}
 
 	@Override
@@ -71,7 +75,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 		if (log.isDebugEnabled()) {
 			log.debug("Handling permission request for element on path {" + pathToElement + "}");
 		}
-		utils.syncTx(ac, tx -> {
+		utils.syncReadTx(ac, tx -> {
 			// 1. Load the user that should be used - read perm implies that the
 			// user is able to read the attached permissions
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, READ_PERM);
@@ -141,7 +145,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 			// 2. Generate the API key for the user
-			UserAPITokenResponse apiKeyRespose = db.tx(() -> {
+			UserAPITokenResponse apiKeyRespose = utils.eventAction(batch -> {
 				String tokenId = TokenUtil.randomToken();
 				String apiToken = authProvider.generateAPIToken(user, tokenId, null);
 				UserAPITokenResponse response = new UserAPITokenResponse();
@@ -151,10 +155,15 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				user.setAPITokenId(tokenId);
 				user.setAPITokenIssueTimestamp();
 				response.setToken(apiToken);
+				// Inform other instances that the cached users must be invalidated
+				batch.add(user.onUpdated());
 				return response;
 			});
 			return apiKeyRespose;
-		}, model -> ac.send(model, CREATED));
+		}, model -> {
+			authUserCache.invalidate(userUuid);
+			ac.send(model, CREATED);
+		});
 	}
 
 	/**
@@ -171,12 +180,17 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 			// 2. Generate the API key for the user
-			GenericMessageResponse message = db.tx(() -> {
+			GenericMessageResponse message = utils.eventAction(batch -> {
 				user.resetAPIToken();
+				batch.add(user.onUpdated());
 				return message(ac, "api_key_invalidated");
 			});
 			return message;
-		}, model -> ac.send(model, CREATED));
+		}, model -> {
+			// Invalidate the cached user to reject the API key immediately
+			authUserCache.invalidate(userUuid);
+			ac.send(model, CREATED);
+		});
 	}
 
 }
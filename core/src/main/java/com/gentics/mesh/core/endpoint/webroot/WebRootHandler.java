@@ -93,7 +93,7 @@ public class WebRootHandler {
 		String path = rc.request().path().substring(
 			rc.mountPoint().length());
 		MeshAuthUser requestUser = ac.getUser();
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 
 			String branchUuid = ac.getBranch().getUuid();
 			// Load all nodes for the given path
@@ -1,12 +1,16 @@
 package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.core.rest.MeshEvent.JOB_WORKER_ADDRESS;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
@@ -42,6 +46,33 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 		this.boot = boot;
 	}
 
+	@Override
+	public void start() throws Exception {
+		super.start();
+		resumeInterruptedJobs();
+	}
+
+	/**
+	 * Trigger the processing of the jobs if a job was still running on this instance when it was stopped. Migrations will continue with the elements which
+	 * were not yet migrated.
+	 */
+	private void resumeInterruptedJobs() {
+		String nodeName = boot.get().mesh().getOptions().getNodeName();
+		boolean interrupted = db.tx(() -> {
+			for (Job job : boot.get().jobRoot().findAll()) {
+				JobStatus status = job.getStatus();
+				if ((status == STARTING || status == RUNNING) && !job.hasFailed() && nodeName.equals(job.getNodeName())) {
+					return true;
+				}
+			}
+			return false;
+		});
+		if (interrupted) {
+			log.info("Found interrupted jobs. Resuming job processing.");
+			vertx.eventBus().publish(getJobAdress(), null);
+		}
+	}
+
 	@Override
 	public String getJobAdress() {
 		return JOB_WORKER_ADDRESS + boot.get().mesh().getOptions().getNodeName();
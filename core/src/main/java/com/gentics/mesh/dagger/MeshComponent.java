@@ -8,9 +8,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.AuthUserCache;
+import com.gentics.mesh.cache.NodePathCache;
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -144,6 +148,14 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	AuthUserCache authUserCache();
+
+	WebrootPathCache webrootPathCache();
+
+	NodeResponseCache nodeResponseCache();
+
+	NodePathCache nodePathCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
@@ -2,8 +2,14 @@ package com.gentics.mesh.dagger.module;
 
 import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
+import com.gentics.mesh.cache.AuthUserCache;
+import com.gentics.mesh.cache.AuthUserCacheImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.NodePathCache;
+import com.gentics.mesh.cache.NodePathCacheImpl;
+import com.gentics.mesh.cache.NodeResponseCache;
+import com.gentics.mesh.cache.NodeResponseCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
@@ -75,12 +81,21 @@ public abstract class BindModule {
 	@Binds
 	abstract WebrootPathCache bindWebrootPathCache(WebrootPathCacheImpl e);
 
+	@Binds
+	abstract NodeResponseCache bindNodeResponseCache(NodeResponseCacheImpl e);
+
+	@Binds
+	abstract NodePathCache bindNodePathCache(NodePathCacheImpl e);
+
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract AuthUserCache bindAuthUserCache(AuthUserCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
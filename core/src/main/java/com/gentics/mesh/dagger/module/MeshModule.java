@@ -10,6 +10,7 @@ import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 
 import dagger.Module;
 import dagger.Provides;
@@ -32,8 +33,8 @@ public class MeshModule {
 
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options) {
-		return new ImgscalrImageManipulator(vertx, options);
+	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, MetricsService metrics) {
+		return new ImgscalrImageManipulator(vertx, options, metrics);
 	}
 
 	@Provides
@@ -86,14 +87,8 @@ public class MeshModule {
 	@Provides
 	@Singleton
 	public static BodyHandlerImpl bodyHandler(MeshOptions options) {
-		String tempDirectory = options.getUploadOptions().getTempDirectory();
-		BodyHandlerImpl handler = new MeshBodyHandlerImpl(tempDirectory);
-		handler.setBodyLimit(options.getUploadOptions().getByteLimit());
 		// TODO check for windows issues
-		handler.setUploadsDirectory(tempDirectory);
-		handler.setMergeFormAttributes(false);
-		handler.setDeleteUploadedFilesOnEnd(true);
-		return handler;
+		return new MeshBodyHandlerImpl(options.getUploadOptions());
 	}
 
 }
@@ -0,0 +1,76 @@
+package com.gentics.mesh.handler.impl;
+
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * File upload which was hashed by the {@link MeshBodyHandlerImpl} while it was received.
+ */
+public class HashedFileUpload implements FileUpload {
+
+	private final String uploadedFileName;
+
+	private final HttpServerFileUpload upload;
+
+	private long size;
+
+	private String sha512sum;
+
+	public HashedFileUpload(String uploadedFileName, HttpServerFileUpload upload) {
+		this.uploadedFileName = uploadedFileName;
+		this.upload = upload;
+	}
+
+	@Override
+	public String name() {
+		return upload.name();
+	}
+
+	@Override
+	public String uploadedFileName() {
+		return uploadedFileName;
+	}
+
+	@Override
+	public String fileName() {
+		return upload.filename();
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public String contentType() {
+		return upload.contentType();
+	}
+
+	@Override
+	public String contentTransferEncoding() {
+		return upload.contentTransferEncoding();
+	}
+
+	@Override
+	public String charset() {
+		return upload.charset();
+	}
+
+	void addSize(long length) {
+		size += length;
+	}
+
+	/**
+	 * Return the hex encoded SHA 512 checksum of the received data.
+	 *
+	 * @return Checksum or null if the upload has not yet been completely received
+	 */
+	public String getSha512Sum() {
+		return sha512sum;
+	}
+
+	void setSha512Sum(String sha512sum) {
+		this.sha512sum = sha512sum;
+	}
+
+}
@@ -1,13 +1,223 @@
 package com.gentics.mesh.handler.impl;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.gentics.mesh.etc.config.MeshUploadOptions;
+import com.gentics.mesh.util.FileUtils;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.FileUpload;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.impl.BodyHandlerImpl;
 
 /**
- * Wrapper class to avoid stupid default constructor behaviour. 
+ * Body handler which streams multipart file uploads into the uploads directory and computes the SHA 512 checksum of the uploads while they are received.
+ * The uploaded files are thus only read once more if a binary processor needs to inspect them. All other requests are handled by the default
+ * {@link BodyHandlerImpl}.
  */
 public class MeshBodyHandlerImpl extends BodyHandlerImpl {
 
-	public MeshBodyHandlerImpl(String uploadsDirectory) {
+	private static final Logger log = LoggerFactory.getLogger(MeshBodyHandlerImpl.class);
+
+	private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+	private final String uploadsDirectory;
+
+	private final long bodyLimit;
+
+	public MeshBodyHandlerImpl(MeshUploadOptions options) {
+		this.uploadsDirectory = options.getTempDirectory();
+		this.bodyLimit = options.getByteLimit();
 		setUploadsDirectory(uploadsDirectory);
+		setBodyLimit(bodyLimit);
+		setMergeFormAttributes(false);
+		setDeleteUploadedFilesOnEnd(true);
+	}
+
+	@Override
+	public void handle(RoutingContext context) {
+		HttpServerRequest request = context.request();
+		String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+		boolean isMultipart = contentType != null && contentType.toLowerCase().startsWith(MULTIPART_FORM_DATA);
+		// The body may already have been handled by a previous body handler
+		if (!isMultipart || context.getBody() != null) {
+			super.handle(context);
+			return;
+		}
+		new MultipartHandler(context).start();
+	}
+
+	/**
+	 * Handler for a single multipart request. All callbacks are invoked on the event loop of the request.
+	 */
+	private class MultipartHandler {
+
+		private final RoutingContext context;
+
+		private final FileSystem fs;
+
+		private final List<AsyncFile> openFiles = new ArrayList<>();
+
+		private long received;
+
+		private int pendingUploads;
+
+		private boolean ended;
+
+		private boolean failed;
+
+		MultipartHandler(RoutingContext context) {
+			this.context = context;
+			this.fs = context.vertx().fileSystem();
+		}
+
+		void start() {
+			HttpServerRequest request = context.request();
+			request.setExpectMultipart(true);
+			request.exceptionHandler(this::fail);
+			request.uploadHandler(this::handleUpload);
+			request.endHandler(v -> {
+				ended = true;
+				checkEnd();
+			});
+		}
+
+		private void handleUpload(HttpServerFileUpload upload) {
+			if (failed) {
+				return;
+			}
+			MessageDigest digest;
+			try {
+				digest = MessageDigest.getInstance("SHA-512");
+			} catch (NoSuchAlgorithmException e) {
+				fail(error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e));
+				return;
+			}
+			pendingUploads++;
+			// Data which is received until the file has been opened is buffered by the upload
+			upload.pause();
+			String path = new File(uploadsDirectory, UUID.randomUUID().toString()).getPath();
+			HashedFileUpload fileUpload = new HashedFileUpload(path, upload);
+			context.fileUploads().add(fileUpload);
+
+			fs.mkdirs(uploadsDirectory, mkdirs -> {
+				if (mkdirs.failed()) {
+					fail(mkdirs.cause());
+					return;
+				}
+				fs.open(path, new OpenOptions(), open -> {
+					if (open.failed()) {
+						fail(open.cause());
+						return;
+					}
+					AsyncFile file = open.result();
+					openFiles.add(file);
+					if (failed) {
+						closeFiles();
+						return;
+					}
+					upload.exceptionHandler(this::fail);
+					upload.handler(buffer -> {
+						if (failed) {
+							return;
+						}
+						received += buffer.length();
+						if (bodyLimit != -1 && received > bodyLimit) {
+							fail(413);
+							return;
+						}
+						fileUpload.addSize(buffer.length());
+						digest.update(buffer.getBytes());
+						file.write(buffer);
+						if (file.writeQueueFull()) {
+							upload.pause();
+							file.drainHandler(v -> upload.resume());
+						}
+					});
+					upload.endHandler(v -> {
+						openFiles.remove(file);
+						file.close(close -> {
+							if (close.failed()) {
+								fail(close.cause());
+								return;
+							}
+							fileUpload.setSha512Sum(FileUtils.bytesToHex(digest.digest()));
+							pendingUploads--;
+							checkEnd();
+						});
+					});
+					upload.resume();
+				});
+			});
+		}
+
+		private void checkEnd() {
+			if (!ended || pendingUploads > 0 || failed) {
+				return;
+			}
+			context.addBodyEndHandler(v -> deleteUploads());
+			context.setBody(Buffer.buffer());
+			context.next();
+		}
+
+		private void fail(Throwable error) {
+			if (!failed) {
+				failed = true;
+				closeFiles();
+				deleteUploads();
+				context.fail(error);
+			}
+		}
+
+		private void fail(int statusCode) {
+			if (!failed) {
+				failed = true;
+				closeFiles();
+				deleteUploads();
+				context.fail(statusCode);
+			}
+		}
+
+		private void closeFiles() {
+			for (AsyncFile file : openFiles) {
+				file.close();
+			}
+			openFiles.clear();
+		}
+
+		/**
+		 * Delete the uploaded files which were not moved into the binary storage.
+		 */
+		private void deleteUploads() {
+			for (FileUpload upload : context.fileUploads()) {
+				String path = upload.uploadedFileName();
+				fs.exists(path, exists -> {
+					if (exists.succeeded() && exists.result()) {
+						fs.delete(path, delete -> {
+							if (delete.failed()) {
+								log.warn("Could not delete upload {" + path + "}", delete.cause());
+							}
+						});
+					}
+				});
+			}
+		}
 	}
+
 }
@@ -0,0 +1,67 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class AuthUserCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().enable();
+		cache().clear();
+	}
+
+	private AuthUserCache cache() {
+		return mesh().authUserCache();
+	}
+
+	@Test
+	public void testUserCache() {
+		assertFalse("Initially the cache should not contain the user", hasUserInCache());
+		call(() -> client().me());
+		assertTrue("The user should now be cached", hasUserInCache());
+
+		// Update the user
+		UserUpdateRequest request = new UserUpdateRequest().setFirstname("Changed");
+		waitForEvent(MeshEvent.USER_UPDATED, () -> {
+			call(() -> client().updateUser(userUuid(), request));
+		});
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+		assertFalse("The cache should have been invalidated.", hasUserInCache());
+
+		// Disable the cache and check caching
+		cache().disable();
+		call(() -> client().me());
+		assertFalse("The cache should still not have the entry", hasUserInCache());
+	}
+
+	@Test
+	public void testAdminFlag() {
+		call(() -> client().findJobs(), FORBIDDEN, "error_admin_permission_required");
+		assertTrue(hasUserInCache());
+
+		grantAdminRole();
+		assertFalse("The role assignment should have invalidated the user", hasUserInCache());
+		call(() -> client().findJobs());
+
+		revokeAdminRole();
+		call(() -> client().findJobs(), FORBIDDEN, "error_admin_permission_required");
+	}
+
+	private boolean hasUserInCache() {
+		return cache().get(userUuid()) != null;
+	}
+}
@@ -0,0 +1,90 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.NODE_RESPONSE_CACHE;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = NODE_RESPONSE_CACHE)
+public class NodeResponseCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().clear();
+	}
+
+	private NodeResponseCache cache() {
+		return mesh().nodeResponseCache();
+	}
+
+	@Test
+	public void testCachedResponse() {
+		NodeResponse first = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		NodeResponse second = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		assertEquals("The response should have been cached", 1, cache().size());
+		assertEquals(first.toJson(), second.toJson());
+
+		// Responses are also cached if no etag was requested
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid(), new GenericParametersImpl().setETag(false)));
+		assertEquals(2, cache().size());
+
+		// The update creates a new version of the content and thus changes the key of the response
+		updateTeaser(contentUuid(), "Updated teaser");
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		assertEquals("Updated teaser", updated.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testEvictedOnNodeEvent() {
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid(), new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+		assertEquals("Both responses should have been cached", 2, cache().size());
+
+		// Resolved links may point to any node
+		updateTeaser(tx(() -> content("concorde").getUuid()), "Other teaser");
+		assertEquals("Only the response with resolved links should have been evicted", 1, cache().size());
+
+		// The breadcrumb contains the parent folder
+		updateField(folderUuid(), "name", "Updated news");
+		assertEquals("The response should have been evicted", 0, cache().size());
+	}
+
+	@Test
+	public void testEvictedOnCreatedChild() {
+		call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid()));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid(), new GenericParametersImpl().setFields("uuid", "fields")));
+		assertEquals("Both responses should have been cached", 2, cache().size());
+
+		// A new node may change the children info of any node
+		waitForEvent(NODE_CREATED, () -> createNode());
+		assertEquals("Only the response with the children info should have been evicted", 1, cache().size());
+	}
+
+	private void updateTeaser(String uuid, String teaser) {
+		updateField(uuid, "teaser", teaser);
+	}
+
+	private void updateField(String uuid, String fieldKey, String value) {
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = node.toRequest();
+		request.getFields().put(fieldKey, FieldUtil.createStringField(value));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+		});
+	}
+}
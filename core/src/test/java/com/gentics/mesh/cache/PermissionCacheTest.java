@@ -0,0 +1,83 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class PermissionCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testPermissionChange() {
+		try (Tx tx = tx()) {
+			Node node = content();
+			assertTrue(user().hasPermission(node, READ_PERM));
+			role().revokePermissions(node, READ_PERM);
+			assertFalse("The revoked permission must not be cached", user().hasPermission(node, READ_PERM));
+			role().grantPermissions(node, READ_PERM);
+			assertTrue("The granted permission must not be cached as denied", user().hasPermission(node, READ_PERM));
+		}
+	}
+
+	@Test
+	public void testRolledBackGrant() {
+		try (Tx tx = tx()) {
+			role().revokePermissions(content(), UPDATE_PERM);
+			tx.success();
+		}
+		try (Tx tx = tx()) {
+			Node node = content();
+			role().grantPermissions(node, UPDATE_PERM);
+			assertTrue(user().hasPermission(node, UPDATE_PERM));
+			// The transaction is rolled back
+		}
+		try (Tx tx = tx()) {
+			assertFalse("The grant of the rolled back transaction must not be cached", user().hasPermission(content(), UPDATE_PERM));
+			assertTrue("Permissions of transactions without changes should be cached", mesh().permissionCache().size() > 0);
+		}
+	}
+
+	@Test
+	public void testRoleAssignment() {
+		try (Tx tx = tx()) {
+			Node node = content();
+			role().revokePermissions(node, UPDATE_PERM);
+			Role newRole = boot().roleRoot().create("newRole", user());
+			newRole.grantPermissions(node, UPDATE_PERM);
+			assertFalse(user().hasPermission(node, UPDATE_PERM));
+
+			group().addRole(newRole);
+			assertTrue("The roles of the user must have been invalidated", user().hasPermission(node, UPDATE_PERM));
+
+			group().removeRole(newRole);
+			assertFalse("The roles of the user must have been invalidated", user().hasPermission(node, UPDATE_PERM));
+
+			group().addRole(newRole);
+			assertTrue(user().hasPermission(node, UPDATE_PERM));
+			newRole.delete(createBulkContext());
+			assertFalse("The deleted role must be ignored", user().hasPermission(node, UPDATE_PERM));
+		}
+	}
+
+	@Test
+	public void testUserAssignment() {
+		try (Tx tx = tx()) {
+			Node node = content();
+			assertTrue(user().hasPermission(node, READ_PERM));
+			group().removeUser(user());
+			assertFalse("The roles of the user must have been invalidated", user().hasPermission(node, READ_PERM));
+			group().addUser(user());
+			assertTrue("The roles of the user must have been invalidated", user().hasPermission(node, READ_PERM));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.path.Path;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebrootPathCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().clear();
+	}
+
+	private WebrootPathCache cache() {
+		return mesh().webrootPathCache();
+	}
+
+	@Test
+	public void testUpdateOnlyEvictsAffectedPaths() {
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015"));
+		call(() -> client().webroot(PROJECT_NAME, "/Products"));
+		call(() -> client().webroot(PROJECT_NAME, "/Deals"));
+		call(() -> client().webroot(PROJECT_NAME, "/Deals/unknown"), NOT_FOUND, "node_not_found_for_path", "/Deals/unknown");
+		assertNotNull("The path should have been cached", cachedPath("/News/2015"));
+		assertNotNull("The path should have been cached", cachedPath("/Deals/unknown"));
+
+		// Update the english content of the deals folder
+		String dealsUuid = tx(() -> folder("deals").getUuid());
+		updateName(dealsUuid, "en", "Special Deals");
+		sleep(100);
+
+		assertNull("The path of the updated node should have been evicted", cachedPath("/Deals"));
+		assertNull("Paths which could not be resolved should have been evicted", cachedPath("/Deals/unknown"));
+		assertNotNull("Paths of other nodes should still be cached", cachedPath("/Products"));
+		assertNotNull("Paths of other nodes should still be cached", cachedPath("/News/2015"));
+
+		// Update the german content of the news folder. The cached path was resolved via the english segment.
+		String newsUuid = tx(() -> folder("news").getUuid());
+		updateName(newsUuid, "de", "Neuigkeiten 2");
+		sleep(100);
+		assertNotNull("Paths of other languages should still be cached", cachedPath("/News/2015"));
+
+		updateName(newsUuid, "en", "News 2");
+		sleep(100);
+		assertNull("Paths of the subtree of the updated node should have been evicted", cachedPath("/News/2015"));
+		assertNotNull("Paths of other nodes should still be cached", cachedPath("/Products"));
+	}
+
+	@Test
+	public void testMoveEvictsSubtree() {
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015"));
+		call(() -> client().webroot(PROJECT_NAME, "/Products"));
+		call(() -> client().webroot(PROJECT_NAME, "/Deals/2015"), NOT_FOUND, "node_not_found_for_path", "/Deals/2015");
+
+		String uuid = tx(() -> folder("2015").getUuid());
+		String targetUuid = tx(() -> folder("deals").getUuid());
+		waitForEvent(NODE_MOVED, () -> {
+			call(() -> client().moveNode(PROJECT_NAME, uuid, targetUuid));
+		});
+		sleep(100);
+
+		assertNull("The path of the moved node should have been evicted", cachedPath("/News/2015"));
+		assertNull("The path of the new location should have been evicted", cachedPath("/Deals/2015"));
+		assertNotNull("Paths of other nodes should still be cached", cachedPath("/Products"));
+		call(() -> client().webroot(PROJECT_NAME, "/Deals/2015"));
+	}
+
+	private void updateName(String uuid, String language, String name) {
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new NodeParametersImpl().setLanguages(language)));
+		NodeUpdateRequest request = node.toRequest();
+		request.getFields().put("name", FieldUtil.createStringField(name));
+		waitForEvent(NODE_UPDATED, () -> {
+			call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+		});
+	}
+
+	private Path cachedPath(String path) {
+		return tx(() -> cache().getPath(project(), project().getLatestBranch(), ContainerType.DRAFT, path));
+	}
+}
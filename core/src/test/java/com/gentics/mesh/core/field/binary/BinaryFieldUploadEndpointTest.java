@@ -50,6 +50,7 @@ import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.test.assertj.MeshCoreAssertion;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.VersionNumber;
 
 import io.reactivex.Observable;
@@ -307,6 +308,21 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		MeshCoreAssertion.assertThat(testContext).hasUploadFiles(100).hasTempFiles(0).hasTempUploads(0);
 	}
 
+	@Test
+	public void testUploadHash() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/pictures/android-gps.jpg");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		NodeResponse node2 = call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary",
+			new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "test.jpg", "image/jpeg"));
+
+		// The hash is computed while the upload is received
+		BinaryField field = node2.getFields().getBinaryField("binary");
+		assertEquals(FileUtils.hash(buffer).blockingGet(), field.getSha512sum());
+		assertEquals(buffer.length(), field.getFileSize());
+		MeshCoreAssertion.assertThat(testContext).hasTempFiles(0).hasTempUploads(0);
+	}
+
 	@Test
 	public void testUploadExif() throws IOException {
 		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
@@ -8,6 +8,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -17,6 +21,7 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -89,6 +94,49 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testPackedStorage() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			for (int i = 0; i < 1000; i++) {
+				list.createString("value" + i);
+			}
+			list.getString(10).setString("changed");
+
+			assertThat(list.getElement().getPropertyKeys()).as("Item properties").noneMatch(key -> key.startsWith("item-"));
+			List<String> items = list.property(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+			assertThat(items).hasSize(1000).startsWith("value0", "value1");
+			assertEquals(1000, list.getSize());
+			assertEquals("changed", list.getString(10).getString());
+			assertEquals("value999", list.getString(1000).getString());
+			assertEquals("value999", list.getValues().get(999));
+		}
+	}
+
+	@Test
+	public void testSetValues() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			list.createString("old");
+			list.setValues(Arrays.asList("a", "b", "c"));
+			assertEquals(Arrays.asList("a", "b", "c"), list.getValues());
+
+			// Removing the value of an item removes the item
+			list.getString(2).removeField(container);
+			assertEquals(Arrays.asList("a", "c"), list.getValues());
+
+			try {
+				list.setValues(Arrays.asList("a", null));
+				fail("Null values must not be stored");
+			} catch (IllegalArgumentException e) {
+				// Expected
+			}
+			assertEquals(Arrays.asList("a", "c"), list.getValues());
+		}
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -0,0 +1,74 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.core.rest.graphql.GraphQLError;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLDataLoaderTest extends AbstractMeshTest {
+
+	@Test
+	public void testNestedChildren() {
+		String query = "{ node(path: \"/\") { uuid children { elements { uuid parent { uuid } "
+			+ "children { elements { uuid parent { uuid } breadcrumb { uuid } } } } } } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).isNullOrEmpty();
+
+		JsonObject root = response.getData().getJsonObject("node");
+		JsonArray children = root.getJsonObject("children").getJsonArray("elements");
+		assertFalse(children.isEmpty());
+		for (int i = 0; i < children.size(); i++) {
+			JsonObject child = children.getJsonObject(i);
+			assertEquals(root.getString("uuid"), child.getJsonObject("parent").getString("uuid"));
+			JsonArray grandChildren = child.getJsonObject("children").getJsonArray("elements");
+			for (int e = 0; e < grandChildren.size(); e++) {
+				JsonObject grandChild = grandChildren.getJsonObject(e);
+				assertEquals(child.getString("uuid"), grandChild.getJsonObject("parent").getString("uuid"));
+				JsonArray breadcrumb = grandChild.getJsonArray("breadcrumb");
+				assertEquals(3, breadcrumb.size());
+				assertEquals(root.getString("uuid"), breadcrumb.getJsonObject(0).getString("uuid"));
+				assertEquals(child.getString("uuid"), breadcrumb.getJsonObject(1).getString("uuid"));
+				assertEquals(grandChild.getString("uuid"), breadcrumb.getJsonObject(2).getString("uuid"));
+			}
+		}
+	}
+
+	@Test
+	public void testParentWithoutPermission() {
+		String baseNodeUuid;
+		String newsUuid;
+		try (Tx tx = tx()) {
+			Node baseNode = project().getBaseNode();
+			role().revokePermissions(baseNode, GraphPermission.READ_PERM, GraphPermission.READ_PUBLISHED_PERM);
+			baseNodeUuid = baseNode.getUuid();
+			newsUuid = folder("news").getUuid();
+			tx.success();
+		}
+
+		String query = "{ node(uuid: \"" + newsUuid + "\") { uuid parent { uuid } } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).hasSize(1);
+		GraphQLError error = response.getErrors().get(0);
+		assertEquals(PermissionException.i18nKey, error.getMessage());
+		assertEquals(baseNodeUuid, error.getElementId());
+		assertEquals(newsUuid, response.getData().getJsonObject("node").getString("uuid"));
+	}
+
+}
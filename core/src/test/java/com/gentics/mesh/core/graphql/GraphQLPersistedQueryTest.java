@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.google.common.hash.Hashing;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLPersistedQueryTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ me { username } }";
+
+	@Test
+	public void testPersistedQuery() {
+		String username = tx(() -> user().getUsername());
+		String hash = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString();
+
+		// 1. Query is not yet known
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions(hash))));
+		assertThat(response.getErrors()).hasSize(1);
+		assertEquals("PersistedQueryNotFound", response.getErrors().get(0).getMessage());
+
+		// 2. Send the query along with the hash
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery(QUERY).setExtensions(extensions(hash))));
+		assertThat(response.getErrors()).isNullOrEmpty();
+		assertEquals(username, response.getData().getJsonObject("me").getString("username"));
+
+		// 3. Only send the hash
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions(hash))));
+		assertThat(response.getErrors()).isNullOrEmpty();
+		assertEquals(username, response.getData().getJsonObject("me").getString("username"));
+	}
+
+	@Test
+	public void testHashMismatch() {
+		String hash = Hashing.sha256().hashString("{ me { uuid } }", StandardCharsets.UTF_8).toString();
+		call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery(QUERY).setExtensions(extensions(hash))), BAD_REQUEST,
+			"graphql_error_persisted_query_hash_mismatch", hash);
+	}
+
+	private JsonObject extensions(String hash) {
+		return new JsonObject().put("persistedQuery", new JsonObject()
+			.put("version", 1)
+			.put("sha256Hash", hash));
+	}
+
+}
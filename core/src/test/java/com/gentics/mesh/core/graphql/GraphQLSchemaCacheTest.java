@@ -0,0 +1,64 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	private static final String SCHEMA_NAME = "cachetest";
+
+	private static final String QUERY = "{ node(path: \"/\") { uuid fields { ... on " + SCHEMA_NAME + " { title } } } }";
+
+	@Test
+	public void testSchemaAssignment() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+		assertThat(response.getErrors()).as("Errors for unknown type").isNotEmpty();
+
+		createSchema();
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+		assertThat(response.getErrors()).as("Errors after schema assignment").isNullOrEmpty();
+	}
+
+	@Test
+	public void testSchemaUpdate() {
+		grantAdminRole();
+		SchemaResponse schema = createSchema();
+		String query = "{ node(path: \"/\") { uuid fields { ... on " + SCHEMA_NAME + " { title teaser } } } }";
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).as("Errors for unknown field").isNotEmpty();
+
+		SchemaUpdateRequest request = schema.toUpdateRequest();
+		request.addField(FieldUtil.createStringFieldSchema("teaser"));
+		waitForJob(() -> {
+			call(() -> client().updateSchema(schema.getUuid(), request));
+		});
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).as("Errors after schema update").isNullOrEmpty();
+	}
+
+	private SchemaResponse createSchema() {
+		SchemaCreateRequest request = new SchemaCreateRequest();
+		request.setName(SCHEMA_NAME);
+		request.addField(FieldUtil.createStringFieldSchema("title"));
+		SchemaResponse response = call(() -> client().createSchema(request));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, response.getUuid()));
+		return response;
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.SortOrder;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.user.UserListResponse;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeCursorPagingEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testCursorPagingSortedByCreated() {
+		assertCursorPaging("created", SortOrder.ASCENDING);
+		assertCursorPaging("created", SortOrder.DESCENDING);
+	}
+
+	@Test
+	public void testCursorPagingSortedByContent() {
+		assertCursorPaging("displayField", SortOrder.ASCENDING);
+		assertCursorPaging("edited", SortOrder.DESCENDING);
+	}
+
+	@Test
+	public void testCursorPagingUnsorted() {
+		assertCursorPaging(PagingParameters.DEFAULT_SORT_BY, null);
+	}
+
+	@Test
+	public void testSkipCount() {
+		NodeListResponse response = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2L).setSkipCount(true),
+			new VersioningParametersImpl().draft()));
+		assertEquals(2, response.getData().size());
+		assertEquals(-1, response.getMetainfo().getTotalCount());
+		assertEquals(-1, response.getMetainfo().getPageCount());
+		assertNotNull(response.getMetainfo().getNextCursor());
+	}
+
+	@Test
+	public void testCursorPagingOfUsers() {
+		UserListResponse all = call(() -> client().findUsers());
+		List<String> expected = all.getData().stream().map(UserResponse::getUuid).collect(Collectors.toList());
+
+		UserListResponse first = call(() -> client().findUsers(new PagingParametersImpl(1, 1L)));
+		UserListResponse second = call(() -> client().findUsers(new PagingParametersImpl(1, 1L).setAfter(first.getMetainfo().getNextCursor())));
+		assertEquals(expected.subList(1, 2), second.getData().stream().map(UserResponse::getUuid).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testCursorPagingViaGraphQL() {
+		GraphQLResponse first = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 2, sortBy: CREATED) { nextCursor elements { uuid } } }"));
+		assertThat(first.getErrors()).isNullOrEmpty();
+		String cursor = first.getData().getJsonObject("nodes").getString("nextCursor");
+		assertNotNull(cursor);
+
+		GraphQLResponse second = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 2, sortBy: CREATED, after: \"" + cursor + "\") { totalCount elements { uuid } } }"));
+		assertThat(second.getErrors()).isNullOrEmpty();
+		JsonObject nodes = second.getData().getJsonObject("nodes");
+		assertEquals(-1L, nodes.getLong("totalCount").longValue());
+		assertEquals(2, nodes.getJsonArray("elements").size());
+	}
+
+	@Test
+	public void testContentSortedCursorPagingViaGraphQL() {
+		List<String> expected = graphQLNodeUuids("{ nodes(sortBy: EDITED) { elements { uuid } } }");
+		GraphQLResponse first = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 2, sortBy: EDITED) { nextCursor elements { uuid } } }"));
+		String cursor = first.getData().getJsonObject("nodes").getString("nextCursor");
+		assertNotNull(cursor);
+
+		List<String> second = graphQLNodeUuids("{ nodes(perPage: 2, sortBy: EDITED, after: \"" + cursor + "\") { elements { uuid } } }");
+		assertEquals(expected.subList(2, 4), second);
+	}
+
+	private List<String> graphQLNodeUuids(String query) {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).isNullOrEmpty();
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < elements.size(); i++) {
+			uuids.add(elements.getJsonObject(i).getString("uuid"));
+		}
+		return uuids;
+	}
+
+	@Test
+	public void testInvalidCursor() {
+		call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 2L).setOrderBy("created").setAfter("bogus")), BAD_REQUEST,
+			"error_invalid_paging_cursor", "bogus");
+		call(() -> client().findUsers(new PagingParametersImpl(1, 2L).setAfter("bogus")), BAD_REQUEST, "error_invalid_paging_cursor", "bogus");
+		call(() -> client().findNodeChildren(PROJECT_NAME, tx(() -> project().getBaseNode().getUuid()), new PagingParametersImpl(1, 2L).setAfter(
+			"bogus")), BAD_REQUEST, "error_invalid_paging_cursor", "bogus");
+	}
+
+	/**
+	 * Load all nodes page by page via the cursor and compare them with the list which was loaded at once.
+	 */
+	private void assertCursorPaging(String sortBy, SortOrder order) {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy(sortBy).setSortOrder(order),
+			new VersioningParametersImpl().draft()));
+		List<String> expected = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+
+		List<String> uuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			String after = cursor;
+			NodeListResponse page = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 3L).setOrderBy(sortBy).setSortOrder(
+				order).setAfter(after), new VersioningParametersImpl().draft()));
+			assertTrue("Every page must contain elements", !page.getData().isEmpty());
+			page.getData().forEach(node -> uuids.add(node.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals(expected, uuids);
+		assertNull(all.getMetainfo().getNextCursor());
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.SortOrder;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeSortingEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testSortByCreated() {
+		NodeListResponse unsorted = call(() -> client().findNodes(PROJECT_NAME, new VersioningParametersImpl().draft()));
+		NodeListResponse ascending = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("created"),
+			new VersioningParametersImpl().draft()));
+		assertEquals("The sorted list must contain all nodes.", unsorted.getMetainfo().getTotalCount(), ascending.getMetainfo().getTotalCount());
+
+		List<String> dates = ascending.getData().stream().map(NodeResponse::getCreated).collect(Collectors.toList());
+		List<String> expected = new ArrayList<>(dates);
+		Collections.sort(expected);
+		assertEquals(expected, dates);
+
+		NodeListResponse descending = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("created").setSortOrder(
+			SortOrder.DESCENDING), new VersioningParametersImpl().draft()));
+		dates = descending.getData().stream().map(NodeResponse::getCreated).collect(Collectors.toList());
+		Collections.reverse(expected);
+		assertEquals(expected, dates);
+	}
+
+	@Test
+	public void testSortedPaging() {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("displayField"),
+			new VersioningParametersImpl().draft()));
+		List<String> uuids = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+
+		NodeListResponse page = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(2, 5L).setOrderBy("displayField"),
+			new VersioningParametersImpl().draft()));
+		assertEquals(uuids.subList(5, 10), page.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList()));
+		assertEquals(all.getMetainfo().getTotalCount(), page.getMetainfo().getTotalCount());
+	}
+
+	@Test
+	public void testSortByEditedAfterCursor() {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("edited"),
+			new VersioningParametersImpl().draft()));
+		List<String> uuids = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		List<String> dates = all.getData().stream().map(NodeResponse::getEdited).collect(Collectors.toList());
+		List<String> expected = new ArrayList<>(dates);
+		Collections.sort(expected);
+		assertEquals(expected, dates);
+
+		NodeListResponse page = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 5L).setAfter(uuids.get(2))
+			.setOrderBy("edited"), new VersioningParametersImpl().draft()));
+		assertEquals(uuids.subList(3, 8), page.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testSortChildrenByDisplayField() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		NodeListResponse children = call(() -> client().findNodeChildren(PROJECT_NAME, baseNodeUuid, new PagingParametersImpl().setOrderBy(
+			"displayField").setSortOrder(SortOrder.DESCENDING), new VersioningParametersImpl().draft()));
+		assertFalse(children.getData().isEmpty());
+
+		List<String> names = children.getData().stream().map(NodeResponse::getDisplayName).collect(Collectors.toList());
+		List<String> expected = new ArrayList<>(names);
+		expected.sort(Comparator.nullsLast(Comparator.<String>reverseOrder()));
+		assertEquals(expected, names);
+	}
+
+	@Test
+	public void testSortBySchemaViaGraphQL() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(sortBy: SCHEMA, order: DESCENDING) { elements { schema { name } } } }"));
+		assertThat(response.getErrors()).isNullOrEmpty();
+
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < elements.size(); i++) {
+			names.add(elements.getJsonObject(i).getJsonObject("schema").getString("name"));
+		}
+		List<String> expected = new ArrayList<>(names);
+		expected.sort(Comparator.reverseOrder());
+		assertEquals(expected, names);
+	}
+
+	@Test
+	public void testUnknownSortParameters() {
+		// Unknown values are ignored like before sorting was supported
+		NodeListResponse unsorted = call(() -> client().findNodes(PROJECT_NAME));
+		NodeListResponse unknownField = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("bogus")));
+		assertEquals(uuids(unsorted), uuids(unknownField));
+
+		NodeListResponse ascending = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("created")));
+		NodeListResponse unknownOrder = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setOrderBy("created").setSortOrder(
+			"up")));
+		assertEquals(uuids(ascending), uuids(unknownOrder));
+	}
+
+	@Test
+	public void testUnsupportedSortField() {
+		call(() -> client().findUsers(new PagingParametersImpl().setOrderBy("schema")), BAD_REQUEST, "error_sort_field_not_supported", "schema");
+	}
+
+	private List<String> uuids(NodeListResponse response) {
+		return response.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+	}
+
+}
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -74,6 +75,30 @@ public class NodeTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testMaterializedPath() {
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			Node newsNode = content("news overview");
+			assertEquals("/News/News%20Overview.en.html", webrootPath(newsNode, branchUuid, ContainerType.DRAFT, "en"));
+			assertEquals("/News/News%20Overview.en.html", webrootPath(newsNode, branchUuid, ContainerType.PUBLISHED, "en"));
+			assertEquals("/Neuigkeiten/News%20Overview.de.html", webrootPath(newsNode, branchUuid, ContainerType.DRAFT, "de"));
+
+			// Changing the segment of the parent node must update the paths of the subtree in the same language
+			NodeGraphFieldContainer folderContainer = folder("news").getGraphFieldContainer("en");
+			folderContainer.getString("slug").setString("Newsroom");
+			folderContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_update");
+			assertEquals("/Newsroom/News%20Overview.en.html", webrootPath(newsNode, branchUuid, ContainerType.DRAFT, "en"));
+			assertEquals("/Newsroom/2015", webrootPath(folder("2015"), branchUuid, ContainerType.DRAFT, "en"));
+			assertEquals("/Neuigkeiten/News%20Overview.de.html", webrootPath(newsNode, branchUuid, ContainerType.DRAFT, "de"));
+			assertEquals("/Newsroom/News%20Overview.en.html", newsNode.getPath(mockActionContext(), branchUuid, ContainerType.DRAFT, "en"));
+		}
+	}
+
+	private String webrootPath(Node node, String branchUuid, ContainerType type, String languageTag) {
+		return GraphFieldContainerEdgeImpl.findEdge(node.getId(), branchUuid, type.getCode(), languageTag).getWebrootPath();
+	}
+
 	@Test
 	public void testMeshNodeStructure() {
 		try (Tx tx = tx()) {
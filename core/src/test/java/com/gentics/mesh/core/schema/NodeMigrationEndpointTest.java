@@ -6,6 +6,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -35,6 +36,7 @@ import com.gentics.mesh.core.data.branch.BranchSchemaEdge;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerImpl;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerVersionImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
@@ -48,6 +50,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -67,6 +70,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaModelImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.etc.config.ContentConfig;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
@@ -77,6 +81,8 @@ import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
 import com.gentics.mesh.util.IndexOptionHelper;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
 import io.vertx.core.json.JsonObject;
 
@@ -295,6 +301,81 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testParallelMigration() {
+		ContentConfig contentOptions = mesh().boot().mesh().getOptions().getContentOptions();
+		contentOptions.setMigrationWorkers(4);
+		contentOptions.setMigrationBatchSize(2);
+		try {
+			String schemaUuid = tx(() -> schemaContainer("content").getUuid());
+			int count = tx(() -> Iterators.size(schemaContainer("content").getLatestVersion().getDraftFieldContainers(initialBranchUuid())));
+			assertTrue("The test data should contain contents", count > 2);
+
+			SchemaUpdateRequest request = JsonUtil.readValue(tx(() -> schemaContainer("content").getLatestVersion().getJson()),
+				SchemaUpdateRequest.class);
+			request.addField(FieldUtil.createStringFieldSchema("extraField"));
+			waitForJobs(() -> {
+				call(() -> client().updateSchema(schemaUuid, request));
+			}, COMPLETED, 1);
+
+			try (Tx tx = tx()) {
+				SchemaContainerVersion latest = schemaContainer("content").getLatestVersion();
+				assertEquals("All contents should have been migrated", count, Iterators.size(latest.getDraftFieldContainers(initialBranchUuid())));
+				assertFalse("No contents should reference the previous version",
+					latest.getPreviousVersion().getDraftFieldContainers(initialBranchUuid()).hasNext());
+			}
+
+			// The progress is stored after every batch
+			JobListResponse jobs = call(() -> client().findJobs());
+			assertEquals(count, jobs.getData().get(0).getCompletionCount());
+		} finally {
+			contentOptions.setMigrationWorkers(ContentConfig.DEFAULT_MIGRATION_WORKERS);
+			contentOptions.setMigrationBatchSize(ContentConfig.DEFAULT_MIGRATION_BATCH_SIZE);
+		}
+	}
+
+	@Test
+	public void testResumeInterruptedMigration() throws Exception {
+		String schemaUuid = tx(() -> schemaContainer("content").getUuid());
+		int count = tx(() -> Iterators.size(schemaContainer("content").getLatestVersion().getDraftFieldContainers(initialBranchUuid())));
+		int migrated = 2;
+		assertTrue("The test data should contain contents", count > migrated);
+
+		// Queue the migration without processing it
+		mesh().jobWorkerVerticle().stop();
+		SchemaUpdateRequest request = JsonUtil.readValue(tx(() -> schemaContainer("content").getLatestVersion().getJson()),
+			SchemaUpdateRequest.class);
+		request.addField(FieldUtil.createStringFieldSchema("extraField"));
+		call(() -> client().updateSchema(schemaUuid, request));
+
+		// Simulate a migration which was interrupted after the first contents had been migrated
+		String jobUuid = tx(() -> {
+			SchemaContainerVersion latest = schemaContainer("content").getLatestVersion();
+			List<? extends NodeGraphFieldContainer> containers = Lists.newArrayList(latest.getPreviousVersion().getDraftFieldContainers(initialBranchUuid()));
+			for (NodeGraphFieldContainer container : containers.subList(0, migrated)) {
+				container.setSchemaContainerVersion(latest);
+			}
+			Job job = boot().jobRoot().findByUuid(initialBranch().findBranchSchemaEdge(latest).getJobUuid());
+			job.setStatus(RUNNING);
+			job.setNodeName();
+			job.setCompletionCount(migrated);
+			return job.getUuid();
+		});
+
+		// The job worker resumes the interrupted job when it is started
+		mesh().jobWorkerVerticle().start();
+		JobResponse job = waitForJob(() -> {
+		}, jobUuid, COMPLETED);
+		assertEquals("The completion count should include the contents which were migrated before the interruption", count, job.getCompletionCount());
+
+		try (Tx tx = tx()) {
+			SchemaContainerVersion latest = schemaContainer("content").getLatestVersion();
+			assertEquals("All contents should have been migrated", count, Iterators.size(latest.getDraftFieldContainers(initialBranchUuid())));
+			assertFalse("No contents should reference the previous version",
+				latest.getPreviousVersion().getDraftFieldContainers(initialBranchUuid()).hasNext());
+		}
+	}
+
 	@Test
 	public void testMigrateByESFieldNull() {
 		assertFieldEsSettingUpdateForValue(null);
@@ -49,4 +49,9 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void incCompleted(long amount) {
+
+	}
 }
@@ -144,6 +144,41 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testReadTxDiscardsChanges() {
+		UserRoot root = db().tx(() -> boot().userRoot());
+		String username = db().readTx(() -> {
+			User user = root.create("readtxuser", user());
+			assertNotNull(root.findByUsername("readtxuser"));
+			return user.getUsername();
+		});
+		assertEquals("readtxuser", username);
+		try (Tx tx = tx()) {
+			assertNull("The changes of the read transaction must not be committed", root.findByUsername("readtxuser"));
+		}
+	}
+
+	@Test
+	public void testReadTxReusesActiveTx() {
+		try (Tx tx = tx()) {
+			UserRoot root = boot().userRoot();
+			root.create("activetxuser", user());
+			assertNotNull("The read transaction must see the changes of the active transaction", db().readTx(() -> root.findByUsername("activetxuser")));
+			tx.success();
+		}
+		try (Tx tx = tx()) {
+			assertNotNull("Closing the read transaction must not roll back the active transaction", boot().userRoot().findByUsername("activetxuser"));
+		}
+	}
+
+	@Test
+	public void testAsyncReadTx() {
+		String result = db().asyncReadTx(() -> {
+			return Single.just("OK");
+		}).blockingGet();
+		assertEquals("OK", result);
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
@@ -330,6 +330,50 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testDuplicateLinks() {
+		try (Tx tx = tx()) {
+			String uuid = content("news overview").getUuid();
+			final String content = "<a href=\"{{mesh.link(\"" + uuid + "\")}}\">A</a> <a href='{{mesh.link('" + uuid + "', 'en')}}'>B</a> {{mesh.link(\""
+				+ uuid + "\")}}";
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.SHORT, null,
+				null);
+			String path = "/News/News%20Overview.en.html";
+			assertEquals("Check rendered content", "<a href=\"" + path + "\">A</a> <a href='" + path + "'>B</a> " + path, replacedContent);
+		}
+	}
+
+	@Test
+	public void testCachedPathEvictedOnSegmentChange() {
+		meshDagger().nodePathCache().clear();
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			final String content = "{{mesh.link('" + content("news overview").getUuid() + "')}}";
+			String replacedContent = replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content, LinkType.SHORT, null, null);
+			assertEquals("Check rendered content", "/News/News%20Overview.en.html", replacedContent);
+			assertEquals("The path should have been cached", 1, meshDagger().nodePathCache().size());
+
+			// Changing the segment of the parent folder must evict the path of the child
+			NodeGraphFieldContainer folderContainer = folder("news").getGraphFieldContainer("en");
+			folderContainer.getString("slug").setString("Newsroom");
+			folderContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_update");
+			assertEquals("The path should have been evicted", 0, meshDagger().nodePathCache().size());
+
+			replacedContent = replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content, LinkType.SHORT, null, null);
+			assertEquals("Check rendered content", "/Newsroom/News%20Overview.en.html", replacedContent);
+			assertEquals("Paths of a transaction with uncommitted changes must not be cached", 0, meshDagger().nodePathCache().size());
+			// The transaction is rolled back
+		}
+
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			final String content = "{{mesh.link('" + content("news overview").getUuid() + "')}}";
+			String replacedContent = replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content, LinkType.SHORT, null, null);
+			assertEquals("The path of the rolled back segment must not be rendered", "/News/News%20Overview.en.html", replacedContent);
+		}
+	}
+
 	@Test
 	public void testRendering() throws IOException {
 		try (Tx tx = tx()) {
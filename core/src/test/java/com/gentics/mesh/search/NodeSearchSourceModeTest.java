@@ -0,0 +1,79 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
+import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleTermQuery;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(elasticsearch = CONTAINER_ES6, testSize = FULL, startServer = true)
+public class NodeSearchSourceModeTest extends AbstractMeshTest {
+
+	@Test
+	public void testSourceMode() throws Exception {
+		recreateIndices();
+
+		String query = getSimpleTermQuery("schema.name.raw", "content");
+		NodeListResponse loaded = call(() -> client().searchNodes(PROJECT_NAME, query, new PagingParametersImpl(1, 100L),
+			new VersioningParametersImpl().draft()));
+		NodeListResponse source = call(() -> client().searchNodes(PROJECT_NAME, query, new PagingParametersImpl(1, 100L),
+			new VersioningParametersImpl().draft(), new SearchParametersImpl().setSource(true)));
+		assertFalse(source.getData().isEmpty());
+		assertEquals(loaded.getMetainfo().getTotalCount(), source.getMetainfo().getTotalCount());
+
+		for (int i = 0; i < loaded.getData().size(); i++) {
+			NodeResponse expected = loaded.getData().get(i);
+			NodeResponse actual = source.getData().get(i);
+			assertEquals(expected.getUuid(), actual.getUuid());
+			assertEquals(expected.getLanguage(), actual.getLanguage());
+			assertEquals(expected.getDisplayName(), actual.getDisplayName());
+			assertEquals(expected.getSchema().getName(), actual.getSchema().getName());
+			assertEquals(expected.getCreator().getUuid(), actual.getCreator().getUuid());
+			assertEquals(expected.getTags().size(), actual.getTags().size());
+			assertEquals(expected.getProject().getName(), actual.getProject().getName());
+		}
+	}
+
+	@Test
+	public void testSourceModePermissions() throws Exception {
+		String uuid = tx(() -> content("concorde").getUuid());
+		try (Tx tx = tx()) {
+			Node node = content("concorde");
+			role().revokePermissions(node, READ_PERM);
+			tx.success();
+		}
+		recreateIndices();
+
+		// The source mode must filter the documents without loading the nodes
+		NodeListResponse source = call(() -> client().searchNodes(PROJECT_NAME, "{}", new PagingParametersImpl(1, 1000L),
+			new VersioningParametersImpl().draft(), new SearchParametersImpl().setSource(true)));
+		List<String> uuids = source.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		assertFalse(uuids.isEmpty());
+		assertFalse("The node without read permission must not be found", uuids.contains(uuid));
+	}
+
+	@Test
+	public void testSourceModeNotSupported() {
+		call(() -> client().searchUsers("{}", new SearchParametersImpl().setSource(true)), BAD_REQUEST, "search_error_source_mode_not_supported");
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.gentics.mesh.search.resilience;
+
+import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_REQUEST;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6_TOXIC;
+import static com.gentics.mesh.test.context.MeshOptionChanger.SMALL_EVENT_BUFFER_WITH_JOURNAL;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(elasticsearch = CONTAINER_ES6_TOXIC, startServer = true, testSize = FULL, optionChanger = SMALL_EVENT_BUFFER_WITH_JOURNAL)
+public class ElasticsearchEventJournalTest extends AbstractMeshTest {
+
+	@Test
+	public void testRequestBufferOverflow() throws Exception {
+		long createdFolderCount = 10;
+		recreateIndices();
+		long folderCountBefore = getESFolderCount();
+		elasticsearch().dropTraffic();
+
+		// The overflowing events are written to the journal. No sync is needed.
+		expect(INDEX_SYNC_REQUEST).none();
+
+		// Exceed the buffer with requests before the events of the nodes are created
+		for (int i = 0; i < 200; i++) {
+			vertx().eventBus().publish(MeshEvent.SEARCH_FLUSH_REQUEST.address, null);
+		}
+
+		for (int i = 0; i < createdFolderCount; i++) {
+			createNode();
+		}
+
+		elasticsearch().resumeTraffic();
+
+		waitForSearchIdleEvent();
+		awaitEvents();
+
+		assertEquals(createdFolderCount, getESFolderCount() - folderCountBefore);
+	}
+
+	private long getESFolderCount() throws IOException {
+		NodeListResponse response = client().searchNodes(getESText("folders.es")).blockingGet();
+		return response.getMetainfo().getTotalCount();
+	}
+}
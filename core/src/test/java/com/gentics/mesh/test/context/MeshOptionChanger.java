@@ -10,8 +10,13 @@ public enum MeshOptionChanger {
 	NO_CHANGE(ignore -> {
 	}), SMALL_EVENT_BUFFER(options -> {
 		options.getSearchOptions().setEventBufferSize(100);
+		options.getSearchOptions().setEventJournalDirectory(null);
+	}), SMALL_EVENT_BUFFER_WITH_JOURNAL(options -> {
+		options.getSearchOptions().setEventBufferSize(100);
 	}), NO_PATH_CACHE(options -> {
 		options.getCacheConfig().setPathCacheSize(0);
+	}), NODE_RESPONSE_CACHE(options -> {
+		options.getCacheConfig().setNodeResponseCacheSize(1000);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
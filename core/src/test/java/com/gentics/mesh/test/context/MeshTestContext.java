@@ -451,6 +451,8 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.authUserCache().clear();
+		meshDagger.nodePathCache().clear();
 	}
 
 	public TestDataProvider getData() {
@@ -642,6 +644,12 @@ public class MeshTestContext extends TestWatcher {
 
 		String plugindirPath = newFolder("plugins");
 		meshOptions.setPluginDirectory(plugindirPath);
+
+		// The journal may have been disabled by the option changer
+		if (meshOptions.getSearchOptions().getEventJournalDirectory() != null) {
+			String searchJournalPath = newFolder("searchjournal");
+			meshOptions.getSearchOptions().setEventJournalDirectory(searchJournalPath);
+		}
 	}
 
 	/**
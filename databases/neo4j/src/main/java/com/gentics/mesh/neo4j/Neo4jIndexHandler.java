@@ -11,6 +11,7 @@ import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.Vertex;
 
 @Singleton
 public class Neo4jIndexHandler implements IndexHandler {
@@ -47,6 +48,18 @@ public class Neo4jIndexHandler implements IndexHandler {
 		return null;
 	}
 
+	@Override
+	public Stream<Vertex> orderedVertexLookup(Class<?> clazz, String indexPostfix, boolean ascending, Object... keyPrefix) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public Stream<Vertex> orderedVertexLookupFrom(Class<?> clazz, String indexPostfix, boolean ascending, Object from, Object... keyPrefix) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public void addCustomEdgeIndex(String label, String indexPostfix, FieldMap fields, boolean unique) {
 
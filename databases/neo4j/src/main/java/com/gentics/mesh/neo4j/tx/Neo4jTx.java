@@ -77,4 +77,10 @@ public class Neo4jTx extends AbstractTx<FramedTransactionalGraph> {
 		return 0;
 	}
 
+	@Override
+	public boolean hasUncommittedChanges() {
+		// TODO Auto-generated method stub
+		return true;
+	}
+
 }
@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.READ_TX_TIME;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
@@ -47,6 +48,7 @@ import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
+import com.syncleus.ferma.ext.orientdb3.OrientDBReadTx;
 import com.syncleus.ferma.ext.orientdb3.OrientDBTx;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Edge;
@@ -85,6 +87,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private Timer txTimer;
 
+	private Timer readTxTimer;
+
 	private Counter txRetryCounter;
 
 	private OrientDBIndexHandler indexHandler;
@@ -104,6 +108,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.metrics = metrics;
 		if (metrics != null) {
 			txTimer = metrics.timer(TX_TIME);
+			readTxTimer = metrics.timer(READ_TX_TIME);
 			txRetryCounter = metrics.counter(TX_RETRY);
 		}
 		this.typeHandler = typeHandler;
@@ -395,6 +400,38 @@ public class OrientDBDatabase extends AbstractDatabase {
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		Tx activeTx = Tx.get();
+		if (activeTx != null) {
+			// Reuse the active transaction. Closing a new one would roll back the changes of the active transaction.
+			return handleReadTx(txHandler, activeTx);
+		}
+		// Reads don't cause MVCC conflicts. The transaction is thus neither committed nor retried.
+		Timer.Sample sample = Timer.start();
+		try (Tx tx = new OrientDBReadTx(boot.get(), txProvider.rawReadTx(), resolver)) {
+			return handleReadTx(txHandler, tx);
+		} finally {
+			sample.stop(readTxTimer);
+		}
+	}
+
+	private <T> T handleReadTx(TxAction<T> txHandler, Tx tx) {
+		try {
+			return txHandler.handle(tx);
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read transaction", e);
+			}
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read transaction", e);
+			}
+			throw new RuntimeException("Transaction error", e);
+		}
+	}
+
 	@Override
 	public String backupGraph(String backupDirectory) throws IOException {
 		return txProvider.backup(backupDirectory);
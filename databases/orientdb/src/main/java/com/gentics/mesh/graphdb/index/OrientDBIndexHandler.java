@@ -2,10 +2,15 @@ package com.gentics.mesh.graphdb.index;
 
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
+import static com.gentics.mesh.util.StreamUtil.toStream;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -36,6 +41,7 @@ import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
 import com.tinkerpop.blueprints.impls.orient.OrientElementType;
@@ -149,6 +155,82 @@ public class OrientDBIndexHandler implements IndexHandler {
 		return ids;
 	}
 
+	@Override
+	public Stream<Vertex> orderedVertexLookup(Class<?> clazz, String indexPostfix, boolean ascending, Object... keyPrefix) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OIndex<?> index = getOrderedIndex(orientBaseGraph, clazz, indexPostfix);
+
+		Stream<OIdentifiable> ids;
+		if (keyPrefix.length == 0) {
+			// Iterate over the whole sb-tree index. Entries without a value are not part of the tree and are appended at the end.
+			OIndexCursor cursor = ascending ? index.cursor() : index.descCursor();
+			ids = Stream.concat(toStream(cursor), Stream.of(index).flatMap(this::nullEntries));
+		} else {
+			// The sb-tree will only return the entries which start with the given partial composite key
+			OCompositeKey key = new OCompositeKey(keyPrefix);
+			ids = toStream(index.iterateEntriesBetween(key, true, key, true, ascending));
+		}
+		return toVertices(orientBaseGraph, ids);
+	}
+
+	@Override
+	public Stream<Vertex> orderedVertexLookupFrom(Class<?> clazz, String indexPostfix, boolean ascending, Object from, Object... keyPrefix) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OIndex<?> index = getOrderedIndex(orientBaseGraph, clazz, indexPostfix);
+
+		Stream<OIdentifiable> ids;
+		if (keyPrefix.length == 0) {
+			if (from == null) {
+				// Entries without a value are always returned last
+				ids = nullEntries(index);
+			} else {
+				OIndexCursor cursor = ascending ? index.iterateEntriesMajor(from, true, true) : index.iterateEntriesMinor(from, true, false);
+				ids = Stream.concat(toStream(cursor), Stream.of(index).flatMap(this::nullEntries));
+			}
+		} else {
+			// The partial composite key of the prefix marks the upper or lower boundary of the entries
+			OCompositeKey prefix = new OCompositeKey(keyPrefix);
+			List<Object> startKeys = new ArrayList<>(Arrays.asList(keyPrefix));
+			startKeys.add(from);
+			OCompositeKey start = new OCompositeKey(startKeys);
+			OIndexCursor cursor = ascending
+				? index.iterateEntriesBetween(start, true, prefix, true, true)
+				: index.iterateEntriesBetween(prefix, true, start, true, false);
+			ids = toStream(cursor);
+		}
+		return toVertices(orientBaseGraph, ids);
+	}
+
+	private OIndex<?> getOrderedIndex(OrientBaseGraph orientBaseGraph, Class<?> clazz, String indexPostfix) {
+		String name = clazz.getSimpleName();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(name);
+		if (vertexType == null) {
+			throw new RuntimeException("Vertex type {" + name + "} is unknown. Can't lookup index {" + indexPostfix + "}");
+		}
+		OIndex<?> index = vertexType.getClassIndex(name + "_" + indexPostfix);
+		if (index == null) {
+			throw new RuntimeException("Index {" + indexPostfix + "} for vertex type {" + name + "} could not be found.");
+		}
+		return index;
+	}
+
+	private Stream<Vertex> toVertices(OrientBaseGraph orientBaseGraph, Stream<OIdentifiable> ids) {
+		return ids
+			.map(id -> (Vertex) orientBaseGraph.getVertex(id.getIdentity()))
+			.filter(Objects::nonNull);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Stream<OIdentifiable> nullEntries(OIndex<?> index) {
+		Object value = index.get(null);
+		if (value instanceof Collection) {
+			return ((Collection<OIdentifiable>) value).stream();
+		} else if (value instanceof OIdentifiable) {
+			return Stream.of((OIdentifiable) value);
+		}
+		return Stream.empty();
+	}
+
 	@Override
 	public void removeVertexIndex(String indexName, Class<? extends VertexFrame> clazz) {
 		if (log.isDebugEnabled()) {
@@ -345,6 +427,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		String indexName = def.getName();
 		FieldMap fields = def.getFields();
 		boolean unique = def.isUnique();
+		boolean ordered = def.isOrdered();
 
 		if (!StringUtils.isEmpty(def.getPostfix())) {
 			indexName = indexName + "_" + def.getPostfix();
@@ -377,8 +460,14 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				String indexType;
+				if (ordered) {
+					// Ordered indices need to be backed by a sb-tree. Null values are kept so that all elements can be iterated via the index.
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE.toString() : OClass.INDEX_TYPE.NOTUNIQUE.toString();
+				} else {
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+				}
+				v.createIndex(indexName, indexType, null, new ODocument().fields("ignoreNullValues", !ordered), fieldArray);
 			}
 		} finally {
 			noTx.shutdown();
@@ -2,6 +2,7 @@ package com.gentics.mesh.graphdb.tx;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.metric.SimpleMetric.NO_TX;
+import static com.gentics.mesh.metric.SimpleMetric.READ_TX;
 import static com.gentics.mesh.metric.SimpleMetric.TX;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
@@ -41,11 +42,14 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 
 	protected final Counter noTxCounter;
 
+	protected final Counter readTxCounter;
+
 	public AbstractOrientStorage(MeshOptions options, MetricsService metrics) {
 		this.options = options;
 		this.metrics = metrics;
 		this.txCounter = metrics.counter(TX);
 		this.noTxCounter = metrics.counter(NO_TX);
+		this.readTxCounter = metrics.counter(READ_TX);
 	}
 
 	public MeshOptions getOptions() {
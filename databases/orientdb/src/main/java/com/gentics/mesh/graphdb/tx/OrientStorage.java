@@ -19,6 +19,13 @@ public interface OrientStorage extends GraphStorage {
 	 */
 	OrientGraph rawTx();
 
+	/**
+	 * Get a raw tinkerpop transaction which is only used for reading. The transaction will never be committed.
+	 * 
+	 * @return
+	 */
+	OrientGraph rawReadTx();
+
 	/**
 	 * Get a raw noTx tinkerpop transaction.
 	 * 
@@ -55,6 +55,15 @@ public class OrientLocalStorageImpl extends AbstractOrientStorage {
 		return factory.getTx();
 	}
 
+	@Override
+	public OrientGraph rawReadTx() {
+		if (metrics.isEnabled()) {
+			readTxCounter.increment();
+		}
+		// The graph is taken from the pool of the factory
+		return factory.getTx();
+	}
+
 	@Override
 	public OrientGraphNoTx rawNoTx() {
 		if (metrics.isEnabled()) {
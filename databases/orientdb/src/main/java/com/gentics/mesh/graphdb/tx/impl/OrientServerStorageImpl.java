@@ -9,6 +9,7 @@ import com.gentics.mesh.graphdb.tx.AbstractOrientStorage;
 import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
@@ -22,6 +23,11 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 
 	private OrientDB context;
 
+	/**
+	 * Pool of the sessions which are used for read transactions.
+	 */
+	private ODatabasePool readPool;
+
 	public OrientServerStorageImpl(MeshOptions options, OrientDB context, MetricsService metrics) {
 		super(options, metrics);
 		this.context = context;
@@ -38,6 +44,10 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 
 	@Override
 	public void close() {
+		if (readPool != null) {
+			readPool.close();
+			readPool = null;
+		}
 		if (context.isOpen()) {
 			context.close();
 		}
@@ -53,6 +63,22 @@ public class OrientServerStorageImpl extends AbstractOrientStorage {
 		return (OrientGraph) OrientGraphFactory.getTxGraphImplFactory().getGraph((ODatabaseDocumentInternal) db);
 	}
 
+	@Override
+	public OrientGraph rawReadTx() {
+		if (metrics.isEnabled()) {
+			readTxCounter.increment();
+		}
+		ODatabaseSession db = getReadPool().acquire();
+		return (OrientGraph) OrientGraphFactory.getTxGraphImplFactory().getGraph((ODatabaseDocumentInternal) db);
+	}
+
+	private synchronized ODatabasePool getReadPool() {
+		if (readPool == null) {
+			readPool = new ODatabasePool(context, DB_NAME, "admin", "admin");
+		}
+		return readPool;
+	}
+
 	@Override
 	public OrientGraphNoTx rawNoTx() {
 		if (metrics.isEnabled()) {
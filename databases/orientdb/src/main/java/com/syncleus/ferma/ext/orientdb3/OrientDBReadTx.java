@@ -0,0 +1,28 @@
+package com.syncleus.ferma.ext.orientdb3;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+
+/**
+ * Transaction which is only used for reading. The transaction is never committed. Changes which are made within the transaction are discarded when the
+ * transaction is closed.
+ */
+public class OrientDBReadTx extends OrientDBTx {
+
+	public OrientDBReadTx(BootstrapInitializer boot, OrientGraph graph, TypeResolver typeResolver) {
+		super(boot, graph, typeResolver);
+	}
+
+	@Override
+	public void close() {
+		try {
+			rollback();
+		} finally {
+			getGraph().shutdown();
+			Tx.setActive(null);
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.syncleus.ferma.FramedTransactionalGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 
@@ -60,6 +61,19 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		}
 	}
 
+	/**
+	 * Create a transaction which uses the given graph. An already active transaction is not wrapped.
+	 *
+	 * @param boot
+	 * @param graph
+	 * @param typeResolver
+	 */
+	protected OrientDBTx(BootstrapInitializer boot, OrientGraph graph, TypeResolver typeResolver) {
+		this.typeResolver = typeResolver;
+		this.boot = boot;
+		init(new DelegatingFramedOrientGraph(graph, typeResolver));
+	}
+
 	@Override
 	public void close() {
 		try {
@@ -114,6 +128,12 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		return 0;
 	}
 
+	@Override
+	public boolean hasUncommittedChanges() {
+		OrientBaseGraph graph = (OrientBaseGraph) ((DelegatingFramedOrientGraph) getGraph()).getBaseGraph();
+		return graph.getRawGraph().getTransaction().getEntryCount() > 0;
+	}
+
 	@Override
 	protected void init(FramedTransactionalGraph transactionalGraph) {
 		Mesh mesh = boot.mesh();
@@ -4,9 +4,18 @@ import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
 import static com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS.ONLINE;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,11 +24,16 @@ import javax.naming.InvalidNameException;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.RouterStorageRegistry;
 import com.orientechnologies.orient.server.distributed.ODistributedServerManager.DB_STATUS;
+import com.tinkerpop.blueprints.Vertex;
 
 import dagger.Lazy;
 import io.vertx.core.Vertx;
@@ -76,14 +90,52 @@ public class DistributedEventManager {
 			permCache.get().clear(false);
 		});
 
+		// Invalidate the permissions of single elements, users and roles. The whole permission store is cleared if the invalidation fails.
+		EventEnvelope.consumer(eb, ROLE_PERMISSIONS_CHANGED, handler -> {
+			String uuid = handler.body().getString("uuid");
+			invalidatePermissions(tx -> {
+				Iterator<Vertex> it = tx.getGraph().getVertices("MeshVertexImpl.uuid", uuid).iterator();
+				if (it.hasNext()) {
+					permCache.get().invalidate(it.next().getId(), false);
+				}
+			});
+		});
+		EventEnvelope.consumer(eb, ROLE_DELETED, handler -> {
+			permCache.get().invalidateRole(handler.body().getString("uuid"));
+		});
+		for (MeshEvent event : Arrays.asList(GROUP_USER_ASSIGNED, GROUP_USER_UNASSIGNED)) {
+			EventEnvelope.consumer(eb, event, handler -> {
+				String userUuid = handler.body().getJsonObject("user").getString("uuid");
+				invalidatePermissions(tx -> {
+					User user = boot.get().userRoot().findByUuid(userUuid);
+					if (user != null) {
+						permCache.get().invalidateUser(user.id());
+					}
+				});
+			});
+		}
+		for (MeshEvent event : Arrays.asList(GROUP_ROLE_ASSIGNED, GROUP_ROLE_UNASSIGNED)) {
+			EventEnvelope.consumer(eb, event, handler -> {
+				String groupUuid = handler.body().getJsonObject("group").getString("uuid");
+				invalidatePermissions(tx -> {
+					Group group = boot.get().groupRoot().findByUuid(groupUuid);
+					if (group != null) {
+						for (User user : group.getUsers()) {
+							permCache.get().invalidateUser(user.id());
+						}
+					}
+				});
+			});
+		}
+
 		// React on project creates
-		eb.consumer(Project.TYPE_INFO.getOnCreated().getAddress(), (Message<JsonObject> handler) -> {
+		EventEnvelope.consumer(eb, Project.TYPE_INFO.getOnCreated(), handler -> {
 			log.info("Received project create event");
 			handleClusterTopologyUpdate(handler);
 		});
 
 		// React on project updates
-		eb.consumer(Project.TYPE_INFO.getOnUpdated().getAddress(), (Message<JsonObject> handler) -> {
+		EventEnvelope.consumer(eb, Project.TYPE_INFO.getOnUpdated(), handler -> {
 			log.info("Received project update event.");
 			handleClusterTopologyUpdate(handler);
 		});
@@ -114,6 +166,22 @@ public class DistributedEventManager {
 		permCache.get().clear();
 	}
 
+	/**
+	 * Run the invalidation of the permission cache in a transaction within the worker pool. The permission cache is cleared if the invalidation fails.
+	 *
+	 * @param invalidation
+	 */
+	private void invalidatePermissions(Consumer<Tx> invalidation) {
+		db.get().maybeTx(tx -> {
+			invalidation.accept(tx);
+			return true;
+		}).subscribe(ignore -> {
+		}, error -> {
+			log.error("Error while invalidating the permission cache. Clearing the permission cache.", error);
+			permCache.get().clear(false);
+		});
+	}
+
 	private void synchronizeProjectRoutes() throws InvalidNameException {
 		BootstrapInitializer cboot = boot.get();
 		Database cdb = db.get();
@@ -48,10 +48,8 @@ import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
-import com.gentics.mesh.util.Tuple;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -103,6 +101,20 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 	 * @return
 	 */
 	protected JsonObject prepareSearchQuery(InternalActionContext ac, String searchQuery, boolean filterLanguage) {
+		return prepareSearchQuery(ac, searchQuery, filterLanguage, false);
+	}
+
+	/**
+	 * Prepare the initial search query and inject the values we need to check role permissions.
+	 * 
+	 * @param ac
+	 * @param searchQuery
+	 * @param filterLanguage
+	 * @param enforcePermissionFilter
+	 *            Whether to add the role permission filter also to requests which don't contain a query
+	 * @return
+	 */
+	protected JsonObject prepareSearchQuery(InternalActionContext ac, String searchQuery, boolean filterLanguage, boolean enforcePermissionFilter) {
 		try {
 			JsonObject userJson = new JsonObject(searchQuery);
 
@@ -118,6 +130,9 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 			// Wrap the original query in a nested bool query in order check the role perms
 			JsonObject originalQuery = userJson.getJsonObject("query");
+			if (originalQuery == null && enforcePermissionFilter) {
+				originalQuery = new JsonObject().put("match_all", new JsonObject());
+			}
 			if (originalQuery != null) {
 				newQuery.getJsonObject("bool").put("must", originalQuery);
 				userJson.put("query", newQuery);
@@ -210,6 +225,12 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			throw new InvalidArgumentException("The pageSize must always be zero or greater than zero");
 		}
 
+		// Results of the source mode are directly created from the search documents and are thus only filtered via the role permission filter
+		boolean sourceMode = ac.getSearchParameters().isSource();
+		if (sourceMode && getSourceFields() == null) {
+			throw error(BAD_REQUEST, "search_error_source_mode_not_supported");
+		}
+
 		RL listResponse = classOfRL.newInstance();
 
 		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
@@ -222,7 +243,10 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			Set<String> indices = indexHandler.getSelectedIndices(ac);
 
 			// Add permission checks to the query
-			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
+			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage, sourceMode);
+			if (sourceMode) {
+				request.put("_source", new JsonArray(getSourceFields()));
+			}
 
 			// Add paging to query. Internally we start with page 0
 			applyPagingParams(request, pagingInfo);
@@ -239,74 +263,112 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
 			return requestBuilder.async();
-		})).flatMapObservable(response -> {
+		})).map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
-
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
-			JsonArray hits = hitsInfo.getJsonArray("hits");
-
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
+			return firstResponse.getJsonObject("hits");
+		}).onErrorResumeNext(error -> {
+			return Single.error(mapToMeshError(error));
+		}).flatMap(hitsInfo -> {
+			if (sourceMode) {
+				JsonArray hits = hitsInfo.getJsonArray("hits");
 				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-						}
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
-					}
+					listResponse.getData().add(transformSource(hits.getJsonObject(i).getJsonObject("_source")));
 				}
+				listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				return Single.just(listResponse);
+			}
+			// Load and transform all hits of the page within a single transaction. The hydration is executed in the worker pool which bounds the amount of
+			// pages that are hydrated concurrently.
+			return db.singleTx(() -> {
+				hydrate(ac, hitsInfo, elementLoader, listResponse);
+				// Set meta information to the rest response
+				listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				return listResponse;
 			});
-
-			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
-
-			return Observable.fromIterable(list);
-		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
-		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+		}).subscribe(response -> {
+			ac.send(response.toJson(), OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
 		});
 	}
 
+	/**
+	 * Return the fields of the search documents which are needed to transform the documents via {@link #transformSource(JsonObject)}.
+	 * 
+	 * @return List of fields or null if the handler does not support the source mode
+	 */
+	protected List<String> getSourceFields() {
+		return null;
+	}
+
+	/**
+	 * Transform the source of a search document into a rest model. The rest model will only contain the information which is stored in the document.
+	 * 
+	 * @param source
+	 * @return
+	 */
+	protected RM transformSource(JsonObject source) {
+		throw error(BAD_REQUEST, "search_error_source_mode_not_supported");
+	}
+
+	/**
+	 * Load the elements of the search hits and add the transformed elements to the list response. Elements which can no longer be found will be omitted and
+	 * the total count of the hits info will be reduced accordingly. This method must be invoked within a transaction.
+	 * 
+	 * @param ac
+	 * @param hitsInfo
+	 *            Hits info of the search response
+	 * @param elementLoader
+	 *            Loader which is used to load the element for the uuid of a hit
+	 * @param listResponse
+	 *            Response to which the transformed elements will be added
+	 */
+	protected <RL extends ListResponse<RM>> void hydrate(InternalActionContext ac, JsonObject hitsInfo, Function<String, T> elementLoader,
+		RL listResponse) {
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+		long total = extractTotalCount(hitsInfo);
+		long missing = 0;
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject hit = hits.getJsonObject(i);
+			String id = hit.getString("_id");
+			int pos = id.indexOf("-");
+
+			String language = pos > 0 ? id.substring(pos + 1) : null;
+			String uuid = pos > 0 ? id.substring(0, pos) : id;
+
+			// Locate the node
+			T element = elementLoader.apply(uuid);
+			if (element == null) {
+				log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
+				missing++;
+				continue;
+			}
+			listResponse.getData().add(element.transformToRestSync(ac, 0, language));
+		}
+
+		if (missing > 0) {
+			// Reduce the total count
+			switch (complianceMode) {
+			case ES_6:
+				hitsInfo.put("total", total - missing);
+				break;
+			case ES_7:
+				hitsInfo.put("total", new JsonObject().put("value", total - missing));
+				break;
+			default:
+				throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+			}
+		}
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -3,14 +3,25 @@ package com.gentics.mesh.search.index.entry;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.elasticsearch.client.ElasticsearchClient;
 import com.gentics.elasticsearch.client.HttpErrorException;
-import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -21,7 +32,6 @@ import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -35,15 +45,13 @@ import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMeters;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.gentics.mesh.search.verticle.eventhandler.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.reactivex.Single;
-import io.reactivex.functions.Action;
-import io.reactivex.functions.Function;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -62,6 +70,11 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	public static final int ES_SYNC_FETCH_BATCH_SIZE = 1000;
 
+	/**
+	 * Amount of indices of a handler which will be synchronized concurrently.
+	 */
+	public static final int ES_SYNC_INDEX_CONCURRENCY = 4;
+
 	protected final SearchProvider searchProvider;
 
 	protected final Database db;
@@ -188,134 +201,211 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	}
 
 	/**
-	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries.
+	 * Diff the source (graph) with the sink (ES index) and create the requests which add, update or delete the documents of the index.
 	 * 
 	 * @param indexName
 	 * @param projectUuid
 	 * @return
 	 */
 	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid) {
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(this::loadVersionsFromGraph),
-			(sinkVersions, sourceVersions) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					log.info("No diff detected. Index {" + indexName + "} is in sync.");
-					return Flowable.<SearchRequest>empty();
-				}
-
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getUpdateMeter().addPending((needUpdateInEs.size()));
-				meters.getDeleteMeter().addPending((needRemovalInES.size()));
-
-				Function<Action, Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+		return this.<T>diffAndSync(indexName,
+			this::loadAllElements,
+			MeshElement::getUuid,
+			this::generateVersion,
+			element -> getTransformer().toDocument(element),
+			uuid -> getElement(uuid) != null);
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+	/**
+	 * Diff the given source elements of the graph with the documents of the index. The diff is streamed in chunks of {@link #ES_SYNC_FETCH_BATCH_SIZE}
+	 * elements so that only the versions of the current chunk need to be held in memory:
+	 * <ul>
+	 * <li>The source elements are iterated within a single transaction. The versions of the documents for each chunk of elements are loaded from the index
+	 * via an ids query and inserts or updates are created for missing or outdated documents.</li>
+	 * <li>Afterwards the index is scrolled and deletes are created for all documents which have no matching source element.</li>
+	 * </ul>
+	 * 
+	 * @param indexName
+	 *            Name of the index without the installation prefix
+	 * @param source
+	 *            Supplier for the stream of source elements. The supplier will be invoked within a transaction.
+	 * @param documentId
+	 *            Function which returns the document id for a source element
+	 * @param version
+	 *            Function which returns the document version for a source element
+	 * @param document
+	 *            Function which creates the document for a source element
+	 * @param existsInSource
+	 *            Predicate which checks whether a document id still has a matching source element. The predicate will be invoked within a transaction.
+	 * @return
+	 */
+	protected <E> Flowable<SearchRequest> diffAndSync(String indexName, Supplier<Stream<? extends E>> source, Function<E, String> documentId,
+		Function<E, String> version, Function<E, JsonObject> document, Predicate<String> existsInSource) {
+		return Flowable.concat(
+			syncSourceElements(indexName, source, documentId, version, document),
+			removeStaleDocuments(indexName, existsInSource))
+			.doOnSubscribe(ignore -> log.info("Handling index sync on handler {" + getClass().getName() + "} for index {" + indexName + "}"));
 	}
 
-	protected T getElement(String elementUuid) {
-		return elementLoader().apply(elementUuid);
+	/**
+	 * Iterate over the source elements and create the insert and update requests chunk by chunk. The transaction in which the elements are iterated is
+	 * bound to a dedicated thread which is used for all chunks of the index.
+	 */
+	private <E> Flowable<SearchRequest> syncSourceElements(String indexName, Supplier<Stream<? extends E>> source, Function<E, String> documentId,
+		Function<E, String> version, Function<E, JsonObject> document) {
+		return Flowable.defer(() -> {
+			ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "mesh-index-sync-" + indexName));
+			Scheduler scheduler = Schedulers.from(executor);
+			return Flowable.<List<SearchRequest>, SourceCursor<E>>generate(
+				() -> new SourceCursor<>(db.tx(), source),
+				(cursor, emitter) -> {
+					List<E> chunk = cursor.next(ES_SYNC_FETCH_BATCH_SIZE);
+					if (chunk.isEmpty()) {
+						emitter.onComplete();
+					} else {
+						emitter.onNext(diffChunk(indexName, chunk, documentId, version, document));
+					}
+				},
+				SourceCursor::close)
+				.subscribeOn(scheduler)
+				.unsubscribeOn(scheduler)
+				.doFinally(executor::shutdown)
+				.concatMapIterable(requests -> requests);
+		});
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		return db.tx(() -> loadAllElements()
-			.collect(Collectors.toMap(
-				MeshElement::getUuid,
-				this::generateVersion)));
+	private <E> List<SearchRequest> diffChunk(String indexName, List<E> chunk, Function<E, String> documentId, Function<E, String> version,
+		Function<E, JsonObject> document) {
+		Map<String, E> elements = new LinkedHashMap<>();
+		for (E element : chunk) {
+			elements.put(documentId.apply(element), element);
+		}
+		Map<String, String> sinkVersions = loadVersionsFromIndex(indexName, elements.keySet());
+
+		List<SearchRequest> requests = new ArrayList<>();
+		int inserts = 0;
+		int updates = 0;
+		for (Map.Entry<String, E> entry : elements.entrySet()) {
+			String id = entry.getKey();
+			E element = entry.getValue();
+			if (!sinkVersions.containsKey(id)) {
+				requests.add(helper.createDocumentRequest(indexName, id, document.apply(element), complianceMode, meters.getInsertMeter()::synced));
+				inserts++;
+			} else if (!Objects.equals(sinkVersions.get(id), version.apply(element))) {
+				requests.add(helper.createDocumentRequest(indexName, id, document.apply(element), complianceMode, meters.getUpdateMeter()::synced));
+				updates++;
+			}
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Pending insertions on {" + indexName + "}:" + inserts + ", pending updates:" + updates);
+		}
+		meters.getInsertMeter().addPending(inserts);
+		meters.getUpdateMeter().addPending(updates);
+		return requests;
 	}
 
-	// TODO Async
-	public Single<Map<String, String>> loadVersionsFromIndex(String indexName) {
-		return Single.fromCallable(() -> {
+	/**
+	 * Scroll over all documents of the index and create delete requests for the documents which have no matching source element.
+	 */
+	private Flowable<SearchRequest> removeStaleDocuments(String indexName, Predicate<String> existsInSource) {
+		return Flowable.defer(() -> {
 			String fullIndexName = searchProvider.installationPrefix() + indexName;
-			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
 			JsonObject query = new JsonObject();
 			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
+			query.put("_source", false);
 			query.put("query", new JsonObject().put("match_all", new JsonObject()));
 			query.put("sort", new JsonArray().add("_doc"));
 
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
-				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
-							}
+			return RxUtil.scrollAll(searchProvider.getClient(), query, "1m", fullIndexName)
+				.concatMapIterable(response -> db.tx(() -> {
+					JsonArray hits = response.getJsonObject("hits").getJsonArray("hits");
+					List<SearchRequest> requests = new ArrayList<>();
+					for (int i = 0; i < hits.size(); i++) {
+						String id = hits.getJsonObject(i).getString("_id");
+						if (!existsInSource.test(id)) {
+							requests.add(helper.deleteDocumentRequest(indexName, id, complianceMode, meters.getDeleteMeter()::synced));
 						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
 					}
-				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
-			}
-
-			return versions;
+					if (log.isDebugEnabled()) {
+						log.debug("Pending removals on {" + indexName + "}:" + requests.size());
+					}
+					meters.getDeleteMeter().addPending(requests.size());
+					return requests;
+				}));
 		});
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
+	protected T getElement(String elementUuid) {
+		return elementLoader().apply(elementUuid);
+	}
+
+	/**
+	 * Load the versions of the documents with the given ids from the index. Documents which are not part of the index will be omitted.
+	 * 
+	 * @param indexName
+	 * @param ids
+	 * @return Map of document ids to versions
+	 */
+	protected Map<String, String> loadVersionsFromIndex(String indexName, Collection<String> ids) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		JsonObject query = new JsonObject();
+		query.put("size", ids.size());
+		query.put("_source", new JsonArray().add("version"));
+		query.put("query", new JsonObject().put("ids", new JsonObject().put("values", new JsonArray(new ArrayList<>(ids)))));
+		JsonObject queryOption = new JsonObject().put("index", fullIndexName);
+
+		JsonObject response;
+		try {
+			response = client.multiSearch(queryOption, query).sync();
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+			log.error(e);
+			throw e;
+		}
+		JsonObject firstResponse = response.getJsonArray("responses").getJsonObject(0);
+		JsonObject errorInfo = firstResponse.getJsonObject("error");
+		if (errorInfo != null) {
+			throw new RuntimeException("Error while loading version information from index {" + indexName + "}: " + errorInfo.encode());
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("Got response {" + firstResponse.encodePrettily() + "}");
+		}
+
+		Map<String, String> versions = new HashMap<>();
+		JsonArray hits = firstResponse.getJsonObject("hits").getJsonArray("hits");
 		for (int i = 0; i < hits.size(); i++) {
 			JsonObject hit = hits.getJsonObject(i);
 			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
+			versions.put(hit.getString("_id"), source == null ? null : source.getString("version"));
+		}
+		return versions;
+	}
+
+	/**
+	 * Cursor over the source elements which keeps the transaction open in which the elements are iterated.
+	 */
+	private static class SourceCursor<E> {
+
+		private final Tx tx;
+
+		private final Iterator<? extends E> iterator;
+
+		SourceCursor(Tx tx, Supplier<Stream<? extends E>> source) {
+			this.tx = tx;
+			this.iterator = source.get().iterator();
+		}
+
+		List<E> next(int size) {
+			List<E> chunk = new ArrayList<>(size);
+			while (chunk.size() < size && iterator.hasNext()) {
+				chunk.add(iterator.next());
+			}
+			return chunk;
+		}
+
+		void close() {
+			tx.close();
 		}
 	}
 
@@ -37,7 +37,6 @@ import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.Schema;
@@ -49,15 +48,11 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.reactivex.functions.Action;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -218,82 +213,48 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 					.flatMap(branch -> branch.findActiveSchemaVersions().stream()
 						.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
 							.map(type -> diffAndSync(project, branch, version, type)))))
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				.collect(Collectors.collectingAndThen(Collectors.toList(), list -> Flowable.merge(list, ES_SYNC_INDEX_CONCURRENCY)));
 		}));
 	}
 
-	private Map<String, NodeGraphFieldContainer> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
-		return db.tx(() -> {
-			String branchUuid = branch.getUuid();
-			return version.getFieldContainers(branchUuid)
+	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type) {
+		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
+			version.getUuid(), type);
+		String branchUuid = branch.getUuid();
+
+		// The UUID alone is not enough to id a document in the node index. The document id also contains the language.
+		return this.<NodeGraphFieldContainer>diffAndSync(indexName,
+			() -> version.getFieldContainers(branchUuid)
 				.filter(c -> c.getSchemaContainerVersion().equals(version))
-				.filter(c -> c.isType(type, branchUuid))
-				.collect(Collectors.toMap(c -> c.getParentNode().getUuid() + "-" + c.getLanguageTag(), Function.identity()));
-		});
+				.filter(c -> c.isType(type, branchUuid)),
+			c -> c.getParentNode().getUuid() + "-" + c.getLanguageTag(),
+			c -> generateVersion(c, branchUuid, type),
+			c -> getTransformer().toDocument(c, branchUuid, type),
+			documentId -> containerExists(documentId, version, branchUuid, type));
 	}
 
 	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
+	 * Check whether the container for the given document id exists in the graph and still uses the given schema version.
+	 * 
+	 * @param documentId
+	 *            Document id which consists of the node uuid and the language tag
+	 * @param version
+	 * @param branchUuid
+	 * @param type
+	 * @return
 	 */
-	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
+	private boolean containerExists(String documentId, SchemaContainerVersion version, String branchUuid, ContainerType type) {
+		// The uuid itself does not contain dashes
+		int separator = documentId.indexOf('-');
+		if (separator == -1) {
+			return false;
 		}
-	}
-
-	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type) {
-		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
-			version.getUuid(), type);
-
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(() -> loadVersionsFromGraph(branch, version, type)),
-			(sinkVersions, sourceNodes) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-				String branchUuid = branch.getUuid();
-
-				Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-				// 3. Diff the maps
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					return Flowable.<SearchRequest>empty();
-				}
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-				log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
-
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getDeleteMeter().addPending(needRemovalInES.size());
-				meters.getUpdateMeter().addPending(needUpdateInEs.size());
-
-				io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
-
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+		Node node = getElement(documentId.substring(0, separator));
+		if (node == null) {
+			return false;
+		}
+		NodeGraphFieldContainer container = node.getGraphFieldContainer(documentId.substring(separator + 1), branchUuid, type);
+		return container != null && container.getSchemaContainerVersion().equals(version);
 	}
 
 	@Override
@@ -31,6 +31,11 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagReference;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.core.rest.user.UserReference;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
@@ -52,6 +57,12 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	private static final Logger log = LoggerFactory.getLogger(NodeSearchHandler.class);
 
+	/**
+	 * Fields of the node documents which are needed to create the responses of the source mode.
+	 */
+	private static final List<String> SOURCE_FIELDS = Arrays.asList("uuid", "language", "created", "edited", "creator", "editor", "project",
+		"schema", "parentNode", "displayField", "tagFamilies");
+
 	private BootstrapInitializer boot;
 
 	@Inject
@@ -181,4 +192,60 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	}
 
+	@Override
+	protected List<String> getSourceFields() {
+		return SOURCE_FIELDS;
+	}
+
+	@Override
+	protected NodeResponse transformSource(JsonObject source) {
+		NodeResponse response = new NodeResponse();
+		response.setUuid(source.getString("uuid"));
+		response.setLanguage(source.getString("language"));
+		response.setCreated(source.getString("created"));
+		response.setEdited(source.getString("edited"));
+
+		JsonObject creator = source.getJsonObject("creator");
+		if (creator != null) {
+			response.setCreator(new UserReference().setUuid(creator.getString("uuid")));
+		}
+		JsonObject editor = source.getJsonObject("editor");
+		if (editor != null) {
+			response.setEditor(new UserReference().setUuid(editor.getString("uuid")));
+		}
+		JsonObject project = source.getJsonObject("project");
+		if (project != null) {
+			response.setProject(new ProjectReference().setName(project.getString("name")).setUuid(project.getString("uuid")));
+		}
+		JsonObject schema = source.getJsonObject("schema");
+		if (schema != null) {
+			response.setSchema(new SchemaReferenceImpl().setName(schema.getString("name")).setUuid(schema.getString("uuid")).setVersion(schema
+				.getString("version")));
+		}
+		JsonObject parentNode = source.getJsonObject("parentNode");
+		if (parentNode != null) {
+			response.setParentNode(new NodeReference().setUuid(parentNode.getString("uuid")));
+		}
+		JsonObject displayField = source.getJsonObject("displayField");
+		if (displayField != null) {
+			response.setDisplayField(displayField.getString("key"));
+			response.setDisplayName(displayField.getString("value"));
+		}
+
+		// The tag family names are only stored within the tag families object
+		List<TagReference> tags = new ArrayList<>();
+		JsonObject tagFamilies = source.getJsonObject("tagFamilies");
+		if (tagFamilies != null) {
+			for (String familyName : tagFamilies.fieldNames()) {
+				JsonArray familyTags = tagFamilies.getJsonObject(familyName).getJsonArray("tags");
+				for (int i = 0; i < familyTags.size(); i++) {
+					JsonObject tag = familyTags.getJsonObject(i);
+					tags.add(new TagReference().setName(tag.getString("name")).setUuid(tag.getString("uuid")).setTagFamily(familyName));
+				}
+			}
+		}
+		response.setTags(tags);
+		return response;
+	}
+
 }
@@ -121,7 +121,7 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 				.map(project -> {
 					String uuid = project.getUuid();
 					return diffAndSync(Tag.composeIndexName(uuid), uuid);
-				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				}).collect(Collectors.collectingAndThen(Collectors.toList(), list -> Flowable.merge(list, ES_SYNC_INDEX_CONCURRENCY)));
 		}));
 	}
 
@@ -111,7 +111,7 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 					String uuid = project.getUuid();
 					String indexName = TagFamily.composeIndexName(uuid);
 					return diffAndSync(indexName, uuid);
-				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				}).collect(Collectors.collectingAndThen(Collectors.toList(), list -> Flowable.merge(list, ES_SYNC_INDEX_CONCURRENCY)));
 		}));
 	}
 
@@ -7,26 +7,40 @@ import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_REFRESH_REQUEST;
 import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.retryWithDelay;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.logElasticSearchError;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import com.gentics.elasticsearch.client.HttpErrorException;
+import com.gentics.mesh.core.data.search.request.BulkRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
+import com.gentics.mesh.search.verticle.bulk.AdaptiveBulkLimits;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
+import com.gentics.mesh.search.verticle.journal.EventJournal;
+import com.gentics.mesh.search.verticle.journal.JournalBufferOperator;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
@@ -38,7 +52,6 @@ import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.BehaviorSubject;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -52,7 +65,7 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  *     <li>Event received</li>
  *     <li>Generate necessary requests out of the event</li>
  *     <li>Bulk bulkable requests together</li>
- *     <li>Send request to elasticsearch</li>
+ *     <li>Dispatch the requests to concurrent lanes and send them to elasticsearch</li>
  * </ol>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
@@ -63,10 +76,14 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private final IdleChecker idleChecker;
 	private final SyncEventHandler syncEventHandler;
 	private final ElasticSearchOptions options;
+	private final AdaptiveBulkLimits bulkLimits;
+	private EventJournal journal;
+	private JournalBufferOperator journalBuffer;
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
 	private List<MessageConsumer<JsonObject>> vertxHandlers;
+	private MessageConsumer<EventEnvelope> envelopeHandler;
 	private final AtomicBoolean stopped = new AtomicBoolean(false);
 	private final BehaviorSubject<Boolean> elasticsearchAvailable = BehaviorSubject.createDefault(true);
 	private final AtomicBoolean waitForSync = new AtomicBoolean(false);
@@ -82,42 +99,87 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		this.idleChecker = idleChecker;
 		this.syncEventHandler = syncEventHandler;
 		this.options = options.getSearchOptions();
+		this.bulkLimits = new AdaptiveBulkLimits(
+			Duration.ofMillis(this.options.getBulkDebounceTime()),
+			this.options.getBulkLimit(),
+			this.options.getBulkLengthLimit(),
+			this.options.getBulkLatencyLimit()
+		);
 	}
 
 	@Override
 	public void start() {
 		log.trace("Initializing Elasticsearch process verticle");
+		boolean journalLost = openJournal();
 		assemble();
 		idleChecker.idling()
 			.subscribe(ignore -> {
+				// All events which were read from the journal have been sent to elasticsearch
+				if (journalBuffer != null) {
+					journalBuffer.acknowledge();
+				}
 				log.trace("All requests completed. Sending idle event");
 				vertx.eventBus().publish(MeshEvent.SEARCH_IDLE.address, null);
 			});
 
-		vertxHandlers = mainEventhandler.handledEvents()
+		Collection<MeshEvent> handledEvents = mainEventhandler.handledEvents();
+		vertxHandlers = handledEvents
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
-				}
+				handleEvent(event, () -> {
+					log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
+					return MeshEventModel.fromMessage(message);
+				});
 			}))
 			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
 			.collect(Collectors.toList());
 
+		// The models of enveloped events can be used directly
+		Set<MeshEvent> handledEventSet = EnumSet.copyOf(handledEvents);
+		envelopeHandler = new MessageConsumer<>(vertx.eventBus().<EventEnvelope>localConsumer(EventEnvelope.ADDRESS, message -> {
+			for (MeshEventModel model : message.body().getEvents()) {
+				MeshEvent event = model.getEvent();
+				if (handledEventSet.contains(event)) {
+					handleEvent(event, () -> {
+						log.trace(String.format("Received enveloped event on address {%s}", event.address));
+						return model;
+					});
+				}
+			}
+		}));
+
 		vertxHandlers.add(replyingEventHandler(IS_SEARCH_IDLE, Single.fromCallable(idleChecker::isIdle)));
 		vertxHandlers.add(replyingEventHandler(SEARCH_REFRESH_REQUEST, refresh().andThen(Single.just(true))));
 
+		// The events of a lost journal can only be recovered by syncing the indices
+		if (journalLost) {
+			log.warn("The event journal was lost. Scheduling index sync.");
+			startSync();
+		}
+
 		log.trace("Done Initializing Elasticsearch process verticle");
 	}
 
+	/**
+	 * Queues the event for processing unless it is dropped.
+	 *
+	 * @param event
+	 * @param model
+	 *            Supplier for the model of the event which is invoked once Elasticsearch is available
+	 */
+	private void handleEvent(MeshEvent event, Supplier<MeshEventModel> model) {
+		if (!stopped.get() && !isDroppedEvent(event)) {
+			idleChecker.incrementAndGetTransformations();
+			// Only continue processing the event if elasticsearch is available.
+			elasticsearchAvailable.filter(available -> available)
+				.firstOrError()
+				.subscribe(ignore -> {
+					waitForSync.set(false);
+					requests.onNext(new MessageEvent(event, model.get()));
+				});
+		}
+	}
+
 	public MessageConsumer<JsonObject> replyingEventHandler(MeshEvent event, Single<?> response) {
 		return new Vertx(vertx).eventBus().localConsumer(event.address, message ->
 			response.subscribe(value -> message.reply(value))
@@ -129,11 +191,11 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * Events will be ignored when an index sync has been requested but not yet started.
 	 * Effectively this will ignore all events that occurred before the index sync request.
 	 *
-	 * @param message
+	 * @param event
 	 * @return
 	 */
-	private boolean isDroppedEvent(Message<JsonObject> message) {
-		return waitForSync.get() && !message.address().equals(INDEX_SYNC_REQUEST.address);
+	private boolean isDroppedEvent(MeshEvent event) {
+		return waitForSync.get() && event != INDEX_SYNC_REQUEST;
 	}
 
 	@Override
@@ -142,9 +204,13 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		stopped.set(true);
 		Observable.fromIterable(vertxHandlers)
 			.flatMapCompletable(MessageConsumer::rxUnregister)
+			.andThen(envelopeHandler.rxUnregister())
 			.andThen(flush())
 			.subscribe(() -> {
 				requests.onComplete();
+				if (journal != null) {
+					journal.close();
+				}
 				idleChecker.close();
 				log.trace("Done stopping Elasticsearch process verticle");
 				promise.complete();
@@ -171,35 +237,69 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * Assembles the main Flowable through which all requests are processed.
 	 */
 	private void assemble() {
-		BulkOperator bulker = new BulkOperator(vertx,
-			Duration.ofMillis(options.getBulkDebounceTime()),
-			options.getBulkLimit(),
-			options.getBulkLengthLimit()
+		BulkOperator bulker = new BulkOperator(vertx, bulkLimits);
+		BulkDispatcher dispatcher = new BulkDispatcher(options.getBulkConcurrency(), request ->
+			this.sendRequest(request)
+			// To make sure the subscription stays alive
+			.onErrorResumeNext(Flowable.empty())
+			.ignoreElements()
 		);
 		requests
 			.compose(this::bufferEvents)
-			.concatMap(this::generateRequests, 1)
+			.concatMap(event -> Flowable.<SearchRequest>concat(generateRequests(event), commitJournal(event)), 1)
 			.lift(bulker)
-			.concatMap(request ->
-				this.sendRequest(request)
-				// To make sure the subscription stays alive
-				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			.concatMapCompletable(dispatcher::dispatch, 1)
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
 			.subscribe();
 	}
 
+	/**
+	 * Opens the event journal if a journal directory has been configured. Pending events of the journal are replayed.
+	 *
+	 * @see ElasticSearchOptions#getEventJournalDirectory()
+	 * @return true if the pending events of the journal have been lost
+	 */
+	private boolean openJournal() {
+		String directory = options.getEventJournalDirectory();
+		if (directory == null) {
+			return false;
+		}
+		try {
+			journal = new EventJournal(new File(directory), EventJournal.DEFAULT_SEGMENT_SIZE);
+			long pending = journal.size();
+			if (pending > 0) {
+				log.info("Replaying {} events of the event journal.", pending);
+				idleChecker.addAndGetTransformations((int) Math.min(Integer.MAX_VALUE, pending));
+			}
+			return journal.isLost();
+		} catch (IOException e) {
+			// The journal may still contain events of the previous run
+			log.error("Could not open the event journal in {" + directory + "}. Overflowing events will be dropped.", e);
+			journal = null;
+			return true;
+		}
+	}
+
 	/**
 	 * Buffers requests to elasticsearch when the requests to elasticsearch are slower than the flow of incoming events.
-	 * If too many events are queued, the queue is cleared and an index sync will be requested.
+	 * If too many events are queued, further events are appended to the event journal. Without a journal the queue is cleared and an index sync will be
+	 * requested.
 	 *
 	 * @see ElasticSearchOptions#getEventBufferSize()
+	 * @see ElasticSearchOptions#getEventJournalDirectory()
 	 * @param upstream
 	 * @return
 	 */
-	private <T> Flowable<T> bufferEvents(Flowable<T> upstream) {
+	private Flowable<MessageEvent> bufferEvents(Flowable<MessageEvent> upstream) {
+		if (journal != null) {
+			journalBuffer = new JournalBufferOperator(journal, options.getEventBufferSize(), () -> {
+				idleChecker.resetTransformations();
+				startSync();
+			});
+			return upstream.lift(journalBuffer);
+		}
 		AtomicInteger bufferedEvents = new AtomicInteger(0);
 		return upstream
 			.doOnNext(request -> {
@@ -217,6 +317,27 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		.doOnNext(request -> bufferedEvents.decrementAndGet());
 	}
 
+	/**
+	 * Generates a request which commits the event journal up to the given event. The request is not bulkable and will thus only be sent once all previous
+	 * requests have been completed by Elasticsearch. A request is only generated for every {@link JournalBufferOperator#COMMIT_INTERVAL} events which were
+	 * read from the journal so that the journal does not grow while Elasticsearch is never idle.
+	 *
+	 * @param event
+	 * @return
+	 */
+	private Flowable<SearchRequest> commitJournal(MessageEvent event) {
+		if (journalBuffer == null || stopped.get()) {
+			return Flowable.empty();
+		}
+		return journalBuffer.checkpoint(event)
+			.map(commit -> Flowable.just(SearchRequest.create(provider -> Completable.fromRunnable(commit))))
+			.orElseGet(Flowable::empty)
+			.doOnNext(request -> {
+				log.trace("Committing the event journal after the pending requests");
+				idleChecker.addAndGetRequests(request.requestCount());
+			});
+	}
+
 	/**
 	 * Waits until elasticsearch is reachable and then starts the syncing process.
 	 */
@@ -243,6 +364,9 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * <h2>Connection errors</h2>
 	 * The request will be retried indefinitely in a configurable interval.
 	 *
+	 * <h2>Rejected requests</h2>
+	 * The request will be retried and the bulk limits will be reduced.
+	 *
 	 * <h2>Errors inside elasticsearch</h2>
 	 * These errors will not affect this verticle and will be loggend and then ignored.
 	 *
@@ -252,7 +376,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private Flowable<SearchRequest> sendRequest(SearchRequest request) {
 		return stopped.get()
 			? Flowable.empty()
-			: request.execute(searchProvider)
+			: trackLatency(request, request.execute(searchProvider))
 			.doOnSubscribe(ignore -> {
 				log.trace("Sending request to Elasticsearch: {}", request);
 			})
@@ -275,6 +399,44 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			});
 	}
 
+	/**
+	 * Adapts the bulk limits to the latency and rejections of bulk requests.
+	 * @param request
+	 * @param execution
+	 * @return
+	 */
+	private Completable trackLatency(SearchRequest request, Completable execution) {
+		if (!(request instanceof BulkRequest)) {
+			return execution;
+		}
+		return Completable.defer(() -> {
+			long start = System.currentTimeMillis();
+			return execution
+				.doOnComplete(() -> bulkLimits.onSuccess(System.currentTimeMillis() - start))
+				.doOnError(error -> {
+					if (isRejection(error) || error instanceof TimeoutException) {
+						bulkLimits.onRejected();
+					}
+				});
+		});
+	}
+
+	/**
+	 * Tests if Elasticsearch rejected the request because its queues are full.
+	 * @param error
+	 * @return
+	 */
+	private boolean isRejection(Throwable error) {
+		if (error instanceof HttpErrorException) {
+			return ((HttpErrorException) error).getStatusCode() == 429;
+		}
+		if (error instanceof ElasticsearchResponseErrorStreamable) {
+			return ((ElasticsearchResponseErrorStreamable) error).stream()
+				.anyMatch(err -> "es_rejected_execution_exception".equals(err.getType()));
+		}
+		return false;
+	}
+
 	/**
 	 * Ignores the error if there are only deletes on missing indices.
 	 * @param request
@@ -330,7 +492,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 */
 	private io.reactivex.functions.Function<Throwable, Flowable<SearchRequest>> ignoreElasticsearchErrors(SearchRequest request) {
 		return error -> {
-			if (error instanceof ElasticsearchResponseErrorStreamable) {
+			if (error instanceof ElasticsearchResponseErrorStreamable && !isRejection(error)) {
 				log.error("Not retrying because it is an error inside elasticsearch.");
 				return Flowable.just(request);
 			} else {
@@ -77,6 +77,15 @@ public class IdleChecker {
 		return transformations.incrementAndGet();
 	}
 
+	/**
+	 * Adds an amount of pending transformations.
+	 * @param i
+	 * @return
+	 */
+	public int addAndGetTransformations(int i) {
+		return transformations.addAndGet(i);
+	}
+
 	/**
 	 * Subtracts a pending transformation.
 	 * @return
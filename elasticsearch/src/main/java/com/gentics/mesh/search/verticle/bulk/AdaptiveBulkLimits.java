@@ -0,0 +1,120 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.time.Duration;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Size and time limits of the {@link BulkOperator} which adapt to the load of Elasticsearch.
+ * <p>
+ * The configured limits are the upper bounds. The limits are reduced when Elasticsearch rejects requests (HTTP 429) or when the latency of a bulk request
+ * exceeds the configured latency limit. Successful fast bulk requests slowly raise the limits again (additive increase, multiplicative decrease). The debounce
+ * time is raised when the size limits are reduced so that more requests can be bundled while Elasticsearch is under pressure.
+ */
+public class AdaptiveBulkLimits {
+
+	private static final Logger log = LoggerFactory.getLogger(AdaptiveBulkLimits.class);
+
+	/**
+	 * Lower bound for the scale of the limits.
+	 */
+	static final double MIN_SCALE = 1d / 16;
+
+	/**
+	 * Upper bound for the factor by which the debounce time is raised.
+	 */
+	static final double MAX_TIME_FACTOR = 2;
+
+	private static final double REJECTION_DECREASE = 0.5;
+
+	private static final double LATENCY_DECREASE = 0.75;
+
+	private static final double INCREASE = 0.1;
+
+	private final long bulkTime;
+
+	private final int requestLimit;
+
+	private final long lengthLimit;
+
+	private final long latencyLimit;
+
+	private volatile double scale = 1;
+
+	/**
+	 * Create new limits.
+	 * 
+	 * @param bulkTime
+	 *            Maximum debounce time between two bulkable requests
+	 * @param requestLimit
+	 *            Maximum amount of requests in a bulk
+	 * @param lengthLimit
+	 *            Maximum encoded length of a bulk
+	 * @param latencyLimit
+	 *            Latency in milliseconds above which the limits are reduced. Use 0 to only adapt to rejections.
+	 */
+	public AdaptiveBulkLimits(Duration bulkTime, int requestLimit, long lengthLimit, long latencyLimit) {
+		this.bulkTime = bulkTime.toMillis();
+		this.requestLimit = requestLimit;
+		this.lengthLimit = lengthLimit;
+		this.latencyLimit = latencyLimit;
+	}
+
+	/**
+	 * Return the current debounce time in milliseconds.
+	 * 
+	 * @return
+	 */
+	public long getBulkTime() {
+		return Math.round(bulkTime * Math.min(MAX_TIME_FACTOR, 1 / scale));
+	}
+
+	/**
+	 * Return the current maximum amount of requests in a bulk.
+	 * 
+	 * @return
+	 */
+	public int getRequestLimit() {
+		return (int) Math.max(1, Math.round(requestLimit * scale));
+	}
+
+	/**
+	 * Return the current maximum encoded length of a bulk.
+	 * 
+	 * @return
+	 */
+	public long getLengthLimit() {
+		return Math.max(1, Math.round(lengthLimit * scale));
+	}
+
+	/**
+	 * Register a successful bulk request.
+	 * 
+	 * @param latency
+	 *            Latency of the request in milliseconds
+	 */
+	public synchronized void onSuccess(long latency) {
+		if (latencyLimit > 0 && latency > latencyLimit) {
+			decrease(LATENCY_DECREASE);
+			if (log.isDebugEnabled()) {
+				log.debug("Bulk latency of {" + latency + "}ms exceeded the limit. Reduced bulk limit to {" + getRequestLimit() + "}");
+			}
+		} else if (scale < 1) {
+			scale = Math.min(1, scale + INCREASE);
+		}
+	}
+
+	/**
+	 * Register a bulk request which was rejected by Elasticsearch or which timed out.
+	 */
+	public synchronized void onRejected() {
+		decrease(REJECTION_DECREASE);
+		log.info("Elasticsearch could not handle a bulk request. Reduced bulk limit to {" + getRequestLimit() + "}");
+	}
+
+	private void decrease(double factor) {
+		scale = Math.max(MIN_SCALE, scale * factor);
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+
+import io.reactivex.Completable;
+import io.reactivex.subjects.CompletableSubject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Dispatches the requests of the {@link BulkOperator} to a fixed amount of lanes which send their requests concurrently.
+ * <p>
+ * The requests of a bulk are distributed to the lanes by hashing their document key. Every lane sends its requests one after the other. All requests for the
+ * same document are thus sent in order. Non bulkable requests (e.g. index creation) are barriers. They are sent once all lanes are done and all following
+ * requests wait for them.
+ * <p>
+ * The {@link #dispatch(SearchRequest)} method must not be invoked concurrently. This is guaranteed when it is used via
+ * {@link io.reactivex.Flowable#concatMapCompletable(io.reactivex.functions.Function)}.
+ */
+public class BulkDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkDispatcher.class);
+
+	private final Function<SearchRequest, Completable> sender;
+
+	private final Completable[] lanes;
+
+	/**
+	 * Create a new dispatcher.
+	 *
+	 * @param concurrency
+	 *            Amount of requests which may be sent concurrently
+	 * @param sender
+	 *            Function which sends a request. The returned completable should not fail.
+	 */
+	public BulkDispatcher(int concurrency, Function<SearchRequest, Completable> sender) {
+		this.sender = sender;
+		this.lanes = new Completable[Math.max(1, concurrency)];
+		Arrays.fill(lanes, Completable.complete());
+	}
+
+	/**
+	 * Dispatch the given request to the lanes.
+	 *
+	 * @param request
+	 * @return Completable which completes once the lanes can accept the next request
+	 */
+	public Completable dispatch(SearchRequest request) {
+		if (request instanceof BulkRequest && lanes.length > 1) {
+			List<List<Bulkable>> partitions = partition((BulkRequest) request);
+			List<Completable> previous = new ArrayList<>();
+			for (int i = 0; i < lanes.length; i++) {
+				List<Bulkable> partition = partitions.get(i);
+				if (!partition.isEmpty()) {
+					previous.add(lanes[i]);
+					lanes[i] = enqueue(lanes[i], new BulkRequest(partition));
+				}
+			}
+			if (log.isTraceEnabled()) {
+				log.trace("Dispatched bulk of size {} to {} lanes", ((BulkRequest) request).getRequests().size(), previous.size());
+			}
+			// Accept the next request once the lanes have finished their previous requests. Thus at most one request per lane is waiting.
+			return Completable.merge(previous);
+		} else if (request instanceof Bulkable) {
+			Completable previous = lanes[laneOf((Bulkable) request)];
+			lanes[laneOf((Bulkable) request)] = enqueue(previous, request);
+			return previous;
+		} else {
+			// The request must wait for all lanes and all following requests must wait for the request
+			Completable done = enqueue(Completable.merge(Arrays.asList(lanes)), request);
+			Arrays.fill(lanes, done);
+			return done;
+		}
+	}
+
+	private Completable enqueue(Completable previous, SearchRequest request) {
+		// A subject is used so that the chain of lanes does not reference all previous requests
+		CompletableSubject done = CompletableSubject.create();
+		previous
+			.andThen(Completable.defer(() -> sender.apply(request)))
+			.onErrorComplete()
+			.subscribe(done);
+		return done;
+	}
+
+	private List<List<Bulkable>> partition(BulkRequest request) {
+		List<List<Bulkable>> partitions = new ArrayList<>(lanes.length);
+		for (int i = 0; i < lanes.length; i++) {
+			partitions.add(new ArrayList<>());
+		}
+		for (Bulkable bulkable : request.getRequests()) {
+			partitions.get(laneOf(bulkable)).add(bulkable);
+		}
+		return partitions;
+	}
+
+	private int laneOf(Bulkable request) {
+		String key = request.documentKey();
+		return key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length);
+	}
+
+}
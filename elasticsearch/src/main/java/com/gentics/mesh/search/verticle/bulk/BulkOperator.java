@@ -40,16 +40,22 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 	private static final Logger log = LoggerFactory.getLogger(BulkOperator.class);
 
 	private final Vertx vertx;
-	private final long bulkTime;
-	private final int requestLimit;
-	private final long lengthLimit;
+	private final AdaptiveBulkLimits limits;
 	private ActualBulkOperator<SearchRequest> operator;
 
 	public BulkOperator(Vertx vertx, Duration bulkTime, int requestLimit, long lengthLimit) {
+		this(vertx, new AdaptiveBulkLimits(bulkTime, requestLimit, lengthLimit, 0));
+	}
+
+	/**
+	 * Create a new operator which uses the current values of the given limits for each bulk.
+	 * 
+	 * @param vertx
+	 * @param limits
+	 */
+	public BulkOperator(Vertx vertx, AdaptiveBulkLimits limits) {
 		this.vertx = vertx;
-		this.bulkTime = bulkTime.toMillis();
-		this.requestLimit = requestLimit;
-		this.lengthLimit = lengthLimit;
+		this.limits = limits;
 	}
 
 	@Override
@@ -67,9 +73,9 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 			private final Queue<SearchRequest> nonBulkableRequests = new ConcurrentLinkedQueue<>();
 			private final ReentrantLock lock = new ReentrantLock();
 
-			private final BulkTimer timer = new BulkTimer(vertx, bulkTime, () -> {
+			private final BulkTimer timer = new BulkTimer(vertx, limits::getBulkTime, () -> {
 				log.trace("Flushing {} requests because time limit of {}ms has been reached.",
-					bulkableRequests.size(), bulkTime);
+					bulkableRequests.size(), limits.getBulkTime());
 				flush();
 			});
 
@@ -143,6 +149,8 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 					bulkableRequests.add((Bulkable) searchRequest);
 					log.trace("Added request of class [{}] to the current bulk with the size of now {}.",
 						searchRequest.getClass(), bulkableRequests.size());
+					int requestLimit = limits.getRequestLimit();
+					long lengthLimit = limits.getLengthLimit();
 					if (bulkableRequests.size() >= requestLimit || bulkableRequests.getBulkLength() >= lengthLimit) {
 						if (log.isTraceEnabled()) {
 							if (bulkableRequests.size() >= requestLimit) {
@@ -1,5 +1,7 @@
 package com.gentics.mesh.search.verticle.bulk;
 
+import java.util.function.LongSupplier;
+
 import io.vertx.core.Vertx;
 
 /**
@@ -7,11 +9,11 @@ import io.vertx.core.Vertx;
  */
 class BulkTimer {
 	private final Vertx vertx;
-	private final long bulkTime;
+	private final LongSupplier bulkTime;
 	private final Runnable action;
 	private Long currentTimer;
 
-	public BulkTimer(Vertx vertx, long bulkTime, Runnable action) {
+	public BulkTimer(Vertx vertx, LongSupplier bulkTime, Runnable action) {
 		this.vertx = vertx;
 		this.bulkTime = bulkTime;
 		this.action = action;
@@ -22,7 +24,7 @@ class BulkTimer {
 	 */
 	public void restart() {
 		stop();
-		currentTimer = vertx.setTimer(bulkTime, l -> action.run());
+		currentTimer = vertx.setTimer(bulkTime.getAsLong(), l -> action.run());
 	}
 
 	/**
@@ -0,0 +1,406 @@
+package com.gentics.mesh.search.verticle.journal;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Append-only journal which is stored in memory-mapped segment files.
+ * <p>
+ * Every record consists of its length, the CRC32 checksum and the payload. A length of 0 marks the end of the written data of a segment. Segments are
+ * deleted once all their records have been committed. Reading a record only advances the read cursor. The position of the cursor is stored in a dedicated
+ * memory-mapped file once the records have been processed and are committed via {@link #commit()} or {@link #commit(Position)}. Records are thus delivered at least once: records which
+ * were read but not committed will be read again after a restart or crash.
+ * <p>
+ * A journal which can't be restored (e.g. because of a checksum mismatch or missing segments) is reset and marked as lost. The owner of the journal is
+ * responsible for recovering the lost records.
+ */
+public class EventJournal implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(EventJournal.class);
+
+	/**
+	 * Default size of a segment file.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	private static final String SEGMENT_PREFIX = "segment-";
+
+	private static final String SEGMENT_SUFFIX = ".journal";
+
+	private static final String POSITION_FILE = "position";
+
+	private static final int HEADER_SIZE = 8;
+
+	private final File directory;
+
+	private final int segmentSize;
+
+	private MappedByteBuffer position;
+
+	private long writeSegment;
+
+	private MappedByteBuffer writeBuffer;
+
+	private long readSegment;
+
+	private ByteBuffer readBuffer;
+
+	private long committedSegment;
+
+	private int committedOffset;
+
+	/**
+	 * Incremented on every reset so that positions of the previous records can't be committed.
+	 */
+	private long generation;
+
+	private long size;
+
+	private boolean lost;
+
+	/**
+	 * Open the journal in the given directory. The directory will be created if it does not exist.
+	 *
+	 * @param directory
+	 * @param segmentSize
+	 *            Size of new segment files
+	 * @throws IOException
+	 */
+	public EventJournal(File directory, int segmentSize) throws IOException {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new IOException("Could not create event journal directory {" + directory.getAbsolutePath() + "}");
+		}
+		try {
+			restore();
+		} catch (JournalCorruptedException e) {
+			log.error("The event journal in {" + directory.getAbsolutePath() + "} could not be restored. Resetting the journal.", e);
+			reset();
+			lost = true;
+		}
+	}
+
+	/**
+	 * Append the given payload to the journal.
+	 *
+	 * @param payload
+	 * @throws IOException
+	 */
+	public synchronized void append(byte[] payload) throws IOException {
+		if (payload.length == 0) {
+			throw new IllegalArgumentException("Empty records can't be stored in the journal");
+		}
+		int recordSize = HEADER_SIZE + payload.length;
+		// The record must be followed by at least the length of the next record or the end of the segment
+		if (writeBuffer.remaining() < recordSize) {
+			writeSegment++;
+			writeBuffer = map(writeSegment, Math.max(segmentSize, recordSize));
+			if (readSegment == writeSegment - 1 && size == 0) {
+				// The current read segment is empty and can be skipped right away
+				moveReadSegment(writeSegment);
+			}
+		}
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		int start = writeBuffer.position();
+		writeBuffer.position(start + 4);
+		writeBuffer.putInt((int) crc.getValue());
+		writeBuffer.put(payload);
+		// The length is written last so that readers never see a partially written record
+		writeBuffer.putInt(start, payload.length);
+		size++;
+	}
+
+	/**
+	 * Read the next record and advance the read cursor. The record will be read again after a restart until it has been committed.
+	 *
+	 * @return Payload of the record or null if the journal is empty
+	 * @throws JournalCorruptedException
+	 *             if the record is corrupted
+	 */
+	public synchronized byte[] poll() throws IOException {
+		if (size == 0) {
+			return null;
+		}
+		while (true) {
+			byte[] payload = readRecord(readBuffer);
+			if (payload != null) {
+				size--;
+				return payload;
+			}
+			if (readSegment >= writeSegment) {
+				throw new JournalCorruptedException("The journal contains no more records but " + size + " records are pending.");
+			}
+			moveReadSegment(readSegment + 1);
+		}
+	}
+
+	/**
+	 * Return the current read cursor. All records which have been read so far can be committed via {@link #commit(Position)}.
+	 *
+	 * @return
+	 */
+	public synchronized Position position() {
+		return new Position(generation, readSegment, readBuffer.position());
+	}
+
+	/**
+	 * Store the current read cursor so that all records which have been read so far are not replayed after a restart. Segments which have been read
+	 * completely are deleted.
+	 */
+	public synchronized void commit() {
+		commit(position());
+	}
+
+	/**
+	 * Store the given read cursor so that all records which have been read up to the cursor are not replayed after a restart. Segments in front of the
+	 * cursor are deleted. Cursors which are not behind the last committed cursor or which were taken before the journal has been reset are ignored.
+	 *
+	 * @param cursor
+	 */
+	public synchronized void commit(Position cursor) {
+		if (cursor.generation != generation || cursor.segment < committedSegment
+			|| (cursor.segment == committedSegment && cursor.offset <= committedOffset)) {
+			return;
+		}
+		storePosition(cursor.segment, cursor.offset);
+		// The segments are only deleted once the new position has been stored
+		for (long sequence = committedSegment; sequence < cursor.segment; sequence++) {
+			deleteSegment(segmentFile(sequence));
+		}
+		committedSegment = cursor.segment;
+		committedOffset = cursor.offset;
+	}
+
+	/**
+	 * Return the amount of records which have not been read yet.
+	 *
+	 * @return
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Check whether the journal is empty.
+	 *
+	 * @return
+	 */
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Check whether the journal had to be reset because it could not be restored.
+	 *
+	 * @return
+	 */
+	public boolean isLost() {
+		return lost;
+	}
+
+	/**
+	 * Delete all records of the journal.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void reset() throws IOException {
+		for (File segment : listSegments()) {
+			deleteSegment(segment);
+		}
+		readSegment = 0;
+		committedSegment = 0;
+		committedOffset = 0;
+		generation++;
+		writeSegment = 0;
+		size = 0;
+		writeBuffer = map(0, segmentSize);
+		readBuffer = writeBuffer.duplicate();
+		readBuffer.position(0);
+		openPosition();
+		storePosition(0, 0);
+	}
+
+	@Override
+	public synchronized void close() {
+		if (writeBuffer != null) {
+			writeBuffer.force();
+		}
+		if (position != null) {
+			position.force();
+		}
+	}
+
+	private void restore() throws IOException {
+		List<File> segments = listSegments();
+		File positionFile = new File(directory, POSITION_FILE);
+		if (!positionFile.exists()) {
+			if (!segments.isEmpty()) {
+				throw new JournalCorruptedException("The position file of the journal is missing.");
+			}
+			reset();
+			return;
+		}
+		openPosition();
+		readSegment = position.getLong(0);
+		committedSegment = readSegment;
+		int readOffset = position.getInt(8);
+		committedOffset = readOffset;
+
+		// Remove segments which have been read completely
+		for (File segment : segments) {
+			if (sequenceOf(segment) < readSegment) {
+				deleteSegment(segment);
+			}
+		}
+		segments = listSegments();
+		if (segments.isEmpty() || sequenceOf(segments.get(0)) != readSegment) {
+			throw new JournalCorruptedException("The segment {" + readSegment + "} of the read position is missing.");
+		}
+
+		// Count the pending records and find the end of the journal
+		size = 0;
+		for (int i = 0; i < segments.size(); i++) {
+			long sequence = sequenceOf(segments.get(i));
+			if (sequence != readSegment + i) {
+				throw new JournalCorruptedException("The segment {" + (readSegment + i) + "} is missing.");
+			}
+			MappedByteBuffer buffer = map(sequence, (int) segments.get(i).length());
+			if (i == 0) {
+				if (readOffset > buffer.limit()) {
+					throw new JournalCorruptedException("The read position {" + readOffset + "} exceeds the segment.");
+				}
+				buffer.position(readOffset);
+				readBuffer = buffer.duplicate();
+			}
+			while (readRecord(buffer) != null) {
+				size++;
+			}
+			writeSegment = sequence;
+			writeBuffer = buffer;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Restored event journal with {" + size + "} pending records.");
+		}
+	}
+
+	/**
+	 * Read the record at the position of the buffer.
+	 *
+	 * @param buffer
+	 * @return Payload or null if the end of the written data has been reached
+	 */
+	private byte[] readRecord(ByteBuffer buffer) throws JournalCorruptedException {
+		if (buffer.remaining() < HEADER_SIZE) {
+			return null;
+		}
+		int start = buffer.position();
+		int length = buffer.getInt(start);
+		if (length == 0) {
+			return null;
+		}
+		if (length < 0 || length > buffer.remaining() - HEADER_SIZE) {
+			throw new JournalCorruptedException("Invalid record length {" + length + "} at position {" + start + "}");
+		}
+		int checksum = buffer.getInt(start + 4);
+		byte[] payload = new byte[length];
+		buffer.position(start + HEADER_SIZE);
+		buffer.get(payload);
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		if ((int) crc.getValue() != checksum) {
+			throw new JournalCorruptedException("Checksum mismatch of the record at position {" + start + "}");
+		}
+		return payload;
+	}
+
+	private void moveReadSegment(long sequence) throws IOException {
+		readSegment = sequence;
+		if (sequence == writeSegment) {
+			readBuffer = writeBuffer.duplicate();
+			readBuffer.position(0);
+		} else {
+			readBuffer = map(sequence, 0);
+		}
+	}
+
+	private void storePosition(long segment, int offset) {
+		position.putInt(8, offset);
+		position.putLong(0, segment);
+	}
+
+	private void openPosition() throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(new File(directory, POSITION_FILE), "rw")) {
+			position = file.getChannel().map(MapMode.READ_WRITE, 0, 12);
+		}
+	}
+
+	/**
+	 * Map the segment with the given sequence. The file will be created with the given size if it does not exist.
+	 */
+	private MappedByteBuffer map(long sequence, int size) throws IOException {
+		File file = segmentFile(sequence);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+			long length = Math.max(size, channel.size());
+			return channel.map(MapMode.READ_WRITE, 0, length);
+		}
+	}
+
+	private File segmentFile(long sequence) {
+		return new File(directory, SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+	}
+
+	private List<File> listSegments() {
+		File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+		if (files == null) {
+			return Arrays.asList();
+		}
+		return Arrays.stream(files)
+			.sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+			.collect(Collectors.toList());
+	}
+
+	private static long sequenceOf(File segment) {
+		String name = segment.getName();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private void deleteSegment(File segment) {
+		if (segment.exists() && !segment.delete()) {
+			log.warn("Could not delete event journal segment {" + segment.getAbsolutePath() + "}");
+		}
+	}
+
+	/**
+	 * Position of the read cursor within the journal.
+	 */
+	public static class Position {
+
+		private final long generation;
+
+		private final long segment;
+
+		private final int offset;
+
+		private Position(long generation, long segment, int offset) {
+			this.generation = generation;
+			this.segment = segment;
+			this.offset = offset;
+		}
+	}
+
+}
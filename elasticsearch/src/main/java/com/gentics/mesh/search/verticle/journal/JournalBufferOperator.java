@@ -0,0 +1,301 @@
+package com.gentics.mesh.search.verticle.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.search.verticle.MessageEvent;
+import com.gentics.mesh.search.verticle.journal.EventJournal.Position;
+
+import io.reactivex.FlowableOperator;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * An operator which buffers the events when the downstream is slower than the incoming events.
+ * <p>
+ * Up to the buffer size events are kept in memory. All further events are appended to the {@link EventJournal} and are read back once the in-memory buffer has
+ * been drained. New events are appended to the journal until it is empty again so that the order of the events is kept. If the journal can't be used, all
+ * buffered events are dropped and the overflow action is invoked.
+ * <p>
+ * Events which have been read from the journal are only removed from it once the downstream has processed them and {@link #acknowledge()} was invoked or
+ * the action of a {@link #checkpoint(MessageEvent)} was run.
+ */
+public class JournalBufferOperator implements FlowableOperator<MessageEvent, MessageEvent> {
+
+	private static final Logger log = LoggerFactory.getLogger(JournalBufferOperator.class);
+
+	/**
+	 * Amount of events which are read from the journal between two checkpoints.
+	 */
+	public static final int COMMIT_INTERVAL = 1000;
+
+	private final EventJournal journal;
+
+	private final int bufferSize;
+
+	private final Runnable onFailure;
+
+	private int eventsSinceCheckpoint;
+
+	/**
+	 * Create a new operator.
+	 *
+	 * @param journal
+	 *            Journal to which the overflowing events are appended
+	 * @param bufferSize
+	 *            Amount of events which are kept in memory
+	 * @param onFailure
+	 *            Action which is invoked when the events had to be dropped because the journal failed
+	 */
+	public JournalBufferOperator(EventJournal journal, int bufferSize, Runnable onFailure) {
+		this.journal = journal;
+		this.bufferSize = bufferSize;
+		this.onFailure = onFailure;
+	}
+
+	/**
+	 * Acknowledge that all events which have been emitted so far have been processed by the downstream. The events will not be replayed from the journal
+	 * after a restart.
+	 */
+	public void acknowledge() {
+		journal.commit();
+	}
+
+	/**
+	 * Return a checkpoint for every {@link #COMMIT_INTERVAL} events which have been read from the journal. The action of the checkpoint commits the journal
+	 * up to the given event. It must only be run once the given event and all previous events have been processed by the downstream. This method must be
+	 * invoked for the events in the order in which they have been emitted.
+	 *
+	 * @param event
+	 * @return Action which commits the journal or an empty optional if no checkpoint is needed yet
+	 */
+	public Optional<Runnable> checkpoint(MessageEvent event) {
+		if (!(event instanceof JournalEvent) || ++eventsSinceCheckpoint < COMMIT_INTERVAL) {
+			return Optional.empty();
+		}
+		eventsSinceCheckpoint = 0;
+		Position position = ((JournalEvent) event).position;
+		return Optional.of(() -> journal.commit(position));
+	}
+
+	@Override
+	public Subscriber<? super MessageEvent> apply(Subscriber<? super MessageEvent> subscriber) throws Exception {
+		return new BufferSubscriber(subscriber);
+	}
+
+	/**
+	 * Encode the event for the journal.
+	 *
+	 * @param event
+	 * @return
+	 */
+	static byte[] encode(MessageEvent event) {
+		String body = event.message == null ? "" : JsonUtil.toJson(event.message);
+		return (event.event.address + "\n" + body).getBytes(UTF_8);
+	}
+
+	/**
+	 * Decode an event which was read from the journal.
+	 *
+	 * @param payload
+	 * @return
+	 */
+	static MessageEvent decode(byte[] payload) {
+		String data = new String(payload, UTF_8);
+		int separator = data.indexOf('\n');
+		String address = data.substring(0, separator);
+		String body = data.substring(separator + 1);
+		MeshEvent event = MeshEvent.fromAddress(address)
+			.orElseThrow(() -> new RuntimeException(String.format("No event found for address %s", address)));
+		MeshEventModel message = body.isEmpty() ? null : JsonUtil.readValue(body, event.bodyModel);
+		return new MessageEvent(event, message);
+	}
+
+	/**
+	 * Event which has been read from the journal.
+	 */
+	private static class JournalEvent extends MessageEvent {
+
+		/**
+		 * Read cursor of the journal right after the event.
+		 */
+		private final Position position;
+
+		JournalEvent(MessageEvent event, Position position) {
+			super(event.event, event.message);
+			this.position = position;
+		}
+	}
+
+	private class BufferSubscriber implements Subscriber<MessageEvent>, Subscription {
+
+		private final Subscriber<? super MessageEvent> downstream;
+
+		private final Queue<MessageEvent> buffer = new ArrayDeque<>();
+
+		private final AtomicLong requested = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private Subscription upstream;
+
+		private volatile boolean done;
+
+		private volatile boolean cancelled;
+
+		private Throwable error;
+
+		/**
+		 * Flag which indicates whether new events need to be appended to the journal.
+		 */
+		private boolean spilling;
+
+		BufferSubscriber(Subscriber<? super MessageEvent> downstream) {
+			this.downstream = downstream;
+			this.spilling = !journal.isEmpty();
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			upstream = s;
+			downstream.onSubscribe(this);
+			s.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(MessageEvent event) {
+			if (done || cancelled) {
+				return;
+			}
+			enqueue(event);
+			drain();
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			error = t;
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void onComplete() {
+			done = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			BackpressureHelper.add(requested, n);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			upstream.cancel();
+		}
+
+		private synchronized void enqueue(MessageEvent event) {
+			if (!spilling && buffer.size() < bufferSize) {
+				buffer.add(event);
+				return;
+			}
+			try {
+				if (!spilling) {
+					log.info("Event buffer size of {} was reached. Appending the events to the event journal.", bufferSize);
+				}
+				journal.append(encode(event));
+				spilling = true;
+			} catch (IOException e) {
+				log.error("Could not append event to the event journal. Dropping all pending events.", e);
+				dropAll();
+			}
+		}
+
+		private synchronized MessageEvent dequeue() {
+			MessageEvent event = buffer.poll();
+			if (event != null || !spilling || done) {
+				return event;
+			}
+			try {
+				byte[] payload = journal.poll();
+				if (payload == null) {
+					log.info("All events of the event journal have been processed.");
+					spilling = false;
+					return null;
+				}
+				MessageEvent event = decode(payload);
+				return new JournalEvent(event, journal.position());
+			} catch (Exception e) {
+				log.error("Could not read event from the event journal. Dropping all pending events.", e);
+				dropAll();
+				return null;
+			}
+		}
+
+		private synchronized boolean isBufferEmpty() {
+			return buffer.isEmpty();
+		}
+
+		private void dropAll() {
+			buffer.clear();
+			spilling = false;
+			try {
+				journal.reset();
+			} catch (IOException e) {
+				log.error("Could not reset the event journal.", e);
+			}
+			onFailure.run();
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				long r = requested.get();
+				long emitted = 0;
+				while (emitted != r && !cancelled) {
+					MessageEvent event = dequeue();
+					if (event == null) {
+						break;
+					}
+					downstream.onNext(event);
+					emitted++;
+				}
+				if (emitted != 0) {
+					BackpressureHelper.produced(requested, emitted);
+				}
+				if (cancelled) {
+					return;
+				}
+				// Events which remain in the journal will be replayed after the next start
+				if (done && isBufferEmpty()) {
+					if (error != null) {
+						downstream.onError(error);
+					} else {
+						downstream.onComplete();
+					}
+					return;
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+
+}
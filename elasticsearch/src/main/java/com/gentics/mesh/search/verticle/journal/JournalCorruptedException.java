@@ -0,0 +1,16 @@
+package com.gentics.mesh.search.verticle.journal;
+
+import java.io.IOException;
+
+/**
+ * Exception which is thrown when the data of the {@link EventJournal} is inconsistent.
+ */
+public class JournalCorruptedException extends IOException {
+
+	private static final long serialVersionUID = 3021855215658384027L;
+
+	public JournalCorruptedException(String message) {
+		super(message);
+	}
+
+}
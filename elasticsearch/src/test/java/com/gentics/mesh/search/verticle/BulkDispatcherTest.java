@@ -0,0 +1,113 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.logging.SLF4JLogDelegateFactory;
+
+public class BulkDispatcherTest {
+
+	static {
+		// Use slf4j instead of JUL
+		System.setProperty(LoggerFactory.LOGGER_DELEGATE_FACTORY_CLASS_NAME, SLF4JLogDelegateFactory.class.getName());
+	}
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	private final AtomicInteger maxRunning = new AtomicInteger();
+
+	private final Map<String, List<Integer>> sentVersions = new ConcurrentHashMap<>();
+
+	private final Map<Bulkable, Integer> versions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	@Test
+	public void testDocumentOrder() {
+		BulkDispatcher dispatcher = new BulkDispatcher(4, this::send);
+
+		// Every bulk contains a new version of the same documents
+		Flowable.range(0, 20)
+			.map(version -> bulk(version, "a", "b", "c", "d", "e", "f", "g", "h"))
+			.concatMapCompletable(dispatcher::dispatch, 1)
+			.blockingAwait();
+		dispatcher.dispatch(mock(SearchRequest.class)).blockingAwait();
+
+		assertThat(sentVersions).hasSize(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			expected.add(i);
+		}
+		sentVersions.values().forEach(sent -> assertThat(sent).isEqualTo(expected));
+		assertThat(maxRunning.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	public void testNonBulkableBarrier() {
+		SearchRequest nonBulkable = mock(SearchRequest.class);
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		BulkDispatcher dispatcher = new BulkDispatcher(4, request -> send(request).doOnComplete(() -> order.add(versionOf(request))));
+
+		Flowable.just(bulk(0, "a", "b", "c", "d", "e", "f"), nonBulkable, bulk(1, "a", "b", "c", "d", "e", "f"))
+			.concatMapCompletable(dispatcher::dispatch, 1)
+			.blockingAwait();
+		dispatcher.dispatch(nonBulkable).blockingAwait();
+
+		// The non bulkable request must be sent after all parts of the first bulk and before any part of the second bulk
+		int barrier = order.indexOf(-1);
+		assertThat(barrier).isGreaterThan(0);
+		assertThat(order.subList(0, barrier)).containsOnly(0);
+		assertThat(order.subList(barrier + 1, order.size() - 1)).containsOnly(1);
+	}
+
+	private Completable send(SearchRequest request) {
+		return Completable.defer(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			if (request instanceof BulkRequest) {
+				for (Bulkable bulkable : ((BulkRequest) request).getRequests()) {
+					sentVersions.computeIfAbsent(bulkable.documentKey(), k -> Collections.synchronizedList(new ArrayList<>()))
+						.add(versions.get(bulkable));
+				}
+			}
+			return Completable.timer(ThreadLocalRandom.current().nextInt(1, 10), TimeUnit.MILLISECONDS)
+				.doOnComplete(running::decrementAndGet);
+		});
+	}
+
+	private int versionOf(SearchRequest request) {
+		if (request instanceof BulkRequest) {
+			return versions.get(((BulkRequest) request).getRequests().iterator().next());
+		}
+		return -1;
+	}
+
+	private BulkRequest bulk(int version, String... keys) {
+		List<Bulkable> requests = new ArrayList<>();
+		for (String key : keys) {
+			Bulkable request = mock(Bulkable.class);
+			when(request.documentKey()).thenReturn(key);
+			versions.put(request, version);
+			requests.add(request);
+		}
+		return new BulkRequest(requests);
+	}
+}
@@ -14,6 +14,7 @@ import org.junit.Test;
 import com.gentics.mesh.core.data.search.request.BulkRequest;
 import com.gentics.mesh.core.data.search.request.Bulkable;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.search.verticle.bulk.AdaptiveBulkLimits;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 
 import io.reactivex.Flowable;
@@ -176,6 +177,34 @@ public class BulkOperatorTest {
 			.assertNotComplete();
 	}
 
+	@Test
+	public void testAdaptiveLimits() {
+		AdaptiveBulkLimits limits = new AdaptiveBulkLimits(Duration.ofMinutes(1), 100, 100000000, 1000);
+		BulkOperator operator = new BulkOperator(Vertx.vertx(), limits);
+
+		// The limit is halved for every rejection
+		limits.onRejected();
+		limits.onRejected();
+		assertThat(limits.getRequestLimit()).isEqualTo(25);
+		createAlternatingRequests(1, 100)
+			.lift(operator)
+			.test()
+			.assertValueCount(5)
+			.assertComplete();
+
+		// Slow requests reduce the limit as well
+		limits.onSuccess(2000);
+		assertThat(limits.getRequestLimit()).isEqualTo(19);
+		assertThat(limits.getBulkTime()).isEqualTo(Duration.ofMinutes(2).toMillis());
+
+		// Fast requests raise the limit again up to the configured limit
+		for (int i = 0; i < 20; i++) {
+			limits.onSuccess(10);
+		}
+		assertThat(limits.getRequestLimit()).isEqualTo(100);
+		assertThat(limits.getBulkTime()).isEqualTo(Duration.ofMinutes(1).toMillis());
+	}
+
 	private boolean isBulkRequest(SearchRequest request) {
 		return request instanceof BulkRequest;
 	}
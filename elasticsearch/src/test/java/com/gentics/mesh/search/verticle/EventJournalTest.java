@@ -0,0 +1,201 @@
+package com.gentics.mesh.search.verticle;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.search.verticle.journal.EventJournal;
+import com.gentics.mesh.search.verticle.journal.EventJournal.Position;
+
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.logging.SLF4JLogDelegateFactory;
+
+public class EventJournalTest {
+
+	static {
+		// Use slf4j instead of JUL
+		System.setProperty(LoggerFactory.LOGGER_DELEGATE_FACTORY_CLASS_NAME, SLF4JLogDelegateFactory.class.getName());
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendAndPoll() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 1024);
+		assertTrue(journal.isEmpty());
+		for (int i = 0; i < 10; i++) {
+			journal.append(record(i));
+		}
+		assertEquals(10, journal.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals("record-" + i, new String(journal.poll(), UTF_8));
+		}
+		assertNull(journal.poll());
+		assertTrue(journal.isEmpty());
+		journal.close();
+	}
+
+	@Test
+	public void testReplayAfterRestart() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 1024);
+		for (int i = 0; i < 100; i++) {
+			journal.append(record(i));
+		}
+		for (int i = 0; i < 40; i++) {
+			journal.poll();
+		}
+		journal.commit();
+		journal.close();
+
+		EventJournal restored = new EventJournal(folder.getRoot(), 1024);
+		assertFalse(restored.isLost());
+		assertEquals(60, restored.size());
+		for (int i = 40; i < 100; i++) {
+			assertEquals("record-" + i, new String(restored.poll(), UTF_8));
+		}
+		assertNull(restored.poll());
+		restored.close();
+	}
+
+	@Test
+	public void testReplayWithoutCommit() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 64);
+		for (int i = 0; i < 20; i++) {
+			journal.append(record(i));
+		}
+		for (int i = 0; i < 5; i++) {
+			journal.poll();
+		}
+		journal.commit();
+		// The records were read but never acknowledged
+		for (int i = 5; i < 20; i++) {
+			journal.poll();
+		}
+		assertTrue(journal.isEmpty());
+		journal.close();
+
+		EventJournal restored = new EventJournal(folder.getRoot(), 64);
+		assertFalse(restored.isLost());
+		assertEquals(15, restored.size());
+		for (int i = 5; i < 20; i++) {
+			assertEquals("record-" + i, new String(restored.poll(), UTF_8));
+		}
+		assertNull(restored.poll());
+		restored.close();
+	}
+
+	@Test
+	public void testSegmentRollover() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 64);
+		for (int i = 0; i < 50; i++) {
+			journal.append(record(i));
+		}
+		assertTrue("The records must have been written to multiple segments", segmentCount() > 1);
+		for (int i = 0; i < 50; i++) {
+			assertEquals("record-" + i, new String(journal.poll(), UTF_8));
+		}
+		assertTrue("Read segments must be kept until they are committed", segmentCount() > 1);
+		journal.commit();
+		assertEquals("Committed segments must have been deleted", 1, segmentCount());
+
+		// Records which are larger than a segment get their own segment
+		byte[] large = new byte[200];
+		journal.append(large);
+		assertEquals(200, journal.poll().length);
+		journal.close();
+	}
+
+	@Test
+	public void testCommitPosition() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 64);
+		for (int i = 0; i < 50; i++) {
+			journal.append(record(i));
+		}
+		for (int i = 0; i < 20; i++) {
+			journal.poll();
+		}
+		Position first = journal.position();
+		for (int i = 20; i < 40; i++) {
+			journal.poll();
+		}
+		Position second = journal.position();
+		int segmentsBefore = segmentCount();
+
+		journal.commit(first);
+		assertTrue("Segments in front of the position must have been deleted", segmentCount() < segmentsBefore);
+		journal.commit(second);
+		// Older positions must not move the cursor back
+		journal.commit(first);
+		journal.close();
+
+		EventJournal restored = new EventJournal(folder.getRoot(), 64);
+		assertEquals(10, restored.size());
+		assertEquals("record-40", new String(restored.poll(), UTF_8));
+		restored.close();
+	}
+
+	@Test
+	public void testCommitPositionAfterReset() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 1024);
+		for (int i = 0; i < 10; i++) {
+			journal.append(record(i));
+		}
+		journal.poll();
+		Position position = journal.position();
+		journal.reset();
+		journal.append(record(10));
+		journal.append(record(11));
+
+		// The position belongs to the records before the reset
+		journal.commit(position);
+		journal.close();
+
+		EventJournal restored = new EventJournal(folder.getRoot(), 1024);
+		assertEquals(2, restored.size());
+		assertEquals("record-10", new String(restored.poll(), UTF_8));
+		restored.close();
+	}
+
+	@Test
+	public void testCorruptedJournal() throws IOException {
+		EventJournal journal = new EventJournal(folder.getRoot(), 1024);
+		journal.append(record(0));
+		journal.append(record(1));
+		journal.close();
+
+		// Flip a byte of the first payload
+		File segment = folder.getRoot().listFiles((dir, name) -> name.endsWith(".journal"))[0];
+		try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+			file.seek(8);
+			int value = file.read();
+			file.seek(8);
+			file.write(value ^ 0xFF);
+		}
+
+		EventJournal restored = new EventJournal(folder.getRoot(), 1024);
+		assertTrue(restored.isLost());
+		assertTrue(restored.isEmpty());
+		restored.append(record(2));
+		assertEquals("record-2", new String(restored.poll(), UTF_8));
+		restored.close();
+	}
+
+	private byte[] record(int i) {
+		return ("record-" + i).getBytes(UTF_8);
+	}
+
+	private int segmentCount() {
+		return folder.getRoot().listFiles((dir, name) -> name.endsWith(".journal")).length;
+	}
+}
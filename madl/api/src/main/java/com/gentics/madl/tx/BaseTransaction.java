@@ -66,6 +66,14 @@ public interface BaseTransaction extends AutoCloseable {
 	 */
 	<E extends Element> E getElement(Object id);
 
+	/**
+	 * Check whether the transaction contains changes which have not been committed yet. Data which was read within such a transaction may be rolled back
+	 * and must not be shared with other transactions.
+	 * 
+	 * @return
+	 */
+	boolean hasUncommittedChanges();
+
 	/**
 	 * Return the id of the transaction.
 	 * 
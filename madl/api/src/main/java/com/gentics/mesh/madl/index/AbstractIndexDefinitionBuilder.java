@@ -10,6 +10,8 @@ public abstract class AbstractIndexDefinitionBuilder<T extends AbstractIndexDefi
 
 	protected boolean unique = false;
 
+	protected boolean ordered = false;
+
 	protected FieldMap fields;
 
 	protected String name;
@@ -35,6 +37,16 @@ public abstract class AbstractIndexDefinitionBuilder<T extends AbstractIndexDefi
 		return (T) this;
 	}
 
+	/**
+	 * Set the ordered flag on the index. Ordered indices can be iterated in the order of the indexed values and can thus be used to page sorted results.
+	 * 
+	 * @return Fluent API
+	 */
+	public T ordered() {
+		this.ordered = true;
+		return (T) this;
+	}
+
 	/**
 	 * Set the fields for the index.
 	 * 
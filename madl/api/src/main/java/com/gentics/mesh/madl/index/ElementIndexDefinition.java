@@ -18,6 +18,13 @@ public interface ElementIndexDefinition {
 	 */
 	boolean isUnique();
 
+	/**
+	 * Whether the index should keep the entries ordered by the indexed values.
+	 * 
+	 * @return
+	 */
+	boolean isOrdered();
+
 	/**
 	 * Return the fields which are part of the index.
 	 * 
@@ -32,6 +32,7 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			def.name = name;
 			def.postfix = postfix;
 			def.unique = unique;
+			def.ordered = ordered;
 			def.fields = fields;
 			def.includeIn = includeIn;
 			def.includeOut = includeOut;
@@ -1,6 +1,7 @@
 package com.gentics.madl.index;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -8,6 +9,7 @@ import com.gentics.mesh.madl.index.impl.EdgeIndexDefinitionImpl.EdgeIndexDefinit
 import com.gentics.mesh.madl.index.impl.VertexIndexDefinitionImpl.VertexIndexDefinitionBuilder;
 import com.syncleus.ferma.ElementFrame;
 import com.syncleus.ferma.VertexFrame;
+import com.tinkerpop.blueprints.Vertex;
 
 public interface IndexHandler {
 
@@ -52,6 +54,42 @@ public interface IndexHandler {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a lookup on an ordered vertex index. The vertices will be returned lazily in the order of the indexed values. The key prefix can be used to
+	 * restrict the lookup of composite indices to the entries which start with the given values. Vertices which have no value for the indexed field will be
+	 * returned last.
+	 * 
+	 * @param clazz
+	 *            Vertex class of the index
+	 * @param indexPostfix
+	 *            Postfix of the index
+	 * @param ascending
+	 *            Whether to iterate the index in ascending or descending order
+	 * @param keyPrefix
+	 *            Values of the leading index fields which must match
+	 * @return Stream of the found vertices
+	 */
+	Stream<Vertex> orderedVertexLookup(Class<?> clazz, String indexPostfix, boolean ascending, Object... keyPrefix);
+
+	/**
+	 * Perform a lookup on an ordered vertex index which starts at the given value of the last index field. The index is seeked directly to the start value and
+	 * thus the vertices in front of it will not be loaded. The vertex which contains the start value is included in the result. A start value of null will
+	 * only return the vertices which have no value for the indexed field.
+	 * 
+	 * @param clazz
+	 *            Vertex class of the index
+	 * @param indexPostfix
+	 *            Postfix of the index
+	 * @param ascending
+	 *            Whether to iterate the index in ascending or descending order
+	 * @param from
+	 *            Value of the last index field at which the lookup should start
+	 * @param keyPrefix
+	 *            Values of the leading index fields which must match
+	 * @return Stream of the found vertices
+	 */
+	Stream<Vertex> orderedVertexLookupFrom(Class<?> clazz, String indexPostfix, boolean ascending, Object from, Object... keyPrefix);
+
 	/**
 	 * Add edge index for the given fields.
 	 * 
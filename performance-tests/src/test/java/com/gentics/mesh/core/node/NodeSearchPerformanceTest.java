@@ -17,6 +17,7 @@ import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -128,4 +129,37 @@ public class NodeSearchPerformanceTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testSearchLatencyByPageSize() throws Exception {
+		try (Tx tx = db().tx()) {
+			recreateIndices();
+		}
+
+		String uuid = db().tx(() -> folder("news").getUuid());
+		int total = 500;
+		for (int i = 0; i < total; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setLanguage("en");
+			request.setParentNodeUuid(uuid);
+			request.setSchema(new SchemaReferenceImpl().setName("content"));
+			request.getFields().put("name", FieldUtil.createStringField("someNode_" + i));
+			request.getFields().put("content", FieldUtil.createHtmlField("someContent"));
+			call(() -> client().createNode(PROJECT_NAME, request));
+			if (i % 100 == 0) {
+				log.info("Created " + i + " of " + total + " nodes.");
+			}
+		}
+
+		String search = "{ \"query\": { \"term\": { \"schema.name.raw\": \"content\" } } }";
+		// All hits of a page are loaded and transformed within a single transaction. The latency should thus grow with the page size but not with the
+		// amount of transactions.
+		for (long perPage : new long[] { 1, 10, 50, 100, 250 }) {
+			loggingStopWatch(logger, "node.search-page-size-" + perPage, 50, (step) -> {
+				NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, search, new PagingParametersImpl(1, perPage),
+					new VersioningParametersImpl().draft()));
+				assertEquals(perPage, response.getData().size());
+			});
+		}
+	}
+
 }
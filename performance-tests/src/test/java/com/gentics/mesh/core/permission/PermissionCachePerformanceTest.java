@@ -0,0 +1,57 @@
+package com.gentics.mesh.core.permission;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = false)
+public class PermissionCachePerformanceTest extends AbstractMeshTest {
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testPermittedIds() {
+		User user = tx(() -> user());
+		List<Object> ids = tx(() -> project().getNodeRoot().findAll().stream().map(Node::id).collect(Collectors.toList()));
+
+		loggingStopWatch(logger, "permission.permitted-ids-cold", 1000, (step) -> {
+			try (Tx tx = tx()) {
+				mesh().permissionCache().clear(false);
+				user.getPermittedIds(ids, READ_PERM);
+			}
+		});
+
+		loggingStopWatch(logger, "permission.permitted-ids-warm", 10000, (step) -> {
+			try (Tx tx = tx()) {
+				user.getPermittedIds(ids, READ_PERM);
+			}
+		});
+	}
+
+	@Test
+	public void testPermissions() {
+		User user = tx(() -> user());
+		List<? extends Node> nodes = tx(() -> project().getNodeRoot().findAll().list());
+
+		loggingStopWatch(logger, "permission.get-permissions-warm", 10000, (step) -> {
+			try (Tx tx = tx()) {
+				for (Node node : nodes) {
+					user.getPermissions(node);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.rest;
+
+/**
+ * Enum which contains the properties which can be used to sort paged results.
+ */
+public enum SortField {
+
+	/**
+	 * Creation date of the element.
+	 */
+	CREATED("created"),
+
+	/**
+	 * Last edit date of the element (or the node content).
+	 */
+	EDITED("edited"),
+
+	/**
+	 * Value of the display field of the node content.
+	 */
+	DISPLAY_FIELD("displayField"),
+
+	/**
+	 * Name of the schema of the node.
+	 */
+	SCHEMA("schema");
+
+	private String simpleName;
+
+	private SortField(String simpleName) {
+		this.simpleName = simpleName;
+	}
+
+	/**
+	 * Return the human readable name of the sort field.
+	 *
+	 * @return
+	 */
+	public String getSimpleName() {
+		return simpleName;
+	}
+
+	/**
+	 * Convert the human readable name into a SortField object.
+	 *
+	 * @param name
+	 * @return Found field or null if the name is unknown
+	 */
+	public static SortField valueOfName(String name) {
+		if (name == null) {
+			return null;
+		}
+		for (SortField field : SortField.values()) {
+			if (name.equals(field.getSimpleName())) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+}
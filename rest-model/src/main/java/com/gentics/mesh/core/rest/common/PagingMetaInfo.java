@@ -17,13 +17,17 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value is -1 if the count was skipped.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value is -1 if the count was skipped.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be passed via the after parameter in order to load the next page. The cursor is omitted if there is no next page.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +115,25 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor which points to the next page.
+	 * 
+	 * @return Cursor or null if there is no next page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor which points to the next page.
+	 * 
+	 * @param nextCursor
+	 *            Cursor
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
@@ -20,6 +20,10 @@ public class GraphQLRequest implements RestModel {
 	@JsonPropertyDescription("JSON object which contains the variables.")
 	private JsonObject variables;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("JSON object which contains protocol extensions. The persistedQuery extension can be used to reference an automatic persisted query via its SHA-256 hash.")
+	private JsonObject extensions;
+
 	/**
 	 * Return the GraphQL query.
 	 * 
@@ -77,4 +81,24 @@ public class GraphQLRequest implements RestModel {
 		this.variables = variables;
 		return this;
 	}
+
+	/**
+	 * Return the protocol extensions.
+	 * 
+	 * @return
+	 */
+	public JsonObject getExtensions() {
+		return extensions;
+	}
+
+	/**
+	 * Set the protocol extensions.
+	 * 
+	 * @param extensions
+	 * @return Fluent API
+	 */
+	public GraphQLRequest setExtensions(JsonObject extensions) {
+		this.extensions = extensions;
+		return this;
+	}
 }
@@ -1,5 +1,6 @@
 package com.gentics.mesh.parameter;
 
+import com.gentics.mesh.core.rest.SortField;
 import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.util.NumberUtils;
 
@@ -9,9 +10,16 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String SKIP_COUNT_PARAMETER_KEY = "skipCount";
 
 	public static final int DEFAULT_PAGE = 1;
 
+	/**
+	 * Default value of the sort by parameter. Results which use this value will be returned in the natural order of the underlying index.
+	 */
+	public static final String DEFAULT_SORT_BY = "uuid";
+
 	/**
 	 * Return the current page.
 	 * 
@@ -60,33 +68,47 @@ public interface PagingParameters extends ParameterProvider {
 	 * Return the sort by parameter value.
 	 * 
 	 * @return Field to be sorted by
-	 * @deprecated not yet implemented
 	 */
-	@Deprecated
 	default String getSortBy() {
 		return getParameter(SORT_BY_PARAMETER_KEY);
 	}
 
+	/**
+	 * Return the sort field which was selected via the sort by parameter.
+	 * 
+	 * Unknown values are ignored in order to stay compatible with clients which passed arbitrary values before sorting was supported.
+	 * 
+	 * @return Selected sort field or null if the natural order should be used
+	 */
+	default SortField getSortField() {
+		return SortField.valueOfName(getSortBy());
+	}
+
 	/**
 	 * Return the sortorder.
 	 * 
 	 * @return
-	 * @deprecated not yet implemented
 	 */
-	@Deprecated
 	default SortOrder getOrder() {
 		return SortOrder.valueOfName(getParameter(SORT_ORDER_PARAMETER_KEY));
+	}
 
+	/**
+	 * Check whether the results should be sorted in ascending order. This is the case unless the descending order was selected.
+	 * 
+	 * @return
+	 */
+	default boolean isAscending() {
+		return getOrder() != SortOrder.DESCENDING;
 	}
 
 	/**
 	 * Set the order by parameter.
 	 * 
 	 * @param orderBy
-	 * @return
-	 * @deprecated not yet implemented
+	 *            Field to be sorted by
+	 * @return Fluent API
 	 */
-	@Deprecated
 	default PagingParameters setOrderBy(String orderBy) {
 		setParameter(SORT_BY_PARAMETER_KEY, orderBy);
 		return this;
@@ -95,15 +117,69 @@ public interface PagingParameters extends ParameterProvider {
 	/**
 	 * Set the used sort order.
 	 * 
-	 * @param sortBy
+	 * @param sortOrder
 	 *            Sort order
 	 * @return Fluent API
-	 * @deprecated not yet implemented
+	 */
+	default PagingParameters setSortOrder(String sortOrder) {
+		setParameter(SORT_ORDER_PARAMETER_KEY, sortOrder);
+		return this;
+	}
+
+	/**
+	 * Set the used sort order.
 	 * 
+	 * @param sortOrder
+	 *            Sort order
+	 * @return Fluent API
+	 */
+	default PagingParameters setSortOrder(SortOrder sortOrder) {
+		if (sortOrder != null) {
+			setSortOrder(sortOrder.getSimpleName());
+		}
+		return this;
+	}
+
+	/**
+	 * Return the cursor after which the elements of the page should start. The cursor is the uuid of the last element of the previous page.
+	 * 
+	 * @return Cursor or null if the page number should be used
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the elements of the page should start. The page parameter will be ignored when a cursor has been set.
+	 * 
+	 * @param after
+	 *            Uuid of the last element of the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		if (after != null) {
+			setParameter(AFTER_PARAMETER_KEY, after);
+		}
+		return this;
+	}
+
+	/**
+	 * Check whether the computation of the total count and the page count should be skipped.
+	 * 
+	 * @return
+	 */
+	default boolean isSkipCount() {
+		return Boolean.valueOf(getParameter(SKIP_COUNT_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the skip count flag. The total count and the page count will not be computed when the flag is set.
+	 * 
+	 * @param skipCount
+	 * @return Fluent API
 	 */
-	@Deprecated
-	default PagingParameters setSortOrder(String sortBy) {
-		setParameter(SORT_BY_PARAMETER_KEY, sortBy);
+	default PagingParameters setSkipCount(boolean skipCount) {
+		setParameter(SKIP_COUNT_PARAMETER_KEY, String.valueOf(skipCount));
 		return this;
 	}
 
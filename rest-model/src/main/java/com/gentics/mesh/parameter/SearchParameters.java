@@ -6,6 +6,8 @@ public interface SearchParameters extends ParameterProvider {
 
 	String WAIT_PARAMETER_KEY = "wait";
 
+	String SOURCE_PARAMETER_KEY = "source";
+
 	/**
 	 * Set the recursive flag. When enabled the deletion will also effect subelements.
 	 * 
@@ -34,4 +36,24 @@ public interface SearchParameters extends ParameterProvider {
 				}
 			});
 	}
+
+	/**
+	 * Set the source flag. When enabled the results will be directly created from the stored search documents.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setSource(boolean flag) {
+		setParameter(SOURCE_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the results should be directly created from the stored search documents instead of loading the elements.
+	 * 
+	 * @return
+	 */
+	default boolean isSource() {
+		return Boolean.valueOf(getParameter(SOURCE_PARAMETER_KEY));
+	}
 }
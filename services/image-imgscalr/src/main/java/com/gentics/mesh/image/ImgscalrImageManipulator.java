@@ -1,6 +1,7 @@
 package com.gentics.mesh.image;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_COALESCED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.awt.image.BufferedImage;
@@ -11,6 +12,8 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -33,16 +36,20 @@ import org.imgscalr.Scalr.Mode;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
+import com.gentics.mesh.core.image.spi.CacheFileInfo;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
 import com.gentics.mesh.parameter.image.ResizeMode;
 import com.twelvemonkeys.image.ResampleOp;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -60,15 +67,27 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private WorkerExecutor workerPool;
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options) {
-		this(vertx, options.getImageOptions());
+	/**
+	 * Resize operations which are currently in progress. Concurrent requests for the same variant share the operation.
+	 */
+	private final Map<String, Single<String>> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter coalesced;
+
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), metrics.isEnabled() ? metrics.getMetricRegistry() : null);
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
-		super(vertx, options);
+		this(vertx, options, null);
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MeterRegistry registry) {
+		super(vertx, options, registry);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
+		coalesced = registry == null ? null : registry.counter(IMAGE_RESIZE_COALESCED.key());
 	}
 
 	/**
@@ -298,57 +317,81 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
 					return Single.just(cacheFileInfo.path);
-				} else {
-					// TODO handle execution timeout
-					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
-					// regular worker
-					// pool
-					return workerPool.<String>rxExecuteBlocking(bh -> {
-						try (
-							InputStream is = stream.get();
-							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-							BufferedImage image;
-							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
-							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
-							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
-						} catch (Exception e) {
-							bh.fail(e);
-						}
-					}, false).toSingle();
 				}
+				// The base path identifies the variant by the hash of the binary and the cache key of the parameters
+				String key = cacheFileInfo.path;
+				AtomicBoolean created = new AtomicBoolean();
+				Single<String> resize = inFlight.computeIfAbsent(key, k -> {
+					created.set(true);
+					return resize(stream, parameters, cacheFileInfo)
+						.doFinally(() -> inFlight.remove(k))
+						.cache();
+				});
+				if (!created.get() && coalesced != null) {
+					coalesced.increment();
+				}
+				return resize;
 			});
 	}
 
+	/**
+	 * Resize the image and write the result to the cache file.
+	 *
+	 * @param stream
+	 * @param parameters
+	 * @param cacheFileInfo
+	 * @return Path of the written cache file
+	 */
+	private Single<String> resize(Supplier<InputStream> stream, ImageManipulationParameters parameters, CacheFileInfo cacheFileInfo) {
+		// TODO handle execution timeout
+		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
+		// regular worker
+		// pool
+		return workerPool.<String>rxExecuteBlocking(bh -> {
+			try (
+				InputStream is = stream.get();
+				ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+				BufferedImage image;
+				ImageReader reader = getImageReader(ins);
+
+				try {
+					image = reader.read(0);
+				} catch (IOException e) {
+					log.error("Could not read input image", e);
+
+					throw error(BAD_REQUEST, "image_error_reading_failed");
+				}
+
+				if (log.isDebugEnabled()) {
+					log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+				}
+
+				image = cropAndResize(image, parameters);
+
+				String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+				String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+				String cacheFilePath = cacheFileInfo.path + "." + extension;
+				File outCacheFile = new File(cacheFilePath);
+
+				// Write image
+				try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+					ImageWriteParam params = getImageWriteparams(extension);
+
+					// same as write(image), but with image parameters
+					getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+				} catch (Exception e) {
+					throw error(BAD_REQUEST, "image_error_writing_failed");
+				}
+				cacheIndex.put(cacheFileInfo.path, cacheFilePath);
+
+				// Return buffer to written cache file
+				bh.complete(cacheFilePath);
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false).toSingle();
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
@@ -15,9 +17,13 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.imageio.ImageIO;
 
@@ -31,6 +37,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
+import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
@@ -104,6 +111,27 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testCoalescedResize() {
+		AtomicInteger opened = new AtomicInteger();
+		Binary binary = mock(Binary.class);
+		when(binary.openBlockingStream()).thenReturn(() -> {
+			opened.incrementAndGet();
+			return getClass().getResourceAsStream("/pictures/Lenna.png");
+		});
+		when(binary.getSHA512Sum()).thenReturn("coalescedResize");
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(100).setHeight(100);
+
+		List<Single<String>> resizes = IntStream.range(0, 10)
+			.mapToObj(i -> manipulator.handleResize(binary, parameters))
+			.collect(Collectors.toList());
+		List<String> paths = Single.merge(resizes).toList().blockingGet();
+
+		assertEquals("The image should only have been resized once", 1, opened.get());
+		assertEquals(1, paths.stream().distinct().count());
+		assertTrue(new File(paths.get(0)).exists());
+	}
+
 	@Test
 	public void testExtractImageInfo() throws IOException, JSONException {
 		checkImages((imageName, width, height, color, refImage, origPath, stream) -> {
@@ -1,21 +1,39 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_PENDING;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_QUEUE_WAIT_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_RESOLVER_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_TIME;
 import static graphql.GraphQL.newGraphQL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLPersistedQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.instrumentation.ResolverTimeInstrumentation;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.SearchWaitUtil;
 
 import graphql.ExceptionWhileDataFetching;
@@ -23,36 +41,78 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.language.SourceLocation;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Maybe;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
 
 @Singleton
 public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	private static final String WORKER_POOL_NAME = "mesh-graphql-worker";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
 	@Inject
-	public Database db;
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLDocumentCache documentCache;
 
 	@Inject
-	public Vertx vertx;
+	public GraphQLPersistedQueryCache persistedQueryCache;
+
+	@Inject
+	public Database db;
 
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	private final MetricsService metrics;
+
+	private final WorkerExecutor executor;
+
+	private final int maxPendingQueries;
+
+	private final AtomicLong pendingQueries;
+
+	private final Counter rejectedCounter;
+
+	private final Timer queryTimer;
+
+	private final Timer queueWaitTimer;
+
+	private final Timer resolverTimer;
+
 	@Inject
-	public GraphQLHandler() {
+	public GraphQLHandler(Vertx vertx, MeshOptions options, MetricsService metrics) {
+		GraphQLOptions graphQLOptions = options.getGraphQLOptions();
+		this.metrics = metrics;
+		this.executor = vertx.createSharedWorkerExecutor(WORKER_POOL_NAME, graphQLOptions.getWorkerPoolSize());
+		this.maxPendingQueries = graphQLOptions.getWorkerPoolSize() + graphQLOptions.getWorkerQueueSize();
+		this.pendingQueries = metrics.longGauge(GRAPHQL_PENDING);
+		this.rejectedCounter = metrics.counter(GRAPHQL_REJECTED);
+		this.queryTimer = metrics.timer(GRAPHQL_TIME);
+		this.queueWaitTimer = metrics.timer(GRAPHQL_QUEUE_WAIT_TIME);
+		this.resolverTimer = metrics.timer(GRAPHQL_RESOLVER_TIME);
 	}
 
 	/**
-	 * Handle the GraphQL query.
+	 * Handle the GraphQL query. The query will be executed by the dedicated GraphQL worker pool. Queries will be rejected if the pool and its queue are
+	 * exhausted.
 	 *
 	 * @param gc
 	 * 		Context
@@ -60,47 +120,151 @@ public class GraphQLHandler {
 	 * 		GraphQL query
 	 */
 	public void handleQuery(GraphQLContext gc, String body) {
-		waitUtil.awaitSync(gc).andThen(vertx.rxExecuteBlocking(promise -> {
-			try (Tx tx = db.tx()) {
-				JsonObject queryJson = new JsonObject(body);
-				String query = queryJson.getString("query");
-				GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
-				ExecutionInput executionInput = ExecutionInput
-						.newExecutionInput()
-						.query(query)
-						.context(gc)
-						.variables(extractVariables(queryJson))
-						.build();
-				ExecutionResult result = graphQL.execute(executionInput);
-				List<GraphQLError> errors = result.getErrors();
-				JsonObject response = new JsonObject();
-				if (!errors.isEmpty()) {
-					addErrors(errors, response);
-					if (log.isDebugEnabled()) {
-						log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
-						for (GraphQLError error : errors) {
-							String loc = "unknown location";
-							if (error.getLocations() != null) {
-								loc = error.getLocations().stream().map(Object::toString).collect(Collectors.joining(","));
-							}
-							log.debug("Error: " + error.getErrorType() + ":" + error.getMessage() + ":" + loc);
-						}
-					}
-				}
-				if (result.getData() != null) {
-					Map<String, Object> data = result.getData();
-					response.put("data", new JsonObject(data));
+		if (pendingQueries.incrementAndGet() > maxPendingQueries) {
+			pendingQueries.decrementAndGet();
+			rejectedCounter.increment();
+			gc.fail(error(SERVICE_UNAVAILABLE, "graphql_error_overloaded"));
+			return;
+		}
+		long start = System.nanoTime();
+		waitUtil.awaitSync(gc).andThen(Maybe.defer(() -> {
+			long queued = System.nanoTime();
+			return executor.rxExecuteBlocking(promise -> {
+				recordTime(queueWaitTimer, queued);
+				try {
+					executeQuery(gc, body);
+					promise.complete();
+				} catch (Exception e) {
+					promise.fail(e);
 				}
-				gc.send(response.encodePrettily(), OK);
-				promise.complete();
-			} catch (Exception e) {
-				promise.fail(e);
-			}
+			}, false);
 		}))
+		.doFinally(() -> {
+			pendingQueries.decrementAndGet();
+			recordTime(queryTimer, start);
+		})
 		.doOnError(gc::fail)
 		.subscribe();
 	}
 
+	private void executeQuery(GraphQLContext gc, String body) {
+		// GraphQL queries are read-only and can thus use a read transaction
+		db.readTx(() -> {
+			JsonObject queryJson = new JsonObject(body);
+			String query = queryJson.getString("query");
+			String persistedQueryHash = extractPersistedQueryHash(queryJson);
+			if (persistedQueryHash != null) {
+				query = resolvePersistedQuery(persistedQueryHash, query);
+				if (query == null) {
+					String error = persistedQueryCache.isDisabled() ? "PersistedQueryNotSupported" : "PersistedQueryNotFound";
+					gc.send(createErrorResponse(error).encodePrettily(), OK);
+					return;
+				}
+			}
+			String schemaKey = schemaCache.createCacheKey(gc);
+			GraphQLSchema schema = schemaCache.get(schemaKey, gc, typeProvider::getRootSchema);
+			List<Instrumentation> instrumentations = new ArrayList<>();
+			instrumentations.add(new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry()));
+			ResolverTimeInstrumentation resolverTime = null;
+			if (metrics.isEnabled()) {
+				resolverTime = new ResolverTimeInstrumentation();
+				instrumentations.add(resolverTime);
+			}
+			GraphQL graphQL = newGraphQL(schema)
+				.preparsedDocumentProvider(documentCache.createProvider(schemaKey))
+				.instrumentation(new ChainedInstrumentation(instrumentations))
+				.build();
+			ExecutionInput executionInput = ExecutionInput
+					.newExecutionInput()
+					.query(query)
+					.context(gc)
+					.variables(extractVariables(queryJson))
+					.build();
+			ExecutionResult result = graphQL.execute(executionInput);
+			if (resolverTime != null) {
+				resolverTime.record(resolverTimer);
+			}
+			List<GraphQLError> errors = result.getErrors();
+			JsonObject response = new JsonObject();
+			if (!errors.isEmpty()) {
+				addErrors(errors, response);
+				if (log.isDebugEnabled()) {
+					log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
+					for (GraphQLError error : errors) {
+						String loc = "unknown location";
+						if (error.getLocations() != null) {
+							loc = error.getLocations().stream().map(Object::toString).collect(Collectors.joining(","));
+						}
+						log.debug("Error: " + error.getErrorType() + ":" + error.getMessage() + ":" + loc);
+					}
+				}
+			}
+			if (result.getData() != null) {
+				Map<String, Object> data = result.getData();
+				response.put("data", new JsonObject(data));
+			}
+			gc.send(response.encodePrettily(), OK);
+		});
+	}
+
+	private void recordTime(Timer timer, long start) {
+		if (metrics.isEnabled()) {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Return the SHA-256 hash of an automatic persisted query. The hash is provided in the <code>extensions.persistedQuery.sha256Hash</code> property.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return Hash or null if the request does not reference a persisted query
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Resolve the persisted query for the given hash. A query which is sent together with the hash will be stored.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 *            Query which was sent along with the hash or null
+	 * @return Query or null if the query is not known
+	 */
+	private String resolvePersistedQuery(String hash, String query) {
+		if (query == null) {
+			return persistedQueryCache.get(hash);
+		}
+		if (!hash.equals(GraphQLDocumentCache.hash(query))) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		persistedQueryCache.store(hash, query);
+		return query;
+	}
+
+	/**
+	 * Create a response which only contains the given error. The error format is compatible with the automatic persisted query protocol.
+	 *
+	 * @param message
+	 * @return
+	 */
+	private JsonObject createErrorResponse(String message) {
+		JsonObject jsonError = new JsonObject();
+		jsonError.put("message", message);
+		jsonError.put("type", message);
+		return new JsonObject().put("errors", new JsonArray().add(jsonError));
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
@@ -131,8 +295,13 @@ public class GraphQLHandler {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof AbstractUnavailableException) {
-					AbstractUnavailableException restException = (AbstractUnavailableException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Errors of batch loaded fields are wrapped by the future
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof AbstractUnavailableException) {
+					AbstractUnavailableException restException = (AbstractUnavailableException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -140,7 +309,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -0,0 +1,76 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.google.common.hash.Hashing;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * LRU cache for parsed and validated GraphQL documents. The key of each entry consists of the hash of the query and the key of the schema which was used
+ * to validate the document. Documents thus never need to be invalidated on schema changes. Outdated entries will however be removed once a schema related
+ * event has been received.
+ */
+@Singleton
+public class GraphQLDocumentCache extends AbstractMeshCache<String, PreparsedDocumentEntry> {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLDocumentCache.class);
+
+	@Inject
+	public GraphQLDocumentCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLDocumentCacheSize());
+	}
+
+	private static EventAwareCache<String, PreparsedDocumentEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, PreparsedDocumentEntry>builder()
+			.events(GraphQLSchemaCache.EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL document cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqldocument")
+			.maxSize(config.getGraphQLDocumentCacheSize())
+			.build();
+	}
+
+	/**
+	 * Create a document provider which uses the cache to lookup documents for the schema with the given key.
+	 *
+	 * @param schemaKey
+	 *            Key of the schema which is used to validate the documents
+	 * @return
+	 */
+	public PreparsedDocumentProvider createProvider(String schemaKey) {
+		return (query, computeFunction) -> {
+			if (isDisabled()) {
+				return computeFunction.apply(query);
+			}
+			return get(schemaKey + "-" + hash(query), key -> computeFunction.apply(query));
+		};
+	}
+
+	/**
+	 * Return the SHA-256 hash of the query. The same hash format is used for automatic persisted queries.
+	 *
+	 * @param query
+	 * @return Hex encoded hash
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.gentics.mesh.graphql.cache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * Store for automatic persisted queries. Clients may send the SHA-256 hash of a query instead of the query itself. The query will be stored once the client
+ * sends the hash together with the query. Each instance of a cluster maintains its own store. Clients will thus resend the query if it is unknown to the
+ * instance which handles the request.
+ */
+@Singleton
+public class GraphQLPersistedQueryCache extends AbstractMeshCache<String, String> {
+
+	@Inject
+	public GraphQLPersistedQueryCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLPersistedQueryCacheSize());
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		// Stored queries never need to be invalidated since the key is the hash of the query
+		return factory.<String, String>builder()
+			.events()
+			.name("graphqlpersistedquery")
+			.maxSize(config.getGraphQLPersistedQueryCacheSize())
+			.build();
+	}
+
+	/**
+	 * Store the query for the given hash.
+	 *
+	 * @param hash
+	 * @param query
+	 */
+	public void store(String hash, String query) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(hash, query);
+	}
+
+}
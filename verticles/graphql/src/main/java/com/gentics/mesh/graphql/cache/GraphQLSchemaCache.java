@@ -0,0 +1,164 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_DEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_UNDEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.metric.SimpleMetric.GRAPHQL_SCHEMA_BUILD_TIME;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.plugin.graphql.GraphQLPlugin;
+import com.google.common.hash.Hashing;
+
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for compiled GraphQL schemas. Building the schema requires the creation of a type for every schema and microschema of the project and is thus
+ * expensive. The key of each entry is derived from the project, branch, API version and the uuids of the schema and microschema versions which were used to
+ * build the schema. A schema change will thus never return an outdated entry. Entries which are no longer reachable will be removed once a schema or branch
+ * assignment related event has been received.
+ */
+@Singleton
+public class GraphQLSchemaCache extends AbstractMeshCache<String, GraphQLSchema> {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	static final MeshEvent EVENTS[] = {
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PLUGIN_DEPLOYED,
+		PLUGIN_UNDEPLOYED };
+
+	private final GraphQLPluginRegistry pluginRegistry;
+
+	private final MetricsService metrics;
+
+	private final Timer buildTimer;
+
+	@Inject
+	public GraphQLSchemaCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics,
+		GraphQLPluginRegistry pluginRegistry) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLSchemaCacheSize());
+		this.pluginRegistry = pluginRegistry;
+		this.metrics = metrics;
+		this.buildTimer = metrics.timer(GRAPHQL_SCHEMA_BUILD_TIME);
+	}
+
+	private static EventAwareCache<String, GraphQLSchema> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, GraphQLSchema>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqlschema")
+			.maxSize(config.getGraphQLSchemaCacheSize())
+			.build();
+	}
+
+	/**
+	 * Return the cached schema for the given key or build it via the provided function.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #createCacheKey(GraphQLContext)}
+	 * @param gc
+	 *            Context which references the project, branch and API version
+	 * @param schemaBuilder
+	 *            Function which is used to build the schema if it can't be found in the cache
+	 * @return Cached or built schema
+	 */
+	public GraphQLSchema get(String key, GraphQLContext gc, Function<GraphQLContext, GraphQLSchema> schemaBuilder) {
+		return get(key, k -> build(gc, schemaBuilder));
+	}
+
+	private GraphQLSchema build(GraphQLContext gc, Function<GraphQLContext, GraphQLSchema> schemaBuilder) {
+		if (!metrics.isEnabled()) {
+			return schemaBuilder.apply(gc);
+		}
+		Timer.Sample sample = Timer.start();
+		try {
+			return schemaBuilder.apply(gc);
+		} finally {
+			sample.stop(buildTimer);
+		}
+	}
+
+	/**
+	 * Create the cache key. The key is a hash over the uuids of all schema and microschema versions which are used to build the types of the schema. The
+	 * key can also be used to reference the schema version in other caches.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public String createCacheKey(GraphQLContext gc) {
+		Project project = gc.getProject();
+		StringBuilder key = new StringBuilder();
+		key.append(project.getUuid());
+		key.append("-").append(gc.getBranch().getUuid());
+		key.append("-v").append(gc.getApiVersion());
+		key.append("-").append(project.getSchemaContainerRoot().findAll().stream()
+			.map(container -> container.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(",")));
+		key.append("-").append(project.getMicroschemaContainerRoot().findAll().stream()
+			.map(container -> container.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(",")));
+		key.append("-").append(pluginRegistry.getPlugins().stream()
+			.map(GraphQLPlugin::id)
+			.sorted()
+			.collect(Collectors.joining(",")));
+		return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+	}
+
+}
@@ -2,6 +2,9 @@ package com.gentics.mesh.graphql.context;
 
 import java.util.function.Supplier;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -24,6 +27,23 @@ public interface GraphQLContext extends InternalActionContext, GraphQLPluginCont
 	 */
 	<T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission);
 
+	/**
+	 * Return the registry which contains the batch loaders of the request. The registry will be created on first access.
+	 *
+	 * @return
+	 */
+	DataLoaderRegistry getDataLoaderRegistry();
+
+	/**
+	 * Return the batch loader with the given key from the registry of the request.
+	 *
+	 * @param key
+	 * @return
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
+
 	/**
 	 * Gets a value from the context. If the value does not exist yet, the supplier will be called.
 	 * The result is then stored in the context and also returned.
@@ -2,10 +2,13 @@ package com.gentics.mesh.graphql.context.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
@@ -15,10 +18,20 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	private DataLoaderRegistry dataLoaderRegistry;
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
 	}
 
+	@Override
+	public DataLoaderRegistry getDataLoaderRegistry() {
+		if (dataLoaderRegistry == null) {
+			dataLoaderRegistry = NodeDataLoader.createRegistry(this);
+		}
+		return dataLoaderRegistry;
+	}
+
 	@Override
 	public <T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission) {
 		for (GraphPermission perm : permission) {
@@ -0,0 +1,231 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Batch loaders which are used to resolve nodes, node contents and permissions of a GraphQL request. The loaders collect the keys of all fetchers of an
+ * execution level and resolve them at once. This way the roles of the user are only loaded once per level and contents which are referenced multiple times
+ * are only loaded once per request.
+ */
+public final class NodeDataLoader {
+
+	/**
+	 * Loader for {@link NodeContent} which checks the read (published) permission of the node. A null value will be returned if the permission is not
+	 * granted.
+	 */
+	public static final String CONTENT_LOADER_KEY = "nodeContentLoader";
+
+	/**
+	 * Loader for {@link NodeContent} which does not check permissions.
+	 */
+	public static final String CONTAINER_LOADER_KEY = "nodeContainerLoader";
+
+	/**
+	 * Loader for the readable children of a node. The children will be returned as {@link NodeContent} and children without a matching container are
+	 * omitted.
+	 */
+	public static final String CHILDREN_LOADER_KEY = "nodeChildrenLoader";
+
+	/**
+	 * Loader which checks the read permission of an element.
+	 */
+	public static final String READ_PERM_LOADER_KEY = "readPermLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create a new registry which contains the loaders for the given request.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(CONTENT_LOADER_KEY, new DataLoader<ContentKey, NodeContent>(keys -> loadContents(gc, keys, true)));
+		registry.register(CONTAINER_LOADER_KEY, new DataLoader<ContentKey, NodeContent>(keys -> loadContents(gc, keys, false)));
+		registry.register(CHILDREN_LOADER_KEY, new DataLoader<ContentKey, List<NodeContent>>(keys -> loadChildren(gc, keys)));
+		registry.register(READ_PERM_LOADER_KEY, new DataLoader<MeshCoreVertex<?, ?>, Boolean>(keys -> loadReadPerms(gc, keys)));
+		return registry;
+	}
+
+	/**
+	 * Load the content of the given node and fail with a permission error if the user is not allowed to read the node.
+	 *
+	 * @param gc
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<NodeContent> loadContent(GraphQLContext gc, Node node, List<String> languageTags) {
+		DataLoader<ContentKey, NodeContent> loader = gc.getDataLoader(CONTENT_LOADER_KEY);
+		return loader.load(new ContentKey(node, languageTags)).thenApply(content -> {
+			if (content == null) {
+				throw missingPerm(node.getTypeInfo().getType().name().toLowerCase(), node.getUuid());
+			}
+			return content;
+		});
+	}
+
+	/**
+	 * Load the content of the given node without checking permissions.
+	 *
+	 * @param gc
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<NodeContent> loadContainer(GraphQLContext gc, Node node, List<String> languageTags) {
+		DataLoader<ContentKey, NodeContent> loader = gc.getDataLoader(CONTAINER_LOADER_KEY);
+		return loader.load(new ContentKey(node, languageTags));
+	}
+
+	/**
+	 * Load the contents of the given nodes without checking permissions.
+	 *
+	 * @param gc
+	 * @param nodes
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<List<NodeContent>> loadContainers(GraphQLContext gc, List<? extends Node> nodes, List<String> languageTags) {
+		DataLoader<ContentKey, NodeContent> loader = gc.getDataLoader(CONTAINER_LOADER_KEY);
+		return loader.loadMany(nodes.stream().map(node -> new ContentKey(node, languageTags)).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Load the readable children of the given node.
+	 *
+	 * @param gc
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	public static CompletableFuture<List<NodeContent>> loadChildren(GraphQLContext gc, Node node, List<String> languageTags) {
+		DataLoader<ContentKey, List<NodeContent>> loader = gc.getDataLoader(CHILDREN_LOADER_KEY);
+		return loader.load(new ContentKey(node, languageTags));
+	}
+
+	/**
+	 * Return the given element once the read permission has been checked. Otherwise a permission error will be thrown.
+	 *
+	 * @param gc
+	 * @param vertex
+	 * @return
+	 */
+	public static <T extends MeshCoreVertex<?, ?>> CompletableFuture<T> requiresReadPerm(GraphQLContext gc, T vertex) {
+		DataLoader<MeshCoreVertex<?, ?>, Boolean> loader = gc.getDataLoader(READ_PERM_LOADER_KEY);
+		return loader.load(vertex).thenApply(granted -> {
+			if (!granted) {
+				throw missingPerm(vertex.getTypeInfo().getType().name().toLowerCase(), vertex.getUuid());
+			}
+			return vertex;
+		});
+	}
+
+	private static CompletableFuture<List<NodeContent>> loadContents(GraphQLContext gc, List<ContentKey> keys, boolean checkPerm) {
+		Set<Object> permitted = null;
+		if (checkPerm) {
+			Set<Object> ids = keys.stream().map(key -> key.getNode().id()).collect(Collectors.toSet());
+			permitted = gc.getUser().getPermittedIds(ids, READ_PUBLISHED_PERM);
+		}
+		List<NodeContent> contents = new ArrayList<>(keys.size());
+		for (ContentKey key : keys) {
+			Node node = key.getNode();
+			if (permitted != null && !permitted.contains(node.id())) {
+				contents.add(null);
+			} else {
+				contents.add(new NodeContent(node, node.findVersion(gc, key.getLanguageTags()), key.getLanguageTags()));
+			}
+		}
+		return CompletableFuture.completedFuture(contents);
+	}
+
+	private static CompletableFuture<List<List<NodeContent>>> loadChildren(GraphQLContext gc, List<ContentKey> keys) {
+		String branchUuid = gc.getBranch().getUuid();
+		List<List<? extends Node>> childrenPerKey = new ArrayList<>(keys.size());
+		Set<Object> ids = new HashSet<>();
+		for (ContentKey key : keys) {
+			List<? extends Node> children = key.getNode().getChildren(branchUuid).list();
+			children.forEach(child -> ids.add(child.id()));
+			childrenPerKey.add(children);
+		}
+		// Read published also grants access if the read permission is set
+		Set<Object> permitted = gc.getUser().getPermittedIds(ids, READ_PUBLISHED_PERM);
+
+		List<List<NodeContent>> result = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> languageTags = keys.get(i).getLanguageTags();
+			result.add(childrenPerKey.get(i).stream()
+				.filter(child -> permitted.contains(child.id()))
+				.map(child -> new NodeContent(child, child.findVersion(gc, languageTags), languageTags))
+				.filter(content -> content.getContainer() != null)
+				.collect(Collectors.toList()));
+		}
+		return CompletableFuture.completedFuture(result);
+	}
+
+	private static CompletableFuture<List<Boolean>> loadReadPerms(GraphQLContext gc, List<MeshCoreVertex<?, ?>> keys) {
+		Set<Object> ids = keys.stream().map(MeshCoreVertex::id).collect(Collectors.toSet());
+		Set<Object> permitted = gc.getUser().getPermittedIds(ids, READ_PERM);
+		return CompletableFuture.completedFuture(keys.stream().map(key -> permitted.contains(key.id())).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Key which identifies the content of a node for a language fallback.
+	 */
+	public static class ContentKey {
+
+		private final Node node;
+
+		private final List<String> languageTags;
+
+		public ContentKey(Node node, List<String> languageTags) {
+			this.node = node;
+			this.languageTags = languageTags;
+		}
+
+		public Node getNode() {
+			return node;
+		}
+
+		public List<String> getLanguageTags() {
+			return languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ContentKey)) {
+				return false;
+			}
+			ContentKey other = (ContentKey) obj;
+			return Objects.equals(node.id(), other.node.id()) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node.id(), languageTags);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.gentics.mesh.graphql.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Instrumentation which sums up the time which was spent within the data fetchers of a single query. A new instance must be used for each query.
+ */
+public class ResolverTimeInstrumentation extends SimpleInstrumentation {
+
+	private final LongAdder resolverTime = new LongAdder();
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		return env -> {
+			long start = System.nanoTime();
+			try {
+				return dataFetcher.get(env);
+			} finally {
+				resolverTime.add(System.nanoTime() - start);
+			}
+		};
+	}
+
+	/**
+	 * Record the summed up resolver time of the query.
+	 *
+	 * @param timer
+	 */
+	public void record(Timer timer) {
+		timer.record(resolverTime.sum(), TimeUnit.NANOSECONDS);
+	}
+}
@@ -4,14 +4,21 @@ import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.gentics.graphqlfilter.util.Lazy;
 import com.gentics.mesh.core.data.MeshAuthUser;
-import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 
 /**
@@ -30,7 +37,7 @@ public class NodeReferenceIn {
 	}
 
 	/**
-	 * Creates a stream of ingoing node references for the given content.
+	 * Creates a stream of ingoing node references for the given content. The permissions of all referencing nodes are checked at once.
 	 * @param context
 	 * @param content
 	 * @return
@@ -39,18 +46,39 @@ public class NodeReferenceIn {
 		String branchUuid = context.getBranch().getUuid();
 		MeshAuthUser user = context.getUser();
 		String version = context.getVersioningParameters().getVersion();
-		return content.getNode()
-			.getInboundReferences()
-			.flatMap(ref -> toStream(ref.getReferencingContents()
-			.filter(container -> {
-				Node node = container.getParentNode();
-				// TODO extract this common behaviour, see https://github.com/gentics/mesh/issues/698
-				return version.equals("draft") && container.isType(DRAFT, branchUuid) && user.hasPermission(node, GraphPermission.READ_PERM) ||
-					version.equals("published") && container.isType(PUBLISHED, branchUuid) && user.hasPermission(node, GraphPermission.READ_PUBLISHED_PERM);
-			}).findAny())
+		// TODO extract this common behaviour, see https://github.com/gentics/mesh/issues/698
+		ContainerType type;
+		GraphPermission permission;
+		if (version.equals("draft")) {
+			type = DRAFT;
+			permission = GraphPermission.READ_PERM;
+		} else if (version.equals("published")) {
+			type = PUBLISHED;
+			permission = GraphPermission.READ_PUBLISHED_PERM;
+		} else {
+			return Stream.empty();
+		}
+
+		List<NodeGraphField> refs = new ArrayList<>();
+		List<List<NodeGraphFieldContainer>> candidates = new ArrayList<>();
+		Set<Object> nodeIds = new HashSet<>();
+		content.getNode().getInboundReferences().forEach(ref -> {
+			List<NodeGraphFieldContainer> containers = ref.getReferencingContents()
+				.filter(container -> container.isType(type, branchUuid))
+				.collect(Collectors.toList());
+			containers.forEach(container -> nodeIds.add(container.getParentNode().id()));
+			refs.add(ref);
+			candidates.add(containers);
+		});
+		Set<Object> permitted = user.getPermittedIds(nodeIds, permission);
+
+		return IntStream.range(0, refs.size()).boxed()
+			.flatMap(i -> toStream(candidates.get(i).stream()
+			.filter(container -> permitted.contains(container.getParentNode().id()))
+			.findAny())
 			.map(referencingContent -> new NodeReferenceIn(
 				new NodeContent(null, referencingContent, content.getLanguageFallback()),
-				ref
+				refs.get(i)
 			)));
 	}
 
@@ -23,13 +23,17 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.ElementSorting;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.SortField;
+import com.gentics.mesh.core.rest.SortOrder;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.error.MeshConfigurationException;
@@ -54,6 +58,10 @@ public abstract class AbstractTypeProvider {
 
 	public static final String LINK_TYPE_NAME = "LinkType";
 
+	public static final String SORT_FIELD_TYPE_NAME = "SortField";
+
+	public static final String SORT_ORDER_TYPE_NAME = "SortOrder";
+
 	private final MeshOptions options;
 
 	public AbstractTypeProvider(MeshOptions options) {
@@ -82,9 +90,40 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after").description("Cursor after which the page should start. The page argument is ignored if a cursor is set.")
+			.type(GraphQLString).build());
+		return arguments;
+	}
+
+	public List<GraphQLArgument> createSortArgs() {
+		List<GraphQLArgument> arguments = new ArrayList<>();
+
+		// #sortBy
+		arguments.add(newArgument().name("sortBy").description("Property by which the elements should be sorted").type(new GraphQLTypeReference(
+			SORT_FIELD_TYPE_NAME)).build());
+
+		// #order
+		arguments.add(newArgument().name("order").description("Order in which the elements should be sorted").type(new GraphQLTypeReference(
+			SORT_ORDER_TYPE_NAME)).build());
 		return arguments;
 	}
 
+	public GraphQLEnumType createSortFieldEnumType() {
+		return newEnum().name(SORT_FIELD_TYPE_NAME).description("Property which can be used to sort nodes")
+			.value(SortField.CREATED.name(), SortField.CREATED, "Sort by the creation date of the node")
+			.value(SortField.EDITED.name(), SortField.EDITED, "Sort by the edit date of the content")
+			.value(SortField.DISPLAY_FIELD.name(), SortField.DISPLAY_FIELD, "Sort by the display field value of the content")
+			.value(SortField.SCHEMA.name(), SortField.SCHEMA, "Sort by the schema name of the node").build();
+	}
+
+	public GraphQLEnumType createSortOrderEnumType() {
+		return newEnum().name(SORT_ORDER_TYPE_NAME).description("Sort order")
+			.value(SortOrder.ASCENDING.name(), SortOrder.ASCENDING, "Ascending order")
+			.value(SortOrder.DESCENDING.name(), SortOrder.DESCENDING, "Descending order").build();
+	}
+
 	public GraphQLArgument createBranchUuidArg() {
 		// #branch
 		return newArgument().name("branch").type(GraphQLString).description("Branch Uuid").build();
@@ -473,6 +512,14 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		parameters.setAfter(after);
+		SortField sortBy = env.getArgument("sortBy");
+		if (sortBy != null) {
+			parameters.setOrderBy(sortBy.getSimpleName());
+		}
+		SortOrder order = env.getArgument("order");
+		parameters.setSortOrder(order);
 		parameters.validate();
 		return parameters;
 	}
@@ -489,25 +536,46 @@ public abstract class AbstractTypeProvider {
 		NodeRoot nodeRoot = gc.getProject().getNodeRoot();
 
 		List<String> languageTags = getLanguageArgument(env);
+		PagingParameters pagingInfo = getPagingInfo(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM, pagingInfo, languageTags)
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null);
 
-		return applyNodeFilter(env, contents);
+		// Content specific sort fields are applied by the page, which only retains the filtered contents of the requested page
+		ElementSorting<NodeContent> sorting = ElementSorting.forNodeContents(pagingInfo, NodeContent::getNode, NodeContent::getContainer);
+		if (sorting != null && pagingInfo.getAfter() != null) {
+			// The cursor node has already been validated by the node root
+			Node cursorNode = nodeRoot.findByUuid(pagingInfo.getAfter());
+			sorting = sorting.startingAt(new NodeContent(cursorNode, cursorNode.findVersion(gc, languageTags), languageTags));
+		}
+		return applyNodeFilter(env, contents, sorting);
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
+		return applyNodeFilter(env, stream, null);
+	}
+
+	/**
+	 * Apply the node filter of the request and create the page of the filtered contents.
+	 *
+	 * @param env
+	 * @param stream
+	 * @param sorting
+	 *            Sorting which is applied to the filtered contents or null if the contents are already sorted
+	 * @return
+	 */
+	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream,
+		ElementSorting<NodeContent> sorting) {
 		Map<String, ?> filterArgument = env.getArgument("filter");
 		PagingParameters pagingInfo = getPagingInfo(env);
 		GraphQLContext gc = env.getContext();
 
 		if (filterArgument != null) {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo, NodeFilter.filter(gc).createPredicate(filterArgument));
-		} else {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo);
+			stream = stream.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 		}
+		return new DynamicStreamPageImpl<>(stream, pagingInfo, sorting);
 	}
 }
@@ -40,6 +40,7 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.ElementSorting;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.ContainerType;
@@ -51,6 +52,7 @@ import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.model.NodeReferenceIn;
 import com.gentics.mesh.graphql.type.field.FieldDefinitionProvider;
@@ -122,10 +124,8 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		if (parentNode == null) {
 			return null;
 		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
 		List<String> languageTags = getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		return NodeDataLoader.loadContent(gc, parentNode, languageTags);
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -162,10 +162,8 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags = getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		return NodeDataLoader.loadContainers(gc, content.getNode().getBreadcrumbNodes(gc).list(), languageTags);
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -297,13 +295,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				}
 
 				List<String> languageTags = getLanguageArgument(env, content);
+				// The children are loaded via the parents index. Sorted pages thus sort the children in-memory.
+				ElementSorting<NodeContent> sorting = ElementSorting.forNodes(getPagingInfo(env), NodeContent::getNode, NodeContent::getContainer);
 
-				Stream<NodeContent> nodes = content.getNode().getChildrenStream(gc)
-					.map(item -> new NodeContent(item, item.findVersion(gc, languageTags), languageTags))
-					.filter(item -> item.getContainer() != null);
-
-				return applyNodeFilter(env, nodes);
+				return NodeDataLoader.loadChildren(gc, content.getNode(), languageTags)
+					.thenApply(children -> applyNodeFilter(env, sorting == null ? children.stream() : sorting.sort(children).stream()));
 			}, NODE_PAGE_TYPE_NAME)
+				.argument(createSortArgs())
 				.argument(createLanguageTagArg(false))
 				.argument(NodeFilter.filter(context).createFilterArgument()).build(),
 
@@ -347,12 +345,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.argument(nodeReferenceFilter(context).createFilterArgument())
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
+					GraphQLContext gc = env.getContext();
 					NodeContent content = env.getSource();
 
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
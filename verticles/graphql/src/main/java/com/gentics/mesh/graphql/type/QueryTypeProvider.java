@@ -29,6 +29,7 @@ import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_PAGE_TYPE_NAME
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLLong;
+import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
@@ -370,6 +371,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		root.field(newFieldDefinition().name("nodes")
 			.description("Load a page of nodes via the regular nodes list or via a search.")
 			.argument(createPagingArgs())
+			.argument(createSortArgs())
 			.argument(createQueryArg())
 			.argument(createUuidsArg("Node uuids"))
 			.argument(createLanguageTagArg(true))
@@ -485,7 +487,8 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return env.getSource();
 		}));
 
-		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide.")
+		type.field(newFieldDefinition().name("totalCount").description(
+			"Return the total item count which the resource could provide. The count is -1 for pages which start after a cursor.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
 				return page.getTotalElements();
@@ -527,6 +530,12 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 				return page.hasPreviousPage();
 			}));
 
+		type.field(newFieldDefinition().name("nextCursor").description("Return the cursor which can be used to load the next page.")
+			.type(GraphQLString).dataFetcher(env -> {
+				Page<?> page = env.getSource();
+				return page.getNextCursor();
+			}));
+
 		return type.build();
 	}
 
@@ -588,6 +597,8 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		additionalTypes.add(fieldDefProvider.createBinaryFieldType());
 
 		additionalTypes.add(createLinkEnumType());
+		additionalTypes.add(createSortFieldEnumType());
+		additionalTypes.add(createSortOrderEnumType());
 
 		Versioned.doSince(2, context, () -> {
 			additionalTypes.addAll(nodeTypeProvider.generateSchemaFieldTypes(context).forVersion(context));
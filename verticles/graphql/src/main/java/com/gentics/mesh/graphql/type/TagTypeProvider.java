@@ -1,6 +1,5 @@
 package com.gentics.mesh.graphql.type;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_PAGE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.TagFamilyTypeProvider.TAG_FAMILY_TYPE_NAME;
@@ -19,6 +18,7 @@ import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLObjectType.Builder;
@@ -59,7 +59,7 @@ public class TagTypeProvider extends AbstractTypeProvider {
 			GraphQLContext gc = env.getContext();
 			Tag tag = env.getSource();
 			TagFamily tagFamily = tag.getTagFamily();
-			return gc.requiresPerm(tagFamily, READ_PERM);
+			return NodeDataLoader.requiresReadPerm(gc, tagFamily);
 		}).type(new GraphQLTypeReference(TAG_FAMILY_TYPE_NAME)));
 
 		// .nodes
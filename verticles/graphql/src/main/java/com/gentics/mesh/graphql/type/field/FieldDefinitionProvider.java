@@ -28,6 +28,7 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
@@ -48,8 +49,6 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
@@ -308,25 +307,24 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return null;
 				}
 				Map<String, ?> filterArgument = env.getArgument("filter");
-				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
-					Node node = item.getNode();
-					List<String> languageTags;
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguageTag());
-					} else if (container instanceof Micronode) {
-						Micronode micronode = (Micronode)container;
-						languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
-					} else {
-						throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguageTag());
+				} else if (container instanceof Micronode) {
+					Micronode micronode = (Micronode)container;
+					languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
+				} else {
+					throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
+				}
+				List<Node> listNodes = nodeList.getList().stream().map(item -> item.getNode()).collect(Collectors.toList());
+				// TODO we need to add more assertions and check what happens if the itemContainer is null
+				return NodeDataLoader.loadContainers(gc, listNodes, languageTags).thenApply(contents -> {
+					Stream<NodeContent> nodes = contents.stream();
+					if (filterArgument != null) {
+						nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 					}
-					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
-					return new NodeContent(node, itemContainer, languageTags);
+					return nodes.collect(Collectors.toList());
 				});
-				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
-				}
-				return nodes.collect(Collectors.toList());
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -398,9 +396,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						//Note that we would need to check for micronodes which are not language specific!
 						List<String> languageTags = getLanguageArgument(env, source);
 						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
+						return NodeDataLoader.loadContent(gc, node, languageTags);
 					}
 				}
 				return null;